@@ -0,0 +1,145 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.payment.Cost;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.AppointmentService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.FilingsService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.GeneralPartnerService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnerService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnershipService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.PaymentService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.PersonWithSignificantControlService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.FilingKind;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Assembly of an incorporation filing from already loaded submissions. The services and API clients are stubbed, so
+ * this measures the assembly itself and not Mongo or the network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilingsAssemblyBenchmark {
+
+    private static final String INCORPORATION_ID = "incorporation-id";
+    private static final String PAYMENT_REFERENCE = "payment-reference";
+
+    @Param({"1", "20"})
+    private int partnerCount;
+
+    @Param({"false", "true"})
+    private boolean concurrentAssembly;
+
+    private ExecutorService executor;
+    private FilingsService filingsService;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() throws ServiceException {
+        transaction = new TransactionBuilder().withPayment().build();
+
+        LimitedPartnershipService limitedPartnershipService = stub(LimitedPartnershipService.class);
+        GeneralPartnerService generalPartnerService = stub(GeneralPartnerService.class);
+        LimitedPartnerService limitedPartnerService = stub(LimitedPartnerService.class);
+        PersonWithSignificantControlService personWithSignificantControlService = stub(PersonWithSignificantControlService.class);
+        TransactionService transactionService = stub(TransactionService.class);
+        PaymentService paymentService = stub(PaymentService.class);
+        CostsService costsService = stub(CostsService.class);
+
+        List<GeneralPartnerDataDto> generalPartners = IntStream.range(0, partnerCount)
+                .mapToObj(i -> new GeneralPartnerBuilder().personDto().getData())
+                .toList();
+        List<LimitedPartnerDataDto> limitedPartners = IntStream.range(0, partnerCount)
+                .mapToObj(i -> new LimitedPartnerBuilder().personDto().getData())
+                .toList();
+        List<PersonWithSignificantControlDataDto> personsWithSignificantControl = IntStream.range(0, partnerCount)
+                .mapToObj(i -> new PersonWithSignificantControlBuilder().individualPersonDto().getData())
+                .toList();
+
+        PaymentApi payment = new PaymentApi();
+        payment.setPaymentMethod("credit-card");
+
+        when(transactionService.isTransactionLinkedToLimitedPartnershipIncorporation(any(), anyString())).thenReturn(true);
+        when(transactionService.getPaymentReference(anyString())).thenReturn(PAYMENT_REFERENCE);
+        when(paymentService.getPayment(PAYMENT_REFERENCE)).thenReturn(payment);
+        when(costsService.getCost(anyString(), anyString())).thenReturn(new Cost());
+        when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(new LimitedPartnershipBuilder().withAddresses().buildDto());
+        when(generalPartnerService.getGeneralPartnerDataList(transaction)).thenReturn(generalPartners);
+        when(limitedPartnerService.getLimitedPartnerDataList(transaction)).thenReturn(limitedPartners);
+        when(personWithSignificantControlService.getPersonWithSignificantControlDataList(transaction)).thenReturn(personsWithSignificantControl);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        filingsService = new FilingsService(
+                limitedPartnershipService,
+                generalPartnerService,
+                limitedPartnerService,
+                personWithSignificantControlService,
+                transactionService,
+                paymentService,
+                new FilingKind(),
+                stub(AppointmentService.class),
+                stub(CompanyService.class),
+                costsService,
+                executor,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filingsService, "concurrentAssemblyEnabled", concurrentAssembly);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public FilingApi generateIncorporationFiling() throws ServiceException {
+        return filingsService.generateIncorporationFiling(transaction, INCORPORATION_ID);
+    }
+
+    // Stub only, so that invocations are not recorded for the whole run
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
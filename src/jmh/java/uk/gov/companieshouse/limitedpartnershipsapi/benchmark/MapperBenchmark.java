@@ -0,0 +1,109 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.mapper.GeneralPartnerMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnerMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnershipMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.mapper.PersonWithSignificantControlMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generated MapStruct mappers, which run for every document read from or written to Mongo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final GeneralPartnerMapper generalPartnerMapper = Mappers.getMapper(GeneralPartnerMapper.class);
+    private final LimitedPartnerMapper limitedPartnerMapper = Mappers.getMapper(LimitedPartnerMapper.class);
+    private final LimitedPartnershipMapper limitedPartnershipMapper = Mappers.getMapper(LimitedPartnershipMapper.class);
+    private final PersonWithSignificantControlMapper personWithSignificantControlMapper = Mappers.getMapper(PersonWithSignificantControlMapper.class);
+
+    private GeneralPartnerDao generalPartnerDao;
+    private GeneralPartnerDto generalPartnerDto;
+    private LimitedPartnerDao limitedPartnerDao;
+    private LimitedPartnerDto limitedPartnerDto;
+    private LimitedPartnershipDao limitedPartnershipDao;
+    private LimitedPartnershipDto limitedPartnershipDto;
+    private PersonWithSignificantControlDao personWithSignificantControlDao;
+    private PersonWithSignificantControlDto personWithSignificantControlDto;
+
+    @Setup
+    public void setUp() {
+        generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDto = new GeneralPartnerBuilder().personDto();
+        limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+        limitedPartnerDto = new LimitedPartnerBuilder().personDto();
+        limitedPartnershipDao = new LimitedPartnershipBuilder().withAddresses().buildDao();
+        limitedPartnershipDto = new LimitedPartnershipBuilder().withAddresses().buildDto();
+        personWithSignificantControlDao = new PersonWithSignificantControlBuilder().individualPersonDao();
+        personWithSignificantControlDto = new PersonWithSignificantControlBuilder().individualPersonDto();
+    }
+
+    @Benchmark
+    public GeneralPartnerDto generalPartnerDaoToDto() {
+        return generalPartnerMapper.daoToDto(generalPartnerDao);
+    }
+
+    @Benchmark
+    public GeneralPartnerDao generalPartnerDtoToDao() {
+        return generalPartnerMapper.dtoToDao(generalPartnerDto);
+    }
+
+    @Benchmark
+    public LimitedPartnerDto limitedPartnerDaoToDto() {
+        return limitedPartnerMapper.daoToDto(limitedPartnerDao);
+    }
+
+    @Benchmark
+    public LimitedPartnerDao limitedPartnerDtoToDao() {
+        return limitedPartnerMapper.dtoToDao(limitedPartnerDto);
+    }
+
+    @Benchmark
+    public LimitedPartnershipDto limitedPartnershipDaoToDto() {
+        return limitedPartnershipMapper.daoToDto(limitedPartnershipDao);
+    }
+
+    @Benchmark
+    public LimitedPartnershipDao limitedPartnershipDtoToDao() {
+        return limitedPartnershipMapper.dtoToDao(limitedPartnershipDto);
+    }
+
+    @Benchmark
+    public PersonWithSignificantControlDto personWithSignificantControlDaoToDto() {
+        return personWithSignificantControlMapper.daoToDto(personWithSignificantControlDao);
+    }
+
+    @Benchmark
+    public PersonWithSignificantControlDao personWithSignificantControlDtoToDao() {
+        return personWithSignificantControlMapper.dtoToDao(personWithSignificantControlDto);
+    }
+}
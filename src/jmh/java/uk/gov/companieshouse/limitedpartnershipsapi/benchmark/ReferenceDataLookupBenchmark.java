@@ -0,0 +1,68 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.UK_POSTCODE_LETTERS_NOT_MAINLAND;
+
+/**
+ * Per-address postcode checks and nationality lookups. The legacy methods repeat the code that the lookup tables
+ * replaced, so the before and after cost can be compared in the same run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceDataLookupBenchmark {
+
+    @Param({"ST6 3LJ", "JE2 3AB"})
+    private String postcode;
+
+    // Near the start and the end of the enum, so both ends of the old linear scan are measured
+    @Param({"British", "zimbabwean"})
+    private String nationality;
+
+    @Benchmark
+    public boolean postcodeLegacy() {
+        if (!postcode.matches("^[A-Za-z]{1,2}\\d[A-Za-z\\d]? ?\\d[A-Za-z]{2}$")) {
+            return false;
+        }
+
+        return !UK_POSTCODE_LETTERS_NOT_MAINLAND.contains(postcode.substring(0, 2).toUpperCase());
+    }
+
+    @Benchmark
+    public boolean postcodeLookup() {
+        return ReferenceDataLookup.isUkPostcodeFormat(postcode) && !ReferenceDataLookup.isNotMainlandPostcode(postcode);
+    }
+
+    @Benchmark
+    public Nationality nationalityLegacy() {
+        for (Nationality value : Nationality.values()) {
+            if (value.getDescription().equalsIgnoreCase(nationality)) {
+                return value;
+            }
+        }
+
+        return Nationality.UNKNOWN;
+    }
+
+    @Benchmark
+    public Nationality nationalityLookup() {
+        return ReferenceDataLookup.nationalityFromDescription(nationality);
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.benchmark;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.companieshouse.api.InternalApiClient;
+import uk.gov.companieshouse.api.handler.company.CompanyResourceHandler;
+import uk.gov.companieshouse.api.handler.company.request.CompanyGet;
+import uk.gov.companieshouse.api.handler.payment.PaymentResourceHandler;
+import uk.gov.companieshouse.api.handler.payment.request.PaymentGet;
+import uk.gov.companieshouse.api.model.ApiResponse;
+import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.PaymentService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A burst of concurrent requests that each make blocking calls to the internal APIs, handled on a fixed pool of
+ * platform threads the size of Tomcat's default and on a thread per request as with {@code VIRTUAL_THREADS_ENABLED}.
+ * Every request fetches a payment on the request thread and a company profile that is not cached, through the real
+ * services, with the API client stubbed to block for a fixed latency. The score is bursts handled per second. The GC
+ * profiler reports the heap each mode allocates, which includes the stacks of the virtual threads; the stacks of the
+ * platform threads are native memory reserved for as long as the pool lives.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"100", "1000"})
+    private int concurrentRequests;
+
+    @Param({"20"})
+    private int apiLatencyMillis;
+
+    private final AtomicLong companyNumbers = new AtomicLong();
+
+    private ExecutorService requestExecutor;
+    private ExecutorService cacheLoadExecutor;
+    private PaymentService paymentService;
+    private CompanyService companyService;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        requestExecutor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+        cacheLoadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        ApiClientService apiClientService = stub(ApiClientService.class);
+        InternalApiClient internalApiClient = stub(InternalApiClient.class);
+        PaymentResourceHandler paymentResourceHandler = stub(PaymentResourceHandler.class);
+        PaymentGet paymentGet = stub(PaymentGet.class);
+        ApiResponse<PaymentApi> paymentResponse = stub(ApiResponse.class);
+        CompanyResourceHandler companyResourceHandler = stub(CompanyResourceHandler.class);
+        CompanyGet companyGet = stub(CompanyGet.class);
+        ApiResponse<CompanyProfileApi> companyResponse = stub(ApiResponse.class);
+
+        when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
+        when(internalApiClient.payment()).thenReturn(paymentResourceHandler);
+        when(paymentResourceHandler.get(anyString())).thenReturn(paymentGet);
+        when(paymentGet.execute()).thenAnswer(invocation -> {
+            Thread.sleep(apiLatencyMillis);
+            return paymentResponse;
+        });
+        when(paymentResponse.getData()).thenReturn(new PaymentApi());
+        when(internalApiClient.company()).thenReturn(companyResourceHandler);
+        when(companyResourceHandler.get(anyString())).thenReturn(companyGet);
+        when(companyGet.execute()).thenAnswer(invocation -> {
+            Thread.sleep(apiLatencyMillis);
+            return companyResponse;
+        });
+        when(companyResponse.getData()).thenReturn(new CompanyBuilder().build());
+
+        var apiClientMetrics = new ApiClientMetrics(new SimpleMeterRegistry());
+        paymentService = new PaymentService(apiClientService, apiClientMetrics);
+        companyService = new CompanyService(apiClientService,
+                Caffeine.newBuilder().maximumSize(1000).executor(cacheLoadExecutor).buildAsync(),
+                apiClientMetrics);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        cacheLoadExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int handleConcurrentRequests() throws InterruptedException, ExecutionException {
+        List<Future<CompanyProfileApi>> requests = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            String companyNumber = "LP" + companyNumbers.incrementAndGet();
+            requests.add(requestExecutor.submit(() -> {
+                paymentService.getPayment("payment-reference");
+                return companyService.getCompanyProfile(companyNumber);
+            }));
+        }
+
+        int handled = 0;
+        for (Future<CompanyProfileApi> request : requests) {
+            request.get();
+            handled++;
+        }
+        return handled;
+    }
+
+    // Stub only, so that invocations are not recorded for the whole run
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.PartnerKind;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.GeneralPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnershipValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.partner.AddGeneralPartnerPerson;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Full validation of a complete partner or partnership, as run for every partner when a transaction is listed,
+ * validated or closed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private GeneralPartnerValidator generalPartnerValidator;
+    private LimitedPartnerValidator limitedPartnerValidator;
+    private LimitedPartnershipValidator limitedPartnershipValidator;
+    private PostTransitionStrategyHandler postTransitionStrategyHandler;
+
+    private Transaction registrationTransaction;
+    private Transaction postTransitionTransaction;
+
+    private GeneralPartnerDto generalPartnerDto;
+    private LimitedPartnerDto limitedPartnerDto;
+    private LimitedPartnershipDto limitedPartnershipDto;
+    private GeneralPartnerDto addGeneralPartnerDto;
+
+    @Setup
+    public void setUp() throws ServiceException {
+        // Stub only, so that millions of calls are not recorded as invocations
+        CompanyService companyService = mock(CompanyService.class, withSettings().stubOnly());
+        when(companyService.getCompanyProfile(any())).thenReturn(new CompanyBuilder().build());
+
+        // The validators and strategies are wired as they are in the application, with the real bean validator
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(CompanyService.class, () -> companyService);
+        context.registerBean(LocalValidatorFactoryBean.class);
+        context.register(ValidationStatus.class,
+                ValidationContextFactory.class,
+                GeneralPartnerValidator.class,
+                LimitedPartnerValidator.class,
+                LimitedPartnershipValidator.class,
+                PostTransitionStrategyHandler.class);
+        context.scan(AddGeneralPartnerPerson.class.getPackageName());
+        context.refresh();
+
+        generalPartnerValidator = context.getBean(GeneralPartnerValidator.class);
+        limitedPartnerValidator = context.getBean(LimitedPartnerValidator.class);
+        limitedPartnershipValidator = context.getBean(LimitedPartnershipValidator.class);
+        postTransitionStrategyHandler = context.getBean(PostTransitionStrategyHandler.class);
+
+        registrationTransaction = new TransactionBuilder().build();
+        postTransitionTransaction = new TransactionBuilder().withFilingMode(FilingMode.DEFAULT.getDescription()).build();
+
+        generalPartnerDto = new GeneralPartnerBuilder().personDto();
+        limitedPartnerDto = new LimitedPartnerBuilder().personDto();
+        limitedPartnershipDto = new LimitedPartnershipBuilder().withAddresses().buildDto();
+        addGeneralPartnerDto = new GeneralPartnerBuilder()
+                .withGeneralPartnerKind(PartnerKind.ADD_GENERAL_PARTNER_PERSON.getDescription())
+                .personDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ValidationStatusError> generalPartnerValidateFull() throws ServiceException {
+        return generalPartnerValidator.validateFull(generalPartnerDto, registrationTransaction, false);
+    }
+
+    @Benchmark
+    public List<ValidationStatusError> limitedPartnerValidateFull() throws ServiceException {
+        return limitedPartnerValidator.validateFull(limitedPartnerDto, registrationTransaction, false);
+    }
+
+    @Benchmark
+    public List<ValidationStatusError> limitedPartnershipValidateFull() throws ServiceException {
+        return limitedPartnershipValidator.validateFull(limitedPartnershipDto, FilingMode.REGISTRATION);
+    }
+
+    @Benchmark
+    public List<ValidationStatusError> postTransitionValidatePartner() throws Exception {
+        return postTransitionStrategyHandler.validatePartner(addGeneralPartnerDto, postTransitionTransaction);
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the calls made to other Companies House APIs through the {@link uk.gov.companieshouse.api.sdk.ApiClientService},
+ * per downstream operation: how long each call took, as a histogram, how many calls are in flight, and how many
+ * succeeded or failed. The meters are published with the rest of the application metrics to the OTLP endpoint.
+ */
+@Component
+public class ApiClientMetrics {
+
+    public static final String TRANSACTION_PATCH = "transaction-patch";
+    public static final String TRANSACTION_RESOURCE_DELETE = "transaction-resource-delete";
+    public static final String TRANSACTION_PAYMENT_GET = "transaction-payment-get";
+    public static final String PAYMENT_GET = "payment-get";
+    public static final String COMPANY_GET = "company-get";
+    public static final String APPOINTMENT_GET = "appointment-get";
+
+    static final String DURATION_METRIC = "limited.partnerships.api.client.duration";
+    static final String IN_FLIGHT_METRIC = "limited.partnerships.api.client.in.flight";
+    static final String CALLS_METRIC = "limited.partnerships.api.client.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlightCalls = new ConcurrentHashMap<>();
+
+    public ApiClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @FunctionalInterface
+    public interface ApiCall<T, E extends Exception> {
+        T execute() throws URIValidationException, E;
+    }
+
+    /**
+     * Makes the call, recording it against {@code operation}. The result, or the exception, is passed on unchanged.
+     */
+    public <T, E extends Exception> T record(String operation, ApiCall<T, E> call) throws URIValidationException, E {
+        AtomicInteger inFlight = inFlightCalls.computeIfAbsent(operation, key ->
+                meterRegistry.gauge(IN_FLIGHT_METRIC, Tags.of("operation", key), new AtomicInteger()));
+
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            return call.execute();
+        } catch (Exception e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder(DURATION_METRIC)
+                    .tags("operation", operation, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            Counter.builder(CALLS_METRIC)
+                    .tags("operation", operation, "outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private static String outcome(Exception e) {
+        if (e instanceof ApiErrorResponseException apiErrorResponseException) {
+            int statusCode = apiErrorResponseException.getStatusCode();
+            if (statusCode >= 400 && statusCode < 500) {
+                return "client_error";
+            }
+            if (statusCode >= 500) {
+                return "server_error";
+            }
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.AppointmentService.AppointmentKey;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig.CACHE_LOAD_EXECUTOR;
+
+@Configuration
+public class AppointmentCacheConfig {
+
+    public static final String APPOINTMENT_CACHE_NAME = "appointments";
+
+    /**
+     * Appointment full records keyed by company number and appointment id. The TTL is kept short as the records are
+     * only shared between filings generated for the same transaction in quick succession. Records are loaded on the
+     * cache load executor rather than by the caller.
+     */
+    @Bean
+    public AsyncCache<AppointmentKey, AppointmentFullRecordAPI> appointmentCache(
+            @Value("${APPOINTMENT_CACHE_TTL_SECONDS:60}") long ttlSeconds,
+            @Value("${APPOINTMENT_CACHE_MAX_SIZE:5000}") long maxSize,
+            @Qualifier(CACHE_LOAD_EXECUTOR) ExecutorService cacheLoadExecutor,
+            MeterRegistry meterRegistry) {
+        AsyncCache<AppointmentKey, AppointmentFullRecordAPI> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(cacheLoadExecutor)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), APPOINTMENT_CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * Ids of the transactions whose partner appointments have been prefetched, so that generating the filing for each
+     * partner on a transaction does not read every partner and start the prefetch again. Expires with the appointments.
+     */
+    @Bean
+    public Cache<String, Boolean> appointmentPrefetchedTransactions(
+            @Value("${APPOINTMENT_CACHE_TTL_SECONDS:60}") long ttlSeconds,
+            @Value("${APPOINTMENT_CACHE_MAX_SIZE:5000}") long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService.CachedCompanyProfile;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig.CACHE_LOAD_EXECUTOR;
+
+@Configuration
+public class CompanyProfileCacheConfig {
+
+    public static final String COMPANY_PROFILE_CACHE_NAME = "company-profiles";
+
+    /**
+     * Company profiles keyed by company number. Found profiles are kept for the configured TTL; a 404 from the Company
+     * API is remembered for a much shorter time so a company that has just been registered is picked up quickly.
+     * Hit, miss, load and eviction counts are published to the meter registry under the {@code cache.*} metrics.
+     * Profiles are loaded on the cache load executor rather than by the caller.
+     */
+    @Bean
+    public AsyncCache<String, CachedCompanyProfile> companyProfileCache(
+            @Value("${COMPANY_PROFILE_CACHE_TTL_SECONDS:300}") long ttlSeconds,
+            @Value("${COMPANY_PROFILE_CACHE_NOT_FOUND_TTL_SECONDS:30}") long notFoundTtlSeconds,
+            @Value("${COMPANY_PROFILE_CACHE_MAX_SIZE:1000}") long maxSize,
+            @Qualifier(CACHE_LOAD_EXECUTOR) ExecutorService cacheLoadExecutor,
+            MeterRegistry meterRegistry) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Duration notFoundTtl = Duration.ofSeconds(notFoundTtlSeconds);
+
+        AsyncCache<String, CachedCompanyProfile> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, CachedCompanyProfile>creating((companyNumber, cachedProfile) ->
+                        cachedProfile.isNotFound() ? notFoundTtl : ttl))
+                .executor(cacheLoadExecutor)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), COMPANY_PROFILE_CACHE_NAME);
+        return cache;
+    }
+}
@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String FILING_ASSEMBLY_EXECUTOR = "filingAssemblyExecutor";
+    public static final String APPOINTMENT_LOOKUP_EXECUTOR = "appointmentLookupExecutor";
+    public static final String VALIDATION_EXECUTOR = "validationExecutor";
+    public static final String CACHE_LOAD_EXECUTOR = "cacheLoadExecutor";
+
+    /**
+     * Executor used to load the sub-resources of a filing concurrently. The branches spend almost all of their time
+     * blocked on Mongo or on the internal APIs, so a virtual thread per task is used rather than a sized pool.
+     */
+    @Bean(name = FILING_ASSEMBLY_EXECUTOR, destroyMethod = "close")
+    public ExecutorService filingAssemblyExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Executor used to prefetch appointment full records from the Company Appointments API. The number of calls in
+     * flight at once is limited by the caller, not by this executor.
+     */
+    @Bean(name = APPOINTMENT_LOOKUP_EXECUTOR, destroyMethod = "close")
+    public ExecutorService appointmentLookupExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Executor used to validate the submissions in a collection concurrently. Validation mostly waits on the company
+     * profile lookup, and the number of submissions validated at once is capped by the caller.
+     */
+    @Bean(name = VALIDATION_EXECUTOR, destroyMethod = "close")
+    public ExecutorService validationExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Executor the company profile and appointment caches load entries on. Callers wait for the load without holding
+     * a lock of the cache, so a virtual thread waiting on the internal APIs does not pin its carrier thread.
+     */
+    @Bean(name = CACHE_LOAD_EXECUTOR, destroyMethod = "close")
+    public ExecutorService cacheLoadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -27,8 +27,10 @@ public class InterceptorConfig implements WebMvcConfigurer {
             "/transactions/*/limited-partnership/partnership/**",
             "/transactions/*/limited-partnership/general-partner/**",
             "/transactions/*/limited-partnership/general-partners",
+            "/transactions/*/limited-partnership/general-partners/summary",
             "/transactions/*/limited-partnership/limited-partner/**",
             "/transactions/*/limited-partnership/limited-partners",
+            "/transactions/*/limited-partnership/limited-partners/summary",
             "/transactions/*/limited-partnership/person-with-significant-control/**",
             "/transactions/*/limited-partnership/persons-with-significant-control"
     };
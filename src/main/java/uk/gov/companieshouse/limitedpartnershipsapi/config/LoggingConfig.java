@@ -0,0 +1,16 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * Applies the logging settings to {@link ApiLogger}, which is static so that it can be used outside of beans.
+     */
+    public LoggingConfig(@Value("${LOG_INFO_RATE_LIMIT_PER_SECOND:10}") int infoRateLimitPerSecond) {
+        ApiLogger.setInfoRateLimitPerSecond(infoRateLimitPerSecond);
+    }
+}
@@ -0,0 +1,151 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dao.LimitedPartnershipIncorporationDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes sure the indexes declared on the DAOs with {@code @CompoundIndex} exist once the application has started.
+ *
+ * <ul>
+ *     <li>{@code CREATE} - creates any declared index that is missing (the default)</li>
+ *     <li>{@code REPORT} - logs which declared indexes are missing, and which existing indexes are not declared,
+ *     without changing anything</li>
+ *     <li>{@code OFF} - does nothing</li>
+ * </ul>
+ *
+ * <p>A failure here is logged rather than stopping the application; queries still work without the indexes.</p>
+ */
+@Component
+public class MongoIndexInitializer {
+
+    public enum Mode {
+        CREATE,
+        REPORT,
+        OFF
+    }
+
+    public enum IndexStatus {
+        PRESENT,
+        MISSING,
+        CREATED,
+        UNDECLARED
+    }
+
+    public record IndexReportEntry(String collection, String indexName, Document keys, IndexStatus status) {
+    }
+
+    static final List<Class<?>> INDEXED_DAOS = List.of(
+            LimitedPartnershipDao.class,
+            GeneralPartnerDao.class,
+            LimitedPartnerDao.class,
+            PersonWithSignificantControlDao.class,
+            LimitedPartnershipIncorporationDao.class,
+            TransactionOutboxDao.class);
+
+    private static final String DEFAULT_ID_INDEX = "_id_";
+    private static final String NAME_OPTION = "name";
+
+    private final MongoTemplate mongoTemplate;
+    private final Mode mode;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate,
+                                 @Value("${MONGO_INDEX_MODE:CREATE}") Mode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mode = mode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (mode == Mode.OFF) {
+            return;
+        }
+
+        try {
+            for (IndexReportEntry entry : ensureIndexes(mode)) {
+                ApiLogger.info(String.format("Mongo index %s.%s %s: %s",
+                        entry.collection(), entry.indexName(), entry.keys().toJson(), entry.status()));
+            }
+        } catch (DataAccessException e) {
+            ApiLogger.errorContext("mongo-index-initializer", "Error ensuring Mongo indexes", e);
+        }
+    }
+
+    /**
+     * Compares the declared indexes with those in the database, creating the missing ones when {@code mode} is
+     * {@link Mode#CREATE}. An existing index counts as present if it has either the declared name or the declared
+     * keys, since Mongo will not create a second index over the same keys.
+     */
+    public List<IndexReportEntry> ensureIndexes(Mode mode) {
+        var resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        List<IndexReportEntry> report = new ArrayList<>();
+
+        for (Class<?> dao : INDEXED_DAOS) {
+            String collection = mongoTemplate.getCollectionName(dao);
+            var indexOperations = mongoTemplate.indexOps(dao);
+
+            Map<String, Document> existing = new HashMap<>();
+            for (IndexInfo indexInfo : indexOperations.getIndexInfo()) {
+                existing.put(indexInfo.getName(), keysOf(indexInfo));
+            }
+
+            for (IndexDefinition definition : resolver.resolveIndexFor(dao)) {
+                String name = definition.getIndexOptions().getString(NAME_OPTION);
+                Document keys = definition.getIndexKeys();
+
+                String match = existing.containsKey(name) ? name : findByKeys(existing, keys);
+                if (match != null) {
+                    existing.remove(match);
+                    report.add(new IndexReportEntry(collection, match, keys, IndexStatus.PRESENT));
+                } else if (mode == Mode.CREATE) {
+                    indexOperations.createIndex(definition);
+                    report.add(new IndexReportEntry(collection, name, keys, IndexStatus.CREATED));
+                } else {
+                    report.add(new IndexReportEntry(collection, name, keys, IndexStatus.MISSING));
+                }
+            }
+
+            existing.remove(DEFAULT_ID_INDEX);
+            existing.forEach((name, keys) -> report.add(new IndexReportEntry(collection, name, keys, IndexStatus.UNDECLARED)));
+        }
+
+        return report;
+    }
+
+    private static String findByKeys(Map<String, Document> existing, Document keys) {
+        return existing.entrySet().stream()
+                .filter(index -> index.getValue().toJson().equals(keys.toJson()))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Document keysOf(IndexInfo indexInfo) {
+        var keys = new Document();
+        for (IndexField field : indexInfo.getIndexFields()) {
+            keys.put(field.getKey(), field.getDirection() == Sort.Direction.DESC ? -1 : 1);
+        }
+        return keys;
+    }
+}
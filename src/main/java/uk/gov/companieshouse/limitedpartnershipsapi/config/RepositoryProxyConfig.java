@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.RepositoryMetricsInterceptor;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.RequestScopedRepositoryCacheInterceptor;
+
+@Configuration
+public class RepositoryProxyConfig {
+
+    static final String REPOSITORY_REQUEST_CACHE_ENABLED = "REPOSITORY_REQUEST_CACHE_ENABLED";
+    static final String REPOSITORY_DOCUMENT_SIZE_METRICS_ENABLED = "REPOSITORY_DOCUMENT_SIZE_METRICS_ENABLED";
+
+    /**
+     * Adds the request scoped cache and the repository metrics to every Spring Data repository as it is created. This
+     * is done through the repository factory rather than by wrapping the repository beans, so beans replaced by test
+     * doubles are untouched. The metrics sit behind the cache, so only calls that reach Mongo are recorded.
+     */
+    @Bean
+    static BeanPostProcessor repositoryProxyPostProcessor(Environment environment,
+                                                          ObjectProvider<MeterRegistry> meterRegistry,
+                                                          ObjectProvider<MongoTemplate> mongoTemplate) {
+        boolean requestCacheEnabled = environment.getProperty(REPOSITORY_REQUEST_CACHE_ENABLED, Boolean.class, true);
+        boolean documentSizeMetricsEnabled = environment.getProperty(REPOSITORY_DOCUMENT_SIZE_METRICS_ENABLED, Boolean.class, false);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                                if (requestCacheEnabled) {
+                                    proxyFactory.addAdvice(new RequestScopedRepositoryCacheInterceptor(repositoryInformation.getRepositoryInterface()));
+                                }
+                                proxyFactory.addAdvice(new RepositoryMetricsInterceptor(repositoryInformation.getDomainType(),
+                                        meterRegistry, mongoTemplate, documentSizeMetricsEnabled));
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache.ValidationResultKey;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class ValidationResultCacheConfig {
+
+    public static final String VALIDATION_RESULT_CACHE_NAME = "validation-results";
+
+    /**
+     * Full validation results for single submissions, keyed by the submission's id and etag and by the parts of the
+     * transaction the validators look at. A changed submission gets a new etag, so its old result is simply never
+     * looked up again. The TTL bounds how long a result can rely on a company profile that has since changed.
+     */
+    @Bean
+    public Cache<ValidationResultKey, List<ValidationStatusError>> validationResultCache(
+            @Value("${VALIDATION_RESULT_CACHE_TTL_SECONDS:300}") long ttlSeconds,
+            @Value("${VALIDATION_RESULT_CACHE_MAX_SIZE:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        Cache<ValidationResultKey, List<ValidationStatusError>> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, VALIDATION_RESULT_CACHE_NAME);
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
 import com.google.gson.GsonBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -22,6 +23,7 @@ import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerSubmissionCreatedResponseDto;
@@ -42,6 +44,7 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_G
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_GENERAL_PARTNER_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_TRANSACTION_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_RESUME_POST_TRANSITION_GENERAL_PARTNER;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.okOrNotModified;
 
 @RestController
 @RequestMapping("/transactions/{" + URL_PARAM_TRANSACTION_ID + "}/limited-partnership")
@@ -72,8 +75,8 @@ public class GeneralPartnerController {
         logMap.put(URL_PARAM_GENERAL_PARTNER_ID, generalPartnerId);
 
         ApiLogger.infoContext(requestId, String.format("Retrieving a general partner %s", generalPartnerId), logMap);
-        var dto = generalPartnerService.getGeneralPartner(transaction, generalPartnerId);
-        return ResponseEntity.ok().body(dto);
+        String etag = generalPartnerService.getGeneralPartnerEtag(transaction, generalPartnerId);
+        return okOrNotModified(etag, () -> generalPartnerService.getGeneralPartner(transaction, generalPartnerId));
     }
 
     @PostMapping("/general-partner")
@@ -87,21 +90,41 @@ public class GeneralPartnerController {
         var logMap = new HashMap<String, Object>();
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
         ApiLogger.infoContext(requestId, "Create a general partner", logMap);
-        try {
-            String generalPartnerId = generalPartnerService.createGeneralPartner(transaction, generalPartnerDto, requestId, userId);
-
-            if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
-                // Post Transition journey - general partner created, update the transaction resume url
-                addResumeLinkToTransaction(transaction, requestId, generalPartnerId);
-            }
-
-            var location = URI.create(String.format(URL_GET_GENERAL_PARTNER, transactionId, generalPartnerId));
-            var response = new GeneralPartnerSubmissionCreatedResponseDto(generalPartnerId);
-            return ResponseEntity.created(location).body(response);
-        } catch (NoSuchMethodException e) {
-            ApiLogger.errorContext(requestId, "Error creating the general partner", e, logMap);
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        String generalPartnerId = generalPartnerService.createGeneralPartner(transaction, generalPartnerDto, requestId, userId);
+
+        if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
+            // Post Transition journey - general partner created, update the transaction resume url
+            addResumeLinkToTransaction(transaction, requestId, generalPartnerId);
+        }
+
+        var location = URI.create(String.format(URL_GET_GENERAL_PARTNER, transactionId, generalPartnerId));
+        var response = new GeneralPartnerSubmissionCreatedResponseDto(generalPartnerId);
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @PostMapping("/general-partners")
+    public ResponseEntity<List<GeneralPartnerSubmissionCreatedResponseDto>> createGeneralPartners(
+            @RequestAttribute(TRANSACTION_KEY) Transaction transaction,
+            @RequestBody List<GeneralPartnerDto> generalPartnerDtos,
+            @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+            @RequestHeader(value = ERIC_IDENTITY) String userId)
+            throws ServiceException, MethodArgumentNotValidException {
+
+        var logMap = new HashMap<String, Object>();
+        logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
+        ApiLogger.infoContext(requestId, String.format("Create %d general partners", generalPartnerDtos.size()), logMap);
+
+        List<String> generalPartnerIds = generalPartnerService.createGeneralPartners(transaction, generalPartnerDtos, requestId, userId);
+
+        if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode()) && !generalPartnerIds.isEmpty()) {
+            // Post Transition journey - resume from the last general partner created, as separate creates would
+            addResumeLinkToTransaction(transaction, requestId, generalPartnerIds.getLast());
         }
+
+        var response = generalPartnerIds.stream()
+                .map(GeneralPartnerSubmissionCreatedResponseDto::new)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     private void addResumeLinkToTransaction(Transaction transaction, String requestId, String generalPartnerId) throws ServiceException {
@@ -122,8 +145,9 @@ public class GeneralPartnerController {
                                                        @PathVariable(URL_PARAM_GENERAL_PARTNER_ID) String generalPartnerId,
                                                        @RequestBody GeneralPartnerDataDto generalPartnerDataDto,
                                                        @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
-                                                       @RequestHeader(value = ERIC_IDENTITY) String userId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+                                                       @RequestHeader(value = ERIC_IDENTITY) String userId,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ServiceException, MethodArgumentNotValidException {
 
         String transactionId = transaction.getId();
         HashMap<String, Object> logMap = new HashMap<>();
@@ -131,7 +155,7 @@ public class GeneralPartnerController {
 
         ApiLogger.infoContext(requestId, "Update a general partner", logMap);
 
-        generalPartnerService.updateGeneralPartner(transaction, generalPartnerId, generalPartnerDataDto, requestId, userId);
+        generalPartnerService.updateGeneralPartner(transaction, generalPartnerId, generalPartnerDataDto, requestId, userId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -140,7 +164,7 @@ public class GeneralPartnerController {
     public ResponseEntity<ValidationStatusResponse> getValidationStatus(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
                                                                         @PathVariable(URL_PARAM_GENERAL_PARTNER_ID) String generalPartnerId,
                                                                         @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            throws ServiceException, MethodArgumentNotValidException {
 
         var logMap = new HashMap<String, Object>();
         logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
@@ -185,13 +209,27 @@ public class GeneralPartnerController {
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
         ApiLogger.infoContext(requestId, "Retrieving list of general partners", logMap);
 
-        return ResponseEntity.ok().body(generalPartnerService.getGeneralPartnerList(transaction));
+        String etag = generalPartnerService.getGeneralPartnerListEtag(transaction);
+        return okOrNotModified(etag, () -> generalPartnerService.getGeneralPartnerList(transaction));
+    }
+
+    @GetMapping("/general-partners/summary")
+    public ResponseEntity<List<PartnerSummaryDto>> getGeneralPartnerSummaries(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
+                                                                              @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId) throws ServiceException {
+        String transactionId = transaction.getId();
+        HashMap<String, Object> logMap = new HashMap<>();
+        logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
+        ApiLogger.infoContext(requestId, "Retrieving summary list of general partners", logMap);
+
+        String etag = generalPartnerService.getGeneralPartnerListEtag(transaction);
+        return okOrNotModified(etag, () -> generalPartnerService.getGeneralPartnerSummaryList(transaction));
     }
 
     @DeleteMapping("/general-partner/{" + URL_PARAM_GENERAL_PARTNER_ID + "}")
     public ResponseEntity<Object> deleteGeneralPartner(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
                                                        @PathVariable(URL_PARAM_GENERAL_PARTNER_ID) String generalPartnerId,
-                                                       @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId)
+                                                       @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ServiceException {
 
         String transactionId = transaction.getId();
@@ -201,7 +239,7 @@ public class GeneralPartnerController {
 
         ApiLogger.infoContext(requestId, "Delete a general partner", logMap);
 
-        generalPartnerService.deleteGeneralPartner(transaction, generalPartnerId, requestId);
+        generalPartnerService.deleteGeneralPartner(transaction, generalPartnerId, requestId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
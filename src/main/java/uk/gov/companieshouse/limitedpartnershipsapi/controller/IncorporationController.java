@@ -105,7 +105,7 @@ public class IncorporationController {
     public ResponseEntity<ValidationStatusResponse> getValidationStatus(
             @RequestAttribute(TRANSACTION_KEY) Transaction transaction,
             @PathVariable(URL_PARAM_INCORPORATION_ID) String incorporationId,
-            @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId) throws ServiceException, MethodArgumentNotValidException {
         var logMap = new HashMap<String, Object>();
         logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
         logMap.put(URL_PARAM_INCORPORATION_ID, incorporationId);
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
 import com.google.gson.GsonBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -21,6 +22,7 @@ import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerSubmissionCreatedResponseDto;
@@ -39,6 +41,7 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_G
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_LIMITED_PARTNER_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_TRANSACTION_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_RESUME_POST_TRANSITION_LIMITED_PARTNER;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.okOrNotModified;
 
 @RestController
 @RequestMapping("/transactions/{" + URL_PARAM_TRANSACTION_ID + "}/limited-partnership")
@@ -78,12 +81,37 @@ public class LimitedPartnerController {
             var location = URI.create(String.format(URL_GET_LIMITED_PARTNER, transactionId, limitedPartnerId));
             var response = new LimitedPartnerSubmissionCreatedResponseDto(limitedPartnerId);
             return ResponseEntity.created(location).body(response);
-        } catch (ServiceException | NoSuchMethodException e) {
+        } catch (ServiceException e) {
             ApiLogger.errorContext(requestId, "Error creating Limited Partner", e, logMap);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    @PostMapping("/limited-partners")
+    public ResponseEntity<List<LimitedPartnerSubmissionCreatedResponseDto>> createLimitedPartners(
+            @RequestAttribute(TRANSACTION_KEY) Transaction transaction,
+            @RequestBody List<LimitedPartnerDto> limitedPartnerDtos,
+            @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+            @RequestHeader(value = ERIC_IDENTITY) String userId)
+            throws ServiceException, MethodArgumentNotValidException {
+
+        var logMap = new HashMap<String, Object>();
+        logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
+        ApiLogger.infoContext(requestId, String.format("Create %d Limited Partner submissions", limitedPartnerDtos.size()), logMap);
+
+        List<String> limitedPartnerIds = limitedPartnerService.createLimitedPartners(transaction, limitedPartnerDtos, requestId, userId);
+
+        if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode()) && !limitedPartnerIds.isEmpty()) {
+            // Post Transition journey - resume from the last limited partner created, as separate creates would
+            addResumeLinkToTransaction(transaction, requestId, limitedPartnerIds.getLast());
+        }
+
+        var response = limitedPartnerIds.stream()
+                .map(LimitedPartnerSubmissionCreatedResponseDto::new)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     private void addResumeLinkToTransaction(Transaction transaction, String requestId, String limitedPartnerId) throws ServiceException {
         transactionService.updateTransactionWithResumeJourneyUri(
                 transaction,
@@ -102,8 +130,9 @@ public class LimitedPartnerController {
                                                        @PathVariable(URL_PARAM_LIMITED_PARTNER_ID) String limitedPartnerId,
                                                        @RequestBody LimitedPartnerDataDto limitedPartnerDataDto,
                                                        @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
-                                                       @RequestHeader(value = ERIC_IDENTITY) String userId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+                                                       @RequestHeader(value = ERIC_IDENTITY) String userId,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ServiceException, MethodArgumentNotValidException {
 
         String transactionId = transaction.getId();
         HashMap<String, Object> logMap = new HashMap<>();
@@ -111,7 +140,7 @@ public class LimitedPartnerController {
 
         ApiLogger.infoContext(requestId, "Update a limited partner", logMap);
 
-        limitedPartnerService.updateLimitedPartner(transaction, limitedPartnerId, limitedPartnerDataDto, requestId, userId);
+        limitedPartnerService.updateLimitedPartner(transaction, limitedPartnerId, limitedPartnerDataDto, requestId, userId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -128,8 +157,8 @@ public class LimitedPartnerController {
 
         ApiLogger.infoContext(requestId, "Retrieving a limited partner", logMap);
         try {
-            var dto = limitedPartnerService.getLimitedPartner(transaction, limitedPartnerId);
-            return ResponseEntity.ok().body(dto);
+            String etag = limitedPartnerService.getLimitedPartnerEtag(transaction, limitedPartnerId);
+            return okOrNotModified(etag, () -> limitedPartnerService.getLimitedPartner(transaction, limitedPartnerId));
         } catch (ResourceNotFoundException e) {
             ApiLogger.errorContext(requestId, e.getMessage(), e, logMap);
             return ResponseEntity.notFound().build();
@@ -144,13 +173,27 @@ public class LimitedPartnerController {
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
         ApiLogger.infoContext(requestId, "Retrieving list of limited partners", logMap);
 
-        return ResponseEntity.ok().body(limitedPartnerService.getLimitedPartnerList(transaction));
+        String etag = limitedPartnerService.getLimitedPartnerListEtag(transaction);
+        return okOrNotModified(etag, () -> limitedPartnerService.getLimitedPartnerList(transaction));
+    }
+
+    @GetMapping("/limited-partners/summary")
+    public ResponseEntity<List<PartnerSummaryDto>> getLimitedPartnerSummaries(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
+                                                                              @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId) throws ServiceException {
+        String transactionId = transaction.getId();
+        HashMap<String, Object> logMap = new HashMap<>();
+        logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
+        ApiLogger.infoContext(requestId, "Retrieving summary list of limited partners", logMap);
+
+        String etag = limitedPartnerService.getLimitedPartnerListEtag(transaction);
+        return okOrNotModified(etag, () -> limitedPartnerService.getLimitedPartnerSummaryList(transaction));
     }
 
     @DeleteMapping("/limited-partner/{" + URL_PARAM_LIMITED_PARTNER_ID + "}")
     public ResponseEntity<Object> deleteLimitedPartner(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
                                                        @PathVariable(URL_PARAM_LIMITED_PARTNER_ID) String limitedPartnerId,
-                                                       @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId)
+                                                       @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ServiceException {
 
         String transactionId = transaction.getId();
@@ -160,7 +203,7 @@ public class LimitedPartnerController {
 
         ApiLogger.infoContext(requestId, "Delete a limited partner", logMap);
 
-        limitedPartnerService.deleteLimitedPartner(transaction, limitedPartnerId, requestId);
+        limitedPartnerService.deleteLimitedPartner(transaction, limitedPartnerId, requestId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -169,7 +212,7 @@ public class LimitedPartnerController {
     public ResponseEntity<ValidationStatusResponse> getValidationStatus(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
                                                                         @PathVariable(URL_PARAM_LIMITED_PARTNER_ID) String limitedPartnerId,
                                                                         @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            throws ServiceException, MethodArgumentNotValidException {
 
         var logMap = new HashMap<String, Object>();
         logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
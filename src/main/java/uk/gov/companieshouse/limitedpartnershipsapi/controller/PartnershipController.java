@@ -3,6 +3,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 import com.google.gson.GsonBuilder;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -19,6 +20,7 @@ import uk.gov.companieshouse.api.model.payment.Cost;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.PreconditionFailedException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipCreatedResponseDto;
@@ -39,6 +41,7 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.TRANS
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PARTNERSHIP;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_SUBMISSION_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_TRANSACTION_ID;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.okOrNotModified;
 
 @RestController
 @RequestMapping("/transactions/{" + URL_PARAM_TRANSACTION_ID + "}/limited-partnership/partnership")
@@ -61,7 +64,7 @@ public class PartnershipController {
             @RequestBody LimitedPartnershipDto limitedPartnershipDto,
             @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
             @RequestHeader(value = ERIC_IDENTITY) String userId)
-            throws MethodArgumentNotValidException, NoSuchMethodException {
+            throws MethodArgumentNotValidException {
 
         var transactionId = transaction.getId();
         var logMap = new HashMap<String, Object>();
@@ -89,7 +92,8 @@ public class PartnershipController {
             @PathVariable(URL_PARAM_SUBMISSION_ID) String submissionId,
             @Valid @RequestBody LimitedPartnershipPatchDto limitedPartnershipPatchDto,
             @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
-            @RequestHeader(value = ERIC_IDENTITY) String userId) throws MethodArgumentNotValidException, NoSuchMethodException {
+            @RequestHeader(value = ERIC_IDENTITY) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws MethodArgumentNotValidException {
 
         String transactionId = transaction.getId();
         HashMap<String, Object> logMap = new HashMap<>();
@@ -97,12 +101,15 @@ public class PartnershipController {
         logMap.put(URL_PARAM_SUBMISSION_ID, submissionId);
 
         try {
-            limitedPartnershipService.updateLimitedPartnership(transaction, submissionId, limitedPartnershipPatchDto, requestId, userId);
+            limitedPartnershipService.updateLimitedPartnership(transaction, submissionId, limitedPartnershipPatchDto, requestId, userId, ifMatch);
 
             return new ResponseEntity<>(HttpStatus.OK);
         } catch (ResourceNotFoundException e) {
             ApiLogger.errorContext(requestId, e.getMessage(), e, logMap);
             return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            ApiLogger.infoContext(requestId, e.getMessage(), logMap);
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
         } catch (ServiceException e) {
             ApiLogger.errorContext(requestId, "Error updating Limited Partnership", e, logMap);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -121,8 +128,8 @@ public class PartnershipController {
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
 
         try {
-            LimitedPartnershipDto dto = limitedPartnershipService.getLimitedPartnership(transaction, submissionId);
-            return ResponseEntity.ok().body(dto);
+            String etag = limitedPartnershipService.getLimitedPartnershipEtag(transaction, submissionId);
+            return okOrNotModified(etag, () -> limitedPartnershipService.getLimitedPartnership(transaction, submissionId));
         } catch (ResourceNotFoundException e) {
             ApiLogger.errorContext(requestId, e.getMessage(), e, logMap);
             return ResponseEntity.notFound().build();
@@ -153,7 +160,7 @@ public class PartnershipController {
             }
 
             return ResponseEntity.ok().body(validationStatus);
-        } catch (ResourceNotFoundException | MethodArgumentNotValidException | NoSuchMethodException e) {
+        } catch (ResourceNotFoundException | MethodArgumentNotValidException e) {
             ApiLogger.errorContext(requestId, e.getMessage(), e, logMap);
             return ResponseEntity.notFound().build();
         }
@@ -1,6 +1,7 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -33,6 +34,7 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.TRANS
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_PARAM_TRANSACTION_ID;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.okOrNotModified;
 
 @RestController
 @RequestMapping("/transactions/{" + URL_PARAM_TRANSACTION_ID + "}/limited-partnership/")
@@ -56,8 +58,8 @@ public class PersonWithSignificantControlController {
         logMap.put(URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID, personWithSignificantControlId);
 
         ApiLogger.infoContext(requestId, String.format("Retrieving a person with significant control %s", personWithSignificantControlId), logMap);
-        var dto = personWithSignificantControlService.getPersonWithSignificantControl(transaction, personWithSignificantControlId);
-        return ResponseEntity.ok().body(dto);
+        String etag = personWithSignificantControlService.getPersonWithSignificantControlEtag(transaction, personWithSignificantControlId);
+        return okOrNotModified(etag, () -> personWithSignificantControlService.getPersonWithSignificantControl(transaction, personWithSignificantControlId));
     }
 
     @GetMapping("/persons-with-significant-control")
@@ -68,7 +70,8 @@ public class PersonWithSignificantControlController {
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
         ApiLogger.infoContext(requestId, "Retrieving list of persons with significant control", logMap);
 
-        return ResponseEntity.ok().body(personWithSignificantControlService.getPersonWithSignificantControlList(transaction));
+        String etag = personWithSignificantControlService.getPersonWithSignificantControlListEtag(transaction);
+        return okOrNotModified(etag, () -> personWithSignificantControlService.getPersonWithSignificantControlList(transaction));
     }
 
     @PostMapping("/person-with-significant-control")
@@ -82,15 +85,29 @@ public class PersonWithSignificantControlController {
         var logMap = new HashMap<String, Object>();
         logMap.put(URL_PARAM_TRANSACTION_ID, transactionId);
         ApiLogger.infoContext(requestId, "Create a person with significant control", logMap);
-        try {
-            String pscId = personWithSignificantControlService.createPersonWithSignificantControl(transaction, personWithSignificantControlDto, requestId, userId);
-            var location = URI.create(String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transactionId, pscId));
-            var response = new PersonWithSignificantControlSubmissionCreatedResponseDto(pscId);
-            return ResponseEntity.created(location).body(response);
-        } catch (NoSuchMethodException e) {
-            ApiLogger.errorContext(requestId, "Error creating the person with significant control", e, logMap);
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+        String pscId = personWithSignificantControlService.createPersonWithSignificantControl(transaction, personWithSignificantControlDto, requestId, userId);
+        var location = URI.create(String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transactionId, pscId));
+        var response = new PersonWithSignificantControlSubmissionCreatedResponseDto(pscId);
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @PostMapping("/persons-with-significant-control")
+    public ResponseEntity<List<PersonWithSignificantControlSubmissionCreatedResponseDto>> createPersonsWithSignificantControl(
+            @RequestAttribute(TRANSACTION_KEY) Transaction transaction,
+            @RequestBody List<PersonWithSignificantControlDto> personWithSignificantControlDtos,
+            @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+            @RequestHeader(value = ERIC_IDENTITY) String userId) throws ServiceException, MethodArgumentNotValidException {
+
+        var logMap = new HashMap<String, Object>();
+        logMap.put(URL_PARAM_TRANSACTION_ID, transaction.getId());
+        ApiLogger.infoContext(requestId, String.format("Create %d persons with significant control", personWithSignificantControlDtos.size()), logMap);
+
+        List<String> pscIds = personWithSignificantControlService.createPersonsWithSignificantControl(transaction, personWithSignificantControlDtos, requestId, userId);
+
+        var response = pscIds.stream()
+                .map(PersonWithSignificantControlSubmissionCreatedResponseDto::new)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PatchMapping("/person-with-significant-control/{" + URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID + "}")
@@ -99,7 +116,8 @@ public class PersonWithSignificantControlController {
             @PathVariable(URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID) String personWithSignificantControlId,
             @RequestBody PersonWithSignificantControlDataDto personWithSignificantControlDataDto,
             @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
-            @RequestHeader(value = ERIC_IDENTITY) String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            @RequestHeader(value = ERIC_IDENTITY) String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ServiceException, MethodArgumentNotValidException {
 
         String transactionId = transaction.getId();
         HashMap<String, Object> logMap = new HashMap<>();
@@ -107,7 +125,7 @@ public class PersonWithSignificantControlController {
         logMap.put(URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID, personWithSignificantControlId);
 
         ApiLogger.infoContext(requestId, String.format("Updating a person with significant control %s", personWithSignificantControlId), logMap);
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, personWithSignificantControlId, personWithSignificantControlDataDto, requestId, userId);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, personWithSignificantControlId, personWithSignificantControlDataDto, requestId, userId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -115,7 +133,8 @@ public class PersonWithSignificantControlController {
     @DeleteMapping("/person-with-significant-control/{" + URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID + "}")
     public ResponseEntity<Object> deletePersonWithSignificantControl(@RequestAttribute(TRANSACTION_KEY) Transaction transaction,
                                                                      @PathVariable(URL_PARAM_PERSON_WITH_SIGNIFICANT_CONTROL_ID) String personWithSignificantControlId,
-                                                                     @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId)
+                                                                     @RequestHeader(value = ERIC_REQUEST_ID_KEY) String requestId,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ServiceException {
 
         String transactionId = transaction.getId();
@@ -125,7 +144,7 @@ public class PersonWithSignificantControlController {
 
         ApiLogger.infoContext(requestId, "Delete a person with significant control", logMap);
 
-        personWithSignificantControlService.deletePersonWithSignificantControl(transaction, personWithSignificantControlId, requestId);
+        personWithSignificantControlService.deletePersonWithSignificantControl(transaction, personWithSignificantControlId, requestId, ifMatch);
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -40,6 +40,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(Exception ex, WebRequest webRequest) {
+        var context = webRequest.getHeader(ERIC_REQUEST_ID_KEY);
+        HashMap<String, Object> logMap = new HashMap<>();
+        logMap.put("error", ex.getClass());
+
+        ApiLogger.infoContext(context, ex.getMessage(), logMap);
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleException(Exception ex, WebRequest webRequest) {
         var context = webRequest.getHeader(ERIC_REQUEST_ID_KEY);
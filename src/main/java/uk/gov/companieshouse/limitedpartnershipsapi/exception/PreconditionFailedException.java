@@ -0,0 +1,7 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.exception;
+
+public class PreconditionFailedException extends ServiceException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
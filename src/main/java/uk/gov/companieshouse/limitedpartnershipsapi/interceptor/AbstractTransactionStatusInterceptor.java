@@ -27,7 +27,7 @@ public abstract class AbstractTransactionStatusInterceptor implements HandlerInt
     @Override
     public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
         final String reqId = request.getHeader(ERIC_REQUEST_ID_KEY);
-        ApiLogger.debugContext(reqId, "Called AbstractTransactionStatusInterceptor.preHandle(...)", null);
+        ApiLogger.debugContext(reqId, () -> "Called AbstractTransactionStatusInterceptor.preHandle(...)", () -> null);
 
         final var transaction = (Transaction) request.getAttribute(TRANSACTION_KEY);
 
@@ -48,7 +48,7 @@ public class AllowedTransactionStatusInterceptor extends AbstractTransactionStat
             (CLOSED.equals(transactionStatus) && requestMethod.equals(HttpMethod.GET.name()));
 
         if (allowed) {
-            ApiLogger.debugContext(reqId, "Transaction status is open, closed pending payment (GET), or closed (GET) - request allowed", logMap);
+            ApiLogger.debugContext(reqId, () -> "Transaction status is open, closed pending payment (GET), or closed (GET) - request allowed", () -> logMap);
             return true;
         }
 
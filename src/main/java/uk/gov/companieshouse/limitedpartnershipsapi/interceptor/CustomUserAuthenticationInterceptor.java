@@ -36,8 +36,8 @@ public class CustomUserAuthenticationInterceptor implements HandlerInterceptor {
         authInfoMap.put("has_company_incorporation_create_permission", hasCompanyIncorporationCreatePermission);
 
         if (hasCompanyIncorporationCreatePermission) {
-            ApiLogger.debugContext(reqId, "CustomUserAuthenticationInterceptor authorised with company_incorporation=create permission",
-                    authInfoMap);
+            ApiLogger.debugContext(reqId, () -> "CustomUserAuthenticationInterceptor authorised with company_incorporation=create permission",
+                    () -> authInfoMap);
             return true;
         }
         ApiLogger.infoContext(reqId, "CustomUserAuthenticationInterceptor unauthorised", authInfoMap);
@@ -46,10 +46,8 @@ public class CustomUserAuthenticationInterceptor implements HandlerInterceptor {
     }
 
     private boolean skipTokenPermissionChecksWhenApiKeyUsed(String reqId, HttpServletRequest request) {
-        var logMap = new HashMap<String, Object>();
-
         if (SecurityConstants.API_KEY_IDENTITY_TYPE.equals(AuthorisationUtil.getAuthorisedIdentityType(request))) {
-            ApiLogger.debugContext(reqId, "CustomUserAuthenticationInterceptor skipping token permission checks for api key request", logMap);
+            ApiLogger.debugContext(reqId, () -> "CustomUserAuthenticationInterceptor skipping token permission checks for api key request", () -> null);
             return true;
         }
         return false;
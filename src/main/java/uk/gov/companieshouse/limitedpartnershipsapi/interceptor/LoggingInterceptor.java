@@ -1,42 +1,98 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.interceptor;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.RequestScopedRepositoryCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.ERIC_REQUEST_ID_KEY;
 
 
+/**
+ * Logs the start and end of a request, at debug level, for the fraction of requests given by the request log sample
+ * rate, which is 0 by default. Request latency is recorded by actuator's {@code http.server.requests} metric. The
+ * repository cache hits and misses of every request that read from a repository are recorded, whether or not it is
+ * sampled, as the {@value #REPOSITORY_CACHE_METRIC} metric.
+ */
 @Component
 public class LoggingInterceptor implements HandlerInterceptor {
 
+    static final String REPOSITORY_CACHE_METRIC = "limited.partnerships.repository.cache.requests";
+
     private static final String START_TIME_KEY = "start-time";
+    private static final String REPOSITORY_CACHE_HITS_KEY = "repository_cache_hits";
+    private static final String REPOSITORY_CACHE_MISSES_KEY = "repository_cache_misses";
+
+    private final double requestLogSampleRate;
+    private final DistributionSummary repositoryCacheHits;
+    private final DistributionSummary repositoryCacheMisses;
+
+    public LoggingInterceptor(@Value("${REQUEST_LOG_SAMPLE_RATE:0}") double requestLogSampleRate, MeterRegistry meterRegistry) {
+        this.requestLogSampleRate = requestLogSampleRate;
+        this.repositoryCacheHits = repositoryCacheSummary("hit", meterRegistry);
+        this.repositoryCacheMisses = repositoryCacheSummary("miss", meterRegistry);
+    }
+
+    private static DistributionSummary repositoryCacheSummary(String result, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(REPOSITORY_CACHE_METRIC)
+                .description("Repository reads per request, by whether the request's repository cache held the result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
-        Long startTime = System.currentTimeMillis();
-        request.setAttribute(START_TIME_KEY, startTime);
-
-        ApiLogger.infoContext(getRequestId(request), String.format("Start of request. Method: %s Path: %s",
-                getRequestMethod(request), getRequestPath(request)), null);
+        if (isSampled()) {
+            request.setAttribute(START_TIME_KEY, System.nanoTime());
+            ApiLogger.debugContext(getRequestId(request), () -> String.format("Start of request. Method: %s Path: %s",
+                    getRequestMethod(request), getRequestPath(request)), () -> null);
+        }
         return true;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
-        Long startTime = (Long) request.getAttribute(START_TIME_KEY);
-
-        if (startTime == null) {
-            ApiLogger.infoContext(getRequestId(request), "Start time not found in request attributes.", null);
-        } else {
-            long responseTime = System.currentTimeMillis() - startTime;
-            ApiLogger.infoContext(getRequestId(request), String.format("End of request. Method: %s Path: %s Duration: %sms Status: %s",
-                    getRequestMethod(request), getRequestPath(request), responseTime, response.getStatus()), null);
+        RequestScopedRepositoryCache repositoryCache = RequestScopedRepositoryCache.currentIfPresent();
+        if (repositoryCache != null) {
+            repositoryCacheHits.record(repositoryCache.getHits());
+            repositoryCacheMisses.record(repositoryCache.getMisses());
         }
+
+        if (!(request.getAttribute(START_TIME_KEY) instanceof Long startTime)) {
+            return;
+        }
+
+        long durationNanos = System.nanoTime() - startTime;
+        ApiLogger.debugContext(getRequestId(request), () -> String.format("End of request. Method: %s Path: %s Duration: %sms Status: %s",
+                getRequestMethod(request), getRequestPath(request), TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                response.getStatus()), () -> getRepositoryCacheData(repositoryCache));
+    }
+
+    private boolean isSampled() {
+        return requestLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < requestLogSampleRate;
+    }
+
+    private static Map<String, Object> getRepositoryCacheData(RequestScopedRepositoryCache repositoryCache) {
+        if (repositoryCache == null) {
+            return null;
+        }
+
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put(REPOSITORY_CACHE_HITS_KEY, repositoryCache.getHits());
+        dataMap.put(REPOSITORY_CACHE_MISSES_KEY, repositoryCache.getMisses());
+        return dataMap;
     }
 
     private String getRequestPath(HttpServletRequest request) {
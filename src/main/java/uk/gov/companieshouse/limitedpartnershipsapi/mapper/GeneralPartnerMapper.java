@@ -2,10 +2,12 @@ package uk.gov.companieshouse.limitedpartnershipsapi.mapper;
 
 import org.mapstruct.InheritConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Country;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
@@ -18,6 +20,12 @@ public interface GeneralPartnerMapper {
 
     GeneralPartnerDao dtoToDao(GeneralPartnerDto dto);
 
+    @Mapping(target = "kind", source = "data.kind")
+    @Mapping(target = "forename", source = "data.forename")
+    @Mapping(target = "surname", source = "data.surname")
+    @Mapping(target = "legalEntityName", source = "data.legalEntityName")
+    PartnerSummaryDto daoToSummaryDto(GeneralPartnerDao dao);
+
     GeneralPartnerDataDto map(GeneralPartnerDataDto dto);
 
     @InheritConfiguration
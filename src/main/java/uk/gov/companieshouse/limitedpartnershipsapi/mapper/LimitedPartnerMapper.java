@@ -2,10 +2,12 @@ package uk.gov.companieshouse.limitedpartnershipsapi.mapper;
 
 import org.mapstruct.InheritConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Country;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
@@ -19,6 +21,12 @@ public interface LimitedPartnerMapper {
 
     LimitedPartnerDao dtoToDao(LimitedPartnerDto dto);
 
+    @Mapping(target = "kind", source = "data.kind")
+    @Mapping(target = "forename", source = "data.forename")
+    @Mapping(target = "surname", source = "data.surname")
+    @Mapping(target = "legalEntityName", source = "data.legalEntityName")
+    PartnerSummaryDto daoToSummaryDto(LimitedPartnerDao dao);
+
     LimitedPartnerDataDto map(LimitedPartnerDataDto dto);
 
     @InheritConfiguration
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.model.common;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
 
 public enum Country {
     AFGHANISTAN("Afghanistan"),
@@ -273,13 +274,7 @@ public enum Country {
 
     @JsonCreator
     public static Country fromDescription(String description) {
-        for (Country country : Country.values()) {
-            if (country.getDescription().equalsIgnoreCase(description)) {
-                return country;
-            }
-        }
-
-        return Country.UNKNOWN;
+        return ReferenceDataLookup.countryFromDescription(description);
     }
 
     public String getDescription() {
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.model.common;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
 
 public enum Nationality {
     AFGHAN("Afghan"),
@@ -246,12 +247,6 @@ public enum Nationality {
 
     @JsonCreator
     public static Nationality fromDescription(String description) {
-        for (Nationality nationality : Nationality.values()) {
-            if (nationality.getDescription().equalsIgnoreCase(description)) {
-                return nationality;
-            }
-        }
-
-        return Nationality.UNKNOWN;
+        return ReferenceDataLookup.nationalityFromDescription(description);
     }
 }
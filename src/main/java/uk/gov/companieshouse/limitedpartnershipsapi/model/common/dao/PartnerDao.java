@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * Base for partner documents. Alongside the audit fields it stores the result of the full validation check, worked
+ * out when the partner is written, and the version of the validator that produced it.
+ */
+public abstract class PartnerDao extends BaseDao {
+
+    @Field("completed")
+    private Boolean completed;
+
+    @Field("validator_version")
+    private Integer validatorVersion;
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public Integer getValidatorVersion() {
+        return validatorVersion;
+    }
+
+    public void setValidatorVersion(Integer validatorVersion) {
+        this.validatorVersion = validatorVersion;
+    }
+
+    public void setCompletion(boolean completed, int validatorVersion) {
+        this.completed = completed;
+        this.validatorVersion = validatorVersion;
+    }
+
+    /**
+     * Whether the stored completed flag was produced by the given validator version and so can be used as-is.
+     */
+    public boolean hasCompletionFor(int validatorVersion) {
+        return completed != null && this.validatorVersion != null && this.validatorVersion == validatorVersion;
+    }
+}
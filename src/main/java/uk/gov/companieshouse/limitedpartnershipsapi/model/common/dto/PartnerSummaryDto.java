@@ -0,0 +1,80 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * The subset of a general or limited partner needed to list partners: who they are and whether their details are
+ * complete.
+ */
+@JsonInclude(NON_NULL)
+public class PartnerSummaryDto {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("kind")
+    private String kind;
+
+    @JsonProperty(PartnerDataDto.FORENAME_FIELD)
+    private String forename;
+
+    @JsonProperty(PartnerDataDto.SURNAME_FIELD)
+    private String surname;
+
+    @JsonProperty(PartnerDataDto.LEGAL_ENTITY_NAME_FIELD)
+    private String legalEntityName;
+
+    @JsonProperty("completed")
+    private boolean completed;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getForename() {
+        return forename;
+    }
+
+    public void setForename(String forename) {
+        this.forename = forename;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    public String getLegalEntityName() {
+        return legalEntityName;
+    }
+
+    public void setLegalEntityName(String legalEntityName) {
+        this.legalEntityName = legalEntityName;
+    }
+
+    public boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+}
@@ -1,10 +1,12 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dao;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
 
 @Document(collection = "limited_partnership_incorporations")
+@CompoundIndex(name = "transaction_id_updated_at", def = "{'transaction_id': 1, 'updated_at': -1}")
 public class LimitedPartnershipIncorporationDao extends BaseDao {
 
     @Field("data")
@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonEnumDefaultValue;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
 
 public enum Currency {
     AFN,
@@ -180,12 +181,6 @@ public enum Currency {
 
     @JsonCreator
     public static Currency fromName(String code) {
-        for (Currency currency : Currency.values()) {
-            if (currency.name().equals(code)) {
-                return currency;
-            }
-        }
-
-        return Currency.UNKNOWN;
+        return ReferenceDataLookup.currencyFromCode(code);
     }
 }
\ No newline at end of file
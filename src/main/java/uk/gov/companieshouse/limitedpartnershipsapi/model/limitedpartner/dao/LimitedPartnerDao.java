@@ -1,11 +1,13 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
-import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.PartnerDao;
 
 @Document(collection = "limited_partners")
-public class LimitedPartnerDao extends BaseDao {
+@CompoundIndex(name = "transaction_id_updated_at", def = "{'transaction_id': 1, 'updated_at': -1}")
+public class LimitedPartnerDao extends PartnerDao {
 
     @Field("data")
     private LimitedPartnerDataDao data;
@@ -0,0 +1,5 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.model.outbox;
+
+public enum TransactionOutboxOperation {
+    UPDATE_TRANSACTION
+}
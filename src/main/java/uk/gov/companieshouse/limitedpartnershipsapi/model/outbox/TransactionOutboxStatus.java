@@ -0,0 +1,7 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.model.outbox;
+
+public enum TransactionOutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    FAILED
+}
@@ -0,0 +1,159 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxOperation;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A Transactions API call that has been accepted by this service but not yet delivered. Only the fields being changed
+ * are stored, so a delivery cannot overwrite anything else on the transaction; a null field is left unchanged. Entries
+ * are removed once the call succeeds; an entry that exhausts its retries is kept with a
+ * {@link TransactionOutboxStatus#FAILED} status.
+ */
+@Document(collection = "transaction_outbox")
+@CompoundIndexes({
+        @CompoundIndex(name = "transaction_id_status", def = "{'transaction_id': 1, 'status': 1, '_id': 1}"),
+        // One per branch of the dispatcher's due query, so polling does not scan the collection
+        @CompoundIndex(name = "status_next_attempt_at", def = "{'status': 1, 'next_attempt_at': 1}"),
+        @CompoundIndex(name = "status_lease_expires_at", def = "{'status': 1, 'lease_expires_at': 1}")
+})
+public class TransactionOutboxDao {
+
+    @Id
+    private String id;
+
+    @Field("transaction_id")
+    private String transactionId;
+
+    @Field("operation")
+    private TransactionOutboxOperation operation;
+
+    @Field("company_name")
+    private String companyName;
+
+    @Field("resume_journey_uri")
+    private String resumeJourneyUri;
+
+    @Field("request_id")
+    private String requestId;
+
+    @Field("status")
+    private TransactionOutboxStatus status;
+
+    @Field("attempts")
+    private int attempts;
+
+    @Field("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Field("lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Field("last_error")
+    private String lastError;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public TransactionOutboxOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(TransactionOutboxOperation operation) {
+        this.operation = operation;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getResumeJourneyUri() {
+        return resumeJourneyUri;
+    }
+
+    public void setResumeJourneyUri(String resumeJourneyUri) {
+        this.resumeJourneyUri = resumeJourneyUri;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    public TransactionOutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TransactionOutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -55,6 +55,9 @@ public class DataDao {
     @Field("kind")
     private String kind;
 
+    @Field("etag")
+    private String etag;
+
     @Field("date_of_update")
     private LocalDate dateOfUpdate;
 
@@ -178,6 +181,14 @@ public class DataDao {
         this.kind = kind;
     }
 
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
     public LocalDate getDateOfUpdate() {
         return dateOfUpdate;
     }
@@ -3,10 +3,10 @@ package uk.gov.companieshouse.limitedpartnershipsapi.model.validator;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.AddressDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
 
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.POSTAL_CODE_MAX_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.UK_COUNTRIES;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.UK_POSTCODE_LETTERS_NOT_MAINLAND;
 
 public class UkPostcodeValidator implements ConstraintValidator<UkPostcode, AddressDto> {
 
@@ -25,15 +25,13 @@ public class UkPostcodeValidator implements ConstraintValidator<UkPostcode, Addr
                 return false;
             }
 
-            var postcodePattern = "^[A-Za-z]{1,2}\\d[A-Za-z\\d]? ?\\d[A-Za-z]{2}$";
-            if (!addressDto.getPostalCode().matches(postcodePattern)) {
+            if (!ReferenceDataLookup.isUkPostcodeFormat(addressDto.getPostalCode())) {
                 addConstraintViolation(context, "Invalid postcode format");
 
                 return false;
             }
 
-            String postcodePrefix = addressDto.getPostalCode().substring(0, 2).toUpperCase();
-            if (UK_POSTCODE_LETTERS_NOT_MAINLAND.contains(postcodePrefix)) {
+            if (ReferenceDataLookup.isNotMainlandPostcode(addressDto.getPostalCode())) {
                 addConstraintViolation(context, "Must be UK mainland postcode");
 
                 return false;
@@ -1,10 +1,53 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.repository;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface LimitedPartnerRepository extends MongoRepository<LimitedPartnerDao, String> {
     List<LimitedPartnerDao> findAllByTransactionIdOrderByUpdatedAtDesc(String transactionId);
+
+    /**
+     * Loads only the id, the names and the stored completion status of each partner. Partners whose status was
+     * stored by an older validator version have to be reloaded in full to recompute it.
+     */
+    @Query(value = "{ 'transaction_id': ?0 }",
+            fields = "{ '_id': 1, 'data.kind': 1, 'data.forename': 1, 'data.surname': 1, 'data.legal_entity_name': 1, 'completed': 1, 'validator_version': 1 }",
+            sort = "{ 'updated_at': -1 }")
+    List<LimitedPartnerDao> findSummariesByTransactionId(String transactionId);
+
+    /**
+     * Stores a recomputed completion status, unless the partner has been written by the current validator version
+     * since it was read.
+     */
+    @Query("{ '_id': ?0, 'validator_version': { '$ne': ?2 } }")
+    @Update("{ '$set': { 'completed': ?1, 'validator_version': ?2 } }")
+    void saveCompletionById(String id, boolean completed, int validatorVersion);
+
+    /**
+     * Sets the self link of every given partner to the prefix followed by the partner's id, in one update.
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update(pipeline = "{ '$set': { 'links.self': { '$concat': [ ?1, { '$toString': '$_id' } ] } } }")
+    void saveSelfLinksByIdIn(List<String> ids, String selfLinkPrefix);
+
+    /**
+     * Loads only the etag of the partner, and the kind needed to check it belongs to the transaction, so that a
+     * conditional GET can be answered without loading the rest of it.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'data.etag': 1, 'data.kind': 1 }")
+    Optional<LimitedPartnerDao> findEtagById(String id);
+
+    /**
+     * Loads only what the etag of the partner list is built from: each partner's etag, update time and stored
+     * completion status, in the order the partners are listed.
+     */
+    @Query(value = "{ 'transaction_id': ?0 }",
+            fields = "{ '_id': 1, 'data.etag': 1, 'updated_at': 1, 'completed': 1, 'validator_version': 1 }",
+            sort = "{ 'updated_at': -1 }")
+    List<LimitedPartnerDao> findEtagsByTransactionId(String transactionId);
 }
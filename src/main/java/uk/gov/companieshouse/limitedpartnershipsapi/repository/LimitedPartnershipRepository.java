@@ -1,13 +1,22 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.repository;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LimitedPartnershipRepository extends MongoRepository<LimitedPartnershipDao, String> {
 
     List<LimitedPartnershipDao> findByTransactionId(String transactionId);
+
+    /**
+     * Loads only the etag and kind of the submission, which is enough to answer a conditional GET once the kind
+     * has been used to check the submission belongs to the transaction.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'data.etag': 1, 'data.kind': 1 }")
+    Optional<LimitedPartnershipDao> findEtagById(String id);
 }
@@ -1,9 +1,35 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
 
 public interface PersonWithSignificantControlRepository extends MongoRepository<PersonWithSignificantControlDao, String> {
     List<PersonWithSignificantControlDao> findAllByTransactionIdOrderByUpdatedAtDesc(String transactionId);
+
+    /**
+     * Sets the self link of every given resource to the prefix followed by the resource's id, in one update.
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update(pipeline = "{ '$set': { 'links.self': { '$concat': [ ?1, { '$toString': '$_id' } ] } } }")
+    void saveSelfLinksByIdIn(List<String> ids, String selfLinkPrefix);
+
+    /**
+     * Loads only the etag of the resource, and the kind needed to check it belongs to the transaction, so that a
+     * conditional GET can be answered without loading the rest of it.
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'data.etag': 1, 'data.kind': 1 }")
+    Optional<PersonWithSignificantControlDao> findEtagById(String id);
+
+    /**
+     * Loads only the etag and update time of each resource in the transaction, in the order they are listed, which
+     * is all the list's etag is built from.
+     */
+    @Query(value = "{ 'transaction_id': ?0 }",
+            fields = "{ '_id': 1, 'data.etag': 1, 'updated_at': 1 }",
+            sort = "{ 'updated_at': -1 }")
+    List<PersonWithSignificantControlDao> findEtagsByTransactionId(String transactionId);
 }
@@ -0,0 +1,127 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Records every call made through a Spring Data repository, tagged with the collection and the repository method, such
+ * as {@code findAllByTransactionIdOrderByUpdatedAtDesc}: how long it took, and how many documents it returned or
+ * wrote. When document size metrics are enabled, the BSON size of each of those documents is recorded as well. This
+ * means converting each document again, so it is off by default.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    static final String DURATION_METRIC = "limited.partnerships.repository.duration";
+    static final String DOCUMENTS_METRIC = "limited.partnerships.repository.documents";
+    static final String DOCUMENT_SIZE_METRIC = "limited.partnerships.repository.document.size";
+
+    private final Class<?> domainType;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Supplier<MongoTemplate> mongoTemplate;
+    private final Supplier<String> collectionName;
+    private final boolean documentSizeMetricsEnabled;
+
+    public RepositoryMetricsInterceptor(Class<?> domainType,
+                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                        ObjectProvider<MongoTemplate> mongoTemplate,
+                                        boolean documentSizeMetricsEnabled) {
+        this.domainType = domainType;
+        // Resolved on first use, as the repositories are created before the beans they need here
+        this.meterRegistry = SingletonSupplier.of(meterRegistry::getIfAvailable);
+        this.mongoTemplate = SingletonSupplier.of(mongoTemplate::getIfAvailable);
+        this.collectionName = SingletonSupplier.of(() -> this.mongoTemplate.get().getCollectionName(domainType));
+        this.documentSizeMetricsEnabled = documentSizeMetricsEnabled;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.get();
+        if (registry == null || mongoTemplate.get() == null) {
+            return invocation.proceed();
+        }
+
+        String collection = collectionName.get();
+        String method = invocation.getMethod().getName();
+
+        Timer.Sample sample = Timer.start(registry);
+        var outcome = "success";
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(DURATION_METRIC)
+                    .tags("collection", collection, "method", method, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+
+        List<Object> documents = documents(result);
+        if (documents != null) {
+            DistributionSummary.builder(DOCUMENTS_METRIC)
+                    .tags("collection", collection, "method", method)
+                    .register(registry)
+                    .record(documents.size());
+
+            if (documentSizeMetricsEnabled) {
+                recordDocumentSizes(registry, collection, method, documents);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the documents in the result of a repository method, or null if it does not return documents, for
+     * example a count or an update
+     */
+    private List<Object> documents(Object result) {
+        if (domainType.isInstance(result)) {
+            return List.of(result);
+        }
+
+        if (result instanceof Optional<?> optional) {
+            return optional.<List<Object>>map(List::of).orElse(List.of());
+        }
+
+        if (result instanceof Iterable<?> iterable) {
+            List<Object> documents = new ArrayList<>();
+            iterable.forEach(documents::add);
+            return documents;
+        }
+
+        return null;
+    }
+
+    private void recordDocumentSizes(MeterRegistry registry, String collection, String method, List<Object> documents) {
+        DistributionSummary documentSize = DistributionSummary.builder(DOCUMENT_SIZE_METRIC)
+                .baseUnit("bytes")
+                .tags("collection", collection, "method", method)
+                .publishPercentileHistogram()
+                .register(registry);
+
+        MongoTemplate template = mongoTemplate.get();
+        for (Object document : documents) {
+            var bson = new Document();
+            template.getConverter().write(document, bson);
+            var rawBson = new RawBsonDocument(bson, template.getDb().getCodecRegistry().get(Document.class));
+            documentSize.record(rawBson.getByteBuffer().remaining());
+        }
+    }
+}
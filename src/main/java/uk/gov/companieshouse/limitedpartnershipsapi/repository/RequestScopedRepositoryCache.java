@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Identity map of repository read results held for the lifetime of a single HTTP request. It is stored as a request
+ * attribute so that every service touched while handling the request, and any worker threads the request attributes
+ * are handed to, see the same documents without going back to Mongo.
+ */
+public class RequestScopedRepositoryCache {
+
+    static final String REQUEST_ATTRIBUTE = RequestScopedRepositoryCache.class.getName();
+
+    // A lock rather than a synchronized block, which would pin a virtual thread waiting for it to its carrier thread
+    private static final Lock CREATION_LOCK = new ReentrantLock();
+
+    private final Map<CacheKey, Object> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    record CacheKey(Class<?> repository, String method, List<Object> arguments) {
+    }
+
+    /**
+     * @return the cache for the current request, creating it on first use, or {@code null} when not called on behalf
+     * of an HTTP request
+     */
+    public static RequestScopedRepositoryCache current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        var cache = (RequestScopedRepositoryCache) requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            CREATION_LOCK.lock();
+            try {
+                cache = (RequestScopedRepositoryCache) requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (cache == null) {
+                    cache = new RequestScopedRepositoryCache();
+                    requestAttributes.setAttribute(REQUEST_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+                }
+            } finally {
+                CREATION_LOCK.unlock();
+            }
+        }
+
+        return cache;
+    }
+
+    /**
+     * @return the cache for the current request if one has been created, without creating it
+     */
+    public static RequestScopedRepositoryCache currentIfPresent() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        return (RequestScopedRepositoryCache) requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    Object get(CacheKey key) {
+        Object value = entries.get(key);
+        if (value == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    void put(CacheKey key, Object value) {
+        if (value != null) {
+            entries.put(key, value);
+        }
+    }
+
+    void invalidate(Class<?> repository) {
+        entries.keySet().removeIf(key -> key.repository().equals(repository));
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
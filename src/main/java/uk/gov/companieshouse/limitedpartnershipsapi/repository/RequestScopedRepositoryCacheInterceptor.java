@@ -0,0 +1,65 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Sits in front of a Spring Data repository proxy and serves {@code findById} and find-by-transaction-id lookups from
+ * the {@link RequestScopedRepositoryCache} of the current request. Any save, insert or delete through the same
+ * repository drops that repository's cached results. Calls made outside of an HTTP request go straight to Mongo.
+ */
+public class RequestScopedRepositoryCacheInterceptor implements MethodInterceptor {
+
+    private final Class<?> repositoryInterface;
+
+    public RequestScopedRepositoryCacheInterceptor(Class<?> repositoryInterface) {
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        RequestScopedRepositoryCache cache = RequestScopedRepositoryCache.current();
+        if (cache == null) {
+            return invocation.proceed();
+        }
+
+        String methodName = invocation.getMethod().getName();
+
+        if (isWrite(methodName)) {
+            try {
+                return invocation.proceed();
+            } finally {
+                cache.invalidate(repositoryInterface);
+            }
+        }
+
+        if (!isCacheableRead(methodName)) {
+            return invocation.proceed();
+        }
+
+        var key = new RequestScopedRepositoryCache.CacheKey(repositoryInterface, methodName, Arrays.asList(invocation.getArguments()));
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object result = invocation.proceed();
+        cache.put(key, result);
+        return result;
+    }
+
+    private static boolean isCacheableRead(String methodName) {
+        return methodName.equals("findById")
+                || methodName.startsWith("findByTransactionId")
+                || methodName.startsWith("findAllByTransactionId");
+    }
+
+    private static boolean isWrite(String methodName) {
+        return methodName.startsWith("save")
+                || methodName.startsWith("insert")
+                || methodName.startsWith("delete");
+    }
+}
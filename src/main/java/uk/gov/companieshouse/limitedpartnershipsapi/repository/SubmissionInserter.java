@@ -0,0 +1,118 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
+
+/**
+ * Inserts new submissions together with their self link, which contains the submission's id.
+ * <p>
+ * When id preallocation is enabled the ObjectId is generated here, so the self link is known before the document is
+ * written and a single insert is enough. Otherwise Mongo assigns the id on insert and the self link is written by a
+ * second update, as it always has been. Both store the id as an ObjectId, so the switch can be turned on or off at any
+ * time without migrating existing documents.
+ */
+@Component
+public class SubmissionInserter {
+
+    static final String SUBMISSION_WRITES_METRIC = "limited.partnerships.submission.writes";
+    static final String SUBMISSIONS_INSERTED_METRIC = "limited.partnerships.submission.inserted";
+
+    private final boolean idPreallocationEnabled;
+    private final MeterRegistry meterRegistry;
+
+    public SubmissionInserter(@Value("${SUBMISSION_ID_PREALLOCATION_ENABLED:false}") boolean idPreallocationEnabled,
+                              MeterRegistry meterRegistry) {
+        this.idPreallocationEnabled = idPreallocationEnabled;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param selfLinkForId builds the self link from the id of the inserted submission
+     * @return the inserted submission
+     */
+    public <T extends BaseDao> T insertWithSelfLink(MongoRepository<T, String> repository, T dao, UnaryOperator<String> selfLinkForId) {
+        if (idPreallocationEnabled) {
+            preallocateId(dao);
+            dao.setLinks(Collections.singletonMap(LINK_SELF, selfLinkForId.apply(dao.getId())));
+            T insertedDao = repository.insert(dao);
+            recordWrites(dao, 1, 1);
+            return insertedDao;
+        }
+
+        T insertedDao = repository.insert(dao);
+        dao.setLinks(Collections.singletonMap(LINK_SELF, selfLinkForId.apply(insertedDao.getId())));
+        repository.save(dao);
+        recordWrites(dao, 2, 1);
+        return insertedDao;
+    }
+
+    /**
+     * Inserts a batch of submissions in one insertMany. Without id preallocation the self links are then set by
+     * {@code saveSelfLinks}, and if that fails the whole batch is deleted again before the exception is rethrown.
+     *
+     * @param selfLinkPrefix the self link of a submission, less its id
+     * @param saveSelfLinks  sets the self link of each of the given ids to the prefix followed by the id
+     * @return the inserted submissions, in the same order as {@code daos}
+     */
+    public <T extends BaseDao> List<T> insertAllWithSelfLinks(MongoRepository<T, String> repository, List<T> daos,
+                                                              String selfLinkPrefix, Consumer<List<String>> saveSelfLinks,
+                                                              String requestId) {
+        if (daos.isEmpty()) {
+            return List.of();
+        }
+
+        if (idPreallocationEnabled) {
+            for (T dao : daos) {
+                preallocateId(dao);
+                dao.setLinks(Collections.singletonMap(LINK_SELF, selfLinkPrefix + dao.getId()));
+            }
+
+            List<T> insertedDaos = repository.insert(daos);
+            recordWrites(daos.getFirst(), 1, daos.size());
+            return insertedDaos;
+        }
+
+        List<T> insertedDaos = repository.insert(daos);
+        List<String> ids = insertedDaos.stream().map(BaseDao::getId).toList();
+
+        try {
+            saveSelfLinks.accept(ids);
+        } catch (RuntimeException e) {
+            ApiLogger.errorContext(requestId, String.format("Failed to set self links for submissions with ids: %s. Rolling back insertion.", String.join(",", ids)), e);
+            repository.deleteAllById(ids);
+            throw e;
+        }
+
+        recordWrites(daos.getFirst(), 2, daos.size());
+        return insertedDaos;
+    }
+
+    /*
+     * Auditing only fills in @CreatedDate for entities it sees as new, which without a version field means those with
+     * no id. Once the id is set here the created date has to be set here as well.
+     */
+    private static void preallocateId(BaseDao dao) {
+        dao.setId(new ObjectId().toHexString());
+        dao.setCreatedAt(LocalDateTime.now());
+    }
+
+    private void recordWrites(BaseDao dao, int writes, int submissions) {
+        String submission = dao.getClass().getSimpleName();
+        String mode = idPreallocationEnabled ? "preallocated" : "insert_then_update";
+        meterRegistry.counter(SUBMISSION_WRITES_METRIC, "submission", submission, "mode", mode).increment(writes);
+        meterRegistry.counter(SUBMISSIONS_INSERTED_METRIC, "submission", submission, "mode", mode).increment(submissions);
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.PreconditionFailedException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Writes changes to existing submissions back to Mongo.
+ * <p>
+ * Every write only applies if {@code data.etag} still holds the value read before the patch, so a concurrent PATCH or
+ * DELETE can no longer be silently overwritten; when nothing matches a {@link PreconditionFailedException} is thrown
+ * and nothing is written. By default the whole patched document replaces the stored one.
+ * <p>
+ * When partial updates are enabled, the submission before and after the patch are instead both converted to the
+ * documents Mongo would store, and only the fields that differ are written, with {@code $set} for new or changed values
+ * and {@code $unset} for removed ones. Fields under {@code data} are compared one by one; anything else is compared as
+ * a whole.
+ */
+@Component
+public class SubmissionPatcher {
+
+    private static final String ID_FIELD = "_id";
+    private static final String DATA_FIELD = "data";
+    private static final String ETAG_FIELD = "data.etag";
+
+    private final boolean partialUpdateEnabled;
+    private final MongoTemplate mongoTemplate;
+
+    public SubmissionPatcher(@Value("${SUBMISSION_PARTIAL_UPDATE_ENABLED:false}") boolean partialUpdateEnabled,
+                             MongoTemplate mongoTemplate) {
+        this.partialUpdateEnabled = partialUpdateEnabled;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * @param daoBeforePatch the submission as it was read
+     * @param daoAfterPatch  the patched submission, with the same id and a new etag
+     * @param expectedEtag   the etag of the submission as it was read
+     * @throws PreconditionFailedException if the submission has been changed since it was read, in which case nothing
+     *                                     is written
+     */
+    public <T extends BaseDao> void update(T daoBeforePatch, T daoAfterPatch, String expectedEtag)
+            throws PreconditionFailedException {
+        // Auditing only applies to saves made through the repositories
+        daoAfterPatch.setUpdatedAt(LocalDateTime.now());
+
+        if (!partialUpdateEnabled) {
+            T replaced = write(() -> mongoTemplate.findAndReplace(idAndEtag(daoBeforePatch, expectedEtag), daoAfterPatch));
+            if (replaced == null) {
+                throw changedSinceRead(daoBeforePatch);
+            }
+            return;
+        }
+
+        Document documentBeforePatch = toDocument(daoBeforePatch);
+        Document documentAfterPatch = toDocument(daoAfterPatch);
+
+        var set = new Document();
+        var unset = new Document();
+        addChanges(documentBeforePatch, documentAfterPatch, "", set, unset);
+
+        var update = new Document("$set", set);
+        if (!unset.isEmpty()) {
+            update.append("$unset", unset);
+        }
+
+        var filter = new Document(ID_FIELD, documentBeforePatch.get(ID_FIELD)).append(ETAG_FIELD, expectedEtag);
+
+        UpdateResult result = write(() -> collection(daoAfterPatch).updateOne(filter, update));
+        if (result.getMatchedCount() == 0) {
+            throw changedSinceRead(daoBeforePatch);
+        }
+    }
+
+    /**
+     * @param dao          the submission as it was read
+     * @param expectedEtag the etag of the submission as it was read
+     * @throws PreconditionFailedException if the submission has been changed since it was read, in which case it is
+     *                                     not deleted
+     */
+    public void delete(BaseDao dao, String expectedEtag) throws PreconditionFailedException {
+        DeleteResult result = write(() -> mongoTemplate.remove(idAndEtag(dao, expectedEtag), dao.getClass()));
+        if (result.getDeletedCount() == 0) {
+            throw changedSinceRead(dao);
+        }
+    }
+
+    private static <R> R write(Supplier<R> operation) {
+        try {
+            return operation.get();
+        } finally {
+            // The write bypasses the repositories, so nothing read earlier in the request can be trusted
+            RequestScopedRepositoryCache cache = RequestScopedRepositoryCache.currentIfPresent();
+            if (cache != null) {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    private static Query idAndEtag(BaseDao dao, String expectedEtag) {
+        return Query.query(Criteria.where(ID_FIELD).is(dao.getId()).and(ETAG_FIELD).is(expectedEtag));
+    }
+
+    private MongoCollection<Document> collection(BaseDao dao) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(dao.getClass()));
+    }
+
+    private static PreconditionFailedException changedSinceRead(BaseDao dao) {
+        return new PreconditionFailedException(String.format(
+                "Submission with id %s has been changed since it was read", dao.getId()));
+    }
+
+    private Document toDocument(BaseDao dao) {
+        var document = new Document();
+        mongoTemplate.getConverter().write(dao, document);
+        return document;
+    }
+
+    private static void addChanges(Document before, Document after, String prefix, Document set, Document unset) {
+        for (Map.Entry<String, Object> field : after.entrySet()) {
+            String name = field.getKey();
+            Object value = field.getValue();
+            Object previousValue = before.get(name);
+
+            if (prefix.isEmpty() && DATA_FIELD.equals(name)
+                    && value instanceof Document data && previousValue instanceof Document previousData) {
+                addChanges(previousData, data, DATA_FIELD + ".", set, unset);
+            } else if (!before.containsKey(name) || !Objects.equals(previousValue, value)) {
+                set.append(prefix + name, value);
+            }
+        }
+
+        for (String name : before.keySet()) {
+            if (!after.containsKey(name)) {
+                unset.append(prefix + name, "");
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus.IN_FLIGHT;
+import static uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus.PENDING;
+
+/**
+ * Storage for the transaction outbox. Entries for the same transaction are delivered strictly in the order they were
+ * written (by {@code _id}), so a claim always starts from the oldest outstanding entry of a transaction. A claim is a
+ * lease: if the instance holding it dies, the entries become claimable again once the lease expires.
+ */
+@Repository
+public class TransactionOutbox {
+
+    private static final String ID_FIELD = "_id";
+    private static final String TRANSACTION_ID_FIELD = "transaction_id";
+    private static final String STATUS_FIELD = "status";
+    private static final String ATTEMPTS_FIELD = "attempts";
+    private static final String NEXT_ATTEMPT_AT_FIELD = "next_attempt_at";
+    private static final String LEASE_EXPIRES_AT_FIELD = "lease_expires_at";
+    private static final String LAST_ERROR_FIELD = "last_error";
+
+    private final MongoTemplate mongoTemplate;
+
+    public TransactionOutbox(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public TransactionOutboxDao insert(TransactionOutboxDao entry) {
+        return mongoTemplate.insert(entry);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct transaction ids that have at least one entry ready to be delivered,
+     * oldest first.
+     */
+    public List<String> findTransactionIdsWithDueEntries(LocalDateTime now, int limit) {
+        var query = Query.query(due(new Criteria(), now))
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .limit(limit);
+        query.fields().include(TRANSACTION_ID_FIELD);
+
+        var transactionIds = new LinkedHashSet<String>();
+        for (TransactionOutboxDao entry : mongoTemplate.find(query, TransactionOutboxDao.class)) {
+            transactionIds.add(entry.getTransactionId());
+        }
+        return List.copyOf(transactionIds);
+    }
+
+    /**
+     * Claims the oldest outstanding entry for the transaction until {@code leaseExpiresAt}. Returns null if the
+     * transaction has nothing outstanding, if its oldest entry is waiting out a retry backoff, or if another instance
+     * holds the lease on it.
+     */
+    public TransactionOutboxDao claimNext(String transactionId, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        var headQuery = Query.query(where(TRANSACTION_ID_FIELD).is(transactionId)
+                        .and(STATUS_FIELD).in(PENDING.name(), IN_FLIGHT.name()))
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD));
+        TransactionOutboxDao head = mongoTemplate.findOne(headQuery, TransactionOutboxDao.class);
+        if (head == null) {
+            return null;
+        }
+
+        var claimQuery = Query.query(due(where(ID_FIELD).is(head.getId()), now));
+        var claim = new Update()
+                .set(STATUS_FIELD, IN_FLIGHT.name())
+                .set(LEASE_EXPIRES_AT_FIELD, leaseExpiresAt);
+
+        return mongoTemplate.findAndModify(claimQuery, claim, FindAndModifyOptions.options().returnNew(true),
+                TransactionOutboxDao.class);
+    }
+
+    /**
+     * Claims the oldest outstanding entry for the transaction, as {@link #claimNext} does, together with up to
+     * {@code limit - 1} of the due entries queued after it, so that they can be delivered in a single call. The
+     * entries are returned oldest first, or an empty list if the oldest entry could not be claimed.
+     */
+    public List<TransactionOutboxDao> claimBatch(String transactionId, LocalDateTime now, LocalDateTime leaseExpiresAt, int limit) {
+        TransactionOutboxDao head = claimNext(transactionId, now, leaseExpiresAt);
+        if (head == null) {
+            return List.of();
+        }
+        if (limit <= 1) {
+            return List.of(head);
+        }
+
+        // No other instance can claim these while the lease on the head is held
+        var followingQuery = Query.query(due(where(TRANSACTION_ID_FIELD).is(transactionId)
+                        .and(ID_FIELD).gt(new ObjectId(head.getId())), now))
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .limit(limit - 1);
+        List<TransactionOutboxDao> following = mongoTemplate.find(followingQuery, TransactionOutboxDao.class);
+
+        List<TransactionOutboxDao> batch = new ArrayList<>(following.size() + 1);
+        batch.add(head);
+        batch.addAll(following);
+
+        if (!following.isEmpty()) {
+            var claim = new Update()
+                    .set(STATUS_FIELD, IN_FLIGHT.name())
+                    .set(LEASE_EXPIRES_AT_FIELD, leaseExpiresAt);
+            mongoTemplate.updateMulti(byIds(ids(following)), claim, TransactionOutboxDao.class);
+        }
+
+        return batch;
+    }
+
+    public void remove(List<String> ids) {
+        mongoTemplate.remove(byIds(ids), TransactionOutboxDao.class);
+    }
+
+    public void reschedule(List<String> ids, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        release(ids, PENDING, new Update()
+                .set(ATTEMPTS_FIELD, attempts)
+                .set(NEXT_ATTEMPT_AT_FIELD, nextAttemptAt)
+                .set(LAST_ERROR_FIELD, lastError));
+    }
+
+    public void markFailed(List<String> ids, int attempts, String lastError) {
+        release(ids, TransactionOutboxStatus.FAILED, new Update()
+                .set(ATTEMPTS_FIELD, attempts)
+                .set(LAST_ERROR_FIELD, lastError));
+    }
+
+    private void release(List<String> ids, TransactionOutboxStatus status, Update update) {
+        update.set(STATUS_FIELD, status.name()).unset(LEASE_EXPIRES_AT_FIELD);
+        mongoTemplate.updateMulti(byIds(ids), update, TransactionOutboxDao.class);
+    }
+
+    private static Query byIds(List<String> ids) {
+        return Query.query(where(ID_FIELD).in(ids));
+    }
+
+    private static List<String> ids(List<TransactionOutboxDao> entries) {
+        return entries.stream().map(TransactionOutboxDao::getId).toList();
+    }
+
+    private static Criteria due(Criteria criteria, LocalDateTime now) {
+        return criteria.orOperator(
+                where(STATUS_FIELD).is(PENDING.name()).and(NEXT_ATTEMPT_AT_FIELD).lte(now),
+                where(STATUS_FIELD).is(IN_FLIGHT.name()).and(LEASE_EXPIRES_AT_FIELD).lte(now));
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
+
+import java.util.List;
+
+/**
+ * Every submission document held against a single transaction. The partner and PSC lists are ordered by
+ * {@code updated_at} descending, matching the {@code findAllByTransactionIdOrderByUpdatedAtDesc} repository queries.
+ */
+public record TransactionSubmissionGraph(String transactionId,
+                                         List<LimitedPartnershipDao> limitedPartnerships,
+                                         List<GeneralPartnerDao> generalPartners,
+                                         List<LimitedPartnerDao> limitedPartners,
+                                         List<PersonWithSignificantControlDao> personsWithSignificantControl) {
+}
@@ -0,0 +1,91 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.stereotype.Repository;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Loads the limited partnership, general partners, limited partners and persons with significant control for a
+ * transaction in one round trip, using a {@code $unionWith} pipeline rooted on the limited partnerships collection.
+ * Each document is tagged with the collection it came from so it can be read back into the matching DAO type.
+ */
+@Repository
+public class TransactionSubmissionGraphLoader {
+
+    static final String SOURCE_COLLECTION_FIELD = "_source_collection";
+
+    private static final String TRANSACTION_ID_FIELD = "transaction_id";
+    private static final String UPDATED_AT_FIELD = "updated_at";
+
+    private final MongoTemplate mongoTemplate;
+
+    public TransactionSubmissionGraphLoader(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public TransactionSubmissionGraph load(String transactionId) {
+        String limitedPartnershipCollection = mongoTemplate.getCollectionName(LimitedPartnershipDao.class);
+        String generalPartnerCollection = mongoTemplate.getCollectionName(GeneralPartnerDao.class);
+        String limitedPartnerCollection = mongoTemplate.getCollectionName(LimitedPartnerDao.class);
+        String personWithSignificantControlCollection = mongoTemplate.getCollectionName(PersonWithSignificantControlDao.class);
+
+        var aggregation = Aggregation.newAggregation(
+                Aggregation.match(where(TRANSACTION_ID_FIELD).is(transactionId)),
+                tagWithSource(limitedPartnershipCollection),
+                unionWith(generalPartnerCollection, transactionId),
+                unionWith(limitedPartnerCollection, transactionId),
+                unionWith(personWithSignificantControlCollection, transactionId),
+                Aggregation.sort(Sort.Direction.DESC, UPDATED_AT_FIELD));
+
+        List<LimitedPartnershipDao> limitedPartnerships = new ArrayList<>();
+        List<GeneralPartnerDao> generalPartners = new ArrayList<>();
+        List<LimitedPartnerDao> limitedPartners = new ArrayList<>();
+        List<PersonWithSignificantControlDao> personsWithSignificantControl = new ArrayList<>();
+
+        for (Document document : mongoTemplate.aggregate(aggregation, limitedPartnershipCollection, Document.class)) {
+            String source = document.getString(SOURCE_COLLECTION_FIELD);
+
+            if (limitedPartnershipCollection.equals(source)) {
+                limitedPartnerships.add(read(LimitedPartnershipDao.class, document));
+            } else if (generalPartnerCollection.equals(source)) {
+                generalPartners.add(read(GeneralPartnerDao.class, document));
+            } else if (limitedPartnerCollection.equals(source)) {
+                limitedPartners.add(read(LimitedPartnerDao.class, document));
+            } else if (personWithSignificantControlCollection.equals(source)) {
+                personsWithSignificantControl.add(read(PersonWithSignificantControlDao.class, document));
+            }
+        }
+
+        return new TransactionSubmissionGraph(transactionId, limitedPartnerships, generalPartners, limitedPartners,
+                personsWithSignificantControl);
+    }
+
+    private static UnionWithOperation unionWith(String collection, String transactionId) {
+        return UnionWithOperation.unionWith(collection).pipeline(
+                Aggregation.match(where(TRANSACTION_ID_FIELD).is(transactionId)),
+                tagWithSource(collection));
+    }
+
+    private static AggregationOperation tagWithSource(String collection) {
+        return Aggregation.addFields().addFieldWithValue(SOURCE_COLLECTION_FIELD, collection).build();
+    }
+
+    private <T extends BaseDao> T read(Class<T> type, Document document) {
+        document.remove(SOURCE_COLLECTION_FIELD);
+        return mongoTemplate.getConverter().read(type, document);
+    }
+}
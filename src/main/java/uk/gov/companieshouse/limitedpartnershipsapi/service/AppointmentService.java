@@ -0,0 +1,149 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
+import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.APPOINTMENT_GET;
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig.APPOINTMENT_LOOKUP_EXECUTOR;
+
+@Service
+public class AppointmentService {
+
+    private static final String APPOINTMENT_FULL_RECORD_URI = "/company/%s/appointments/%s/full_record";
+
+    private final ApiClientService apiClientService;
+    private final AsyncCache<AppointmentKey, AppointmentFullRecordAPI> appointmentCache;
+    private final Cache<String, Boolean> prefetchedTransactions;
+    private final ExecutorService appointmentLookupExecutor;
+    private final Semaphore prefetchPermits;
+    private final ApiClientMetrics apiClientMetrics;
+
+    public AppointmentService(ApiClientService apiClientService,
+                              AsyncCache<AppointmentKey, AppointmentFullRecordAPI> appointmentCache,
+                              Cache<String, Boolean> prefetchedTransactions,
+                              @Qualifier(APPOINTMENT_LOOKUP_EXECUTOR) ExecutorService appointmentLookupExecutor,
+                              @Value("${APPOINTMENT_PREFETCH_MAX_CONCURRENCY:10}") int prefetchMaxConcurrency,
+                              ApiClientMetrics apiClientMetrics) {
+        this.apiClientService = apiClientService;
+        this.appointmentCache = appointmentCache;
+        this.prefetchedTransactions = prefetchedTransactions;
+        this.appointmentLookupExecutor = appointmentLookupExecutor;
+        this.prefetchPermits = new Semaphore(prefetchMaxConcurrency);
+        this.apiClientMetrics = apiClientMetrics;
+    }
+
+    public record AppointmentKey(String companyNumber, String appointmentId) {
+    }
+
+    /**
+     * Returns the full record for an appointment, calling the Company Appointments API only when it has not already
+     * been fetched, or prefetched, recently. Concurrent callers for the same appointment share the one call.
+     */
+    public AppointmentFullRecordAPI getAppointment(String companyNumber, String appointmentId)
+            throws URIValidationException, ApiErrorResponseException {
+        var key = new AppointmentKey(companyNumber, appointmentId);
+        CompletableFuture<AppointmentFullRecordAPI> load = appointmentCache.get(key, this::loadAppointment);
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // The cache drops a failed load once it completes, which can be after this caller has been woken
+            appointmentCache.asMap().remove(key, load);
+            if (!(e.getCause() instanceof AppointmentLoadException loadException)) {
+                throw e;
+            }
+            if (loadException.getCause() instanceof URIValidationException uriValidationException) {
+                throw uriValidationException;
+            }
+            throw (ApiErrorResponseException) loadException.getCause();
+        }
+    }
+
+    /**
+     * Returns true when the appointment has already been fetched, or is being fetched, and is still cached.
+     */
+    public boolean isAppointmentCached(String companyNumber, String appointmentId) {
+        return appointmentCache.getIfPresent(new AppointmentKey(companyNumber, appointmentId)) != null;
+    }
+
+    /**
+     * Records that the appointments for a transaction are being prefetched. Returns false when they already have been
+     * within the cache TTL, so the partners on a transaction are only read and prefetched once however many filings
+     * are generated for it.
+     */
+    public boolean markTransactionPrefetched(String transactionId) {
+        return prefetchedTransactions.asMap().putIfAbsent(transactionId, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Starts fetching every given appointment for the company that is not already cached, in the background, so later
+     * calls to {@link #getAppointment} are served from the cache or share the call in flight. The caller is not made to
+     * wait for any of them. Repeated and null ids are ignored. Failures are logged and left for
+     * {@link #getAppointment} to report when the appointment is actually needed.
+     */
+    public void prefetchAppointments(String companyNumber, Collection<String> appointmentIds) {
+        appointmentIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(appointmentId -> new AppointmentKey(companyNumber, appointmentId))
+                .filter(key -> appointmentCache.getIfPresent(key) == null)
+                .forEach(key -> appointmentLookupExecutor.execute(() -> prefetchAppointmentSafely(key)));
+    }
+
+    private void prefetchAppointmentSafely(AppointmentKey key) {
+        try {
+            prefetchAppointment(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (URIValidationException | ApiErrorResponseException | RuntimeException e) {
+            ApiLogger.debug(() -> "Appointment prefetch failed: " + e.getMessage());
+        }
+    }
+
+    private void prefetchAppointment(AppointmentKey key) throws URIValidationException, ApiErrorResponseException, InterruptedException {
+        prefetchPermits.acquire();
+        try {
+            getAppointment(key.companyNumber(), key.appointmentId());
+        } finally {
+            prefetchPermits.release();
+        }
+    }
+
+    private AppointmentFullRecordAPI loadAppointment(AppointmentKey key) {
+        String uri = String.format(APPOINTMENT_FULL_RECORD_URI, key.companyNumber(), key.appointmentId());
+        try {
+            return apiClientMetrics.record(APPOINTMENT_GET, () -> apiClientService.getInternalApiClient()
+                    .privateDeltaResourceHandler()
+                    .getAppointment(uri)
+                    .execute()
+                    .getData());
+        } catch (URIValidationException | ApiErrorResponseException e) {
+            throw new AppointmentLoadException(e);
+        }
+    }
+
+    /**
+     * Carries a checked API exception out of the cache loader, which cannot throw checked exceptions.
+     */
+    private static class AppointmentLoadException extends RuntimeException {
+
+        AppointmentLoadException(Exception cause) {
+            super(cause);
+        }
+    }
+}
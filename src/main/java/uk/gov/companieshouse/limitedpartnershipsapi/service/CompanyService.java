@@ -1,43 +1,109 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.COMPANY_GET;
+
 @Service
 public class CompanyService {
     private final ApiClientService apiClientService;
+    private final AsyncCache<String, CachedCompanyProfile> companyProfileCache;
+    private final ApiClientMetrics apiClientMetrics;
 
-    public CompanyService(ApiClientService apiClientService) {
+    public CompanyService(ApiClientService apiClientService, AsyncCache<String, CachedCompanyProfile> companyProfileCache,
+                          ApiClientMetrics apiClientMetrics) {
         this.apiClientService = apiClientService;
+        this.companyProfileCache = companyProfileCache;
+        this.apiClientMetrics = apiClientMetrics;
+    }
+
+    /**
+     * A company profile held in the cache, or a marker that the Company API returned a 404 for the company number.
+     */
+    public record CachedCompanyProfile(CompanyProfileApi companyProfile, ApiErrorResponseException notFoundCause) {
+
+        public boolean isNotFound() {
+            return notFoundCause != null;
+        }
     }
 
+    /**
+     * Returns the company profile, fetching it from the Company API only when it is not already cached. Concurrent
+     * callers asking for the same company number while it is being fetched wait for, and share, the one call.
+     */
     public CompanyProfileApi getCompanyProfile(String companyNumber) throws ServiceException {
+        CompletableFuture<CachedCompanyProfile> load = companyProfileCache.get(companyNumber, this::loadCompanyProfile);
+        CachedCompanyProfile cachedProfile;
         try {
-            return apiClientService.getInternalApiClient()
-                    .company()
-                    .get("/company/" + companyNumber)
-                    .execute()
-                    .getData();
+            cachedProfile = load.join();
+        } catch (CompletionException e) {
+            // The cache drops a failed load once it completes, which can be after this caller has been woken
+            companyProfileCache.asMap().remove(companyNumber, load);
+            if (e.getCause() instanceof CompanyProfileLoadException loadException) {
+                throw loadException.getServiceException();
+            }
+            throw e;
+        }
+
+        if (cachedProfile.isNotFound()) {
+            throw new ServiceException("Company not found: " + companyNumber, cachedProfile.notFoundCause());
+        }
+
+        return cachedProfile.companyProfile();
+    }
 
+    private CachedCompanyProfile loadCompanyProfile(String companyNumber) {
+        try {
+            return new CachedCompanyProfile(fetchCompanyProfile(companyNumber), null);
         } catch (ApiErrorResponseException e) {
             if (e.getStatusCode() == 404) {
-                var message = "Company not found: " + companyNumber;
-                ApiLogger.errorContext(null, message, e);
-                throw new ServiceException(message, e);
+                ApiLogger.errorContext(null, "Company not found: " + companyNumber, e);
+                return new CachedCompanyProfile(null, e);
             }
 
             var message = "Error getting company profile: " + companyNumber;
             ApiLogger.errorContext(null, message, e);
-            throw new ServiceException(message, e);
+            throw new CompanyProfileLoadException(new ServiceException(message, e));
         } catch (URIValidationException e) {
             var message = "Error getting company profile: " + companyNumber;
             ApiLogger.errorContext(null, message, e);
-            throw new ServiceException(message, e);
+            throw new CompanyProfileLoadException(new ServiceException(message, e));
+        }
+    }
+
+    private CompanyProfileApi fetchCompanyProfile(String companyNumber) throws ApiErrorResponseException, URIValidationException {
+        return apiClientMetrics.record(COMPANY_GET, () -> apiClientService.getInternalApiClient()
+                .company()
+                .get("/company/" + companyNumber)
+                .execute()
+                .getData());
+    }
+
+    /**
+     * Carries a {@link ServiceException} out of the cache loader, which cannot throw checked exceptions.
+     */
+    private static class CompanyProfileLoadException extends RuntimeException {
+
+        private final transient ServiceException serviceException;
+
+        CompanyProfileLoadException(ServiceException serviceException) {
+            super(serviceException);
+            this.serviceException = serviceException;
+        }
+
+        ServiceException getServiceException() {
+            return serviceException;
         }
     }
 }
@@ -1,17 +1,21 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
-import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.api.model.payment.Cost;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
-import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
@@ -30,12 +34,19 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.Limite
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.FilingKind;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ReferenceDataLookup;
 
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig.FILING_ASSEMBLY_EXECUTOR;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_PAYMENT_METHOD;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_PAYMENT_REFERENCE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.GENERAL_PARTNER_FIELD;
@@ -56,16 +67,32 @@ public class FilingsService {
     public static final String LIMITED_PARTNERSHIP_TRANSITION_FILING_DESCRIPTION = "Transition a Limited Partnership";
     public static final String LIMITED_PARTNERSHIP_POST_TRANSITION_FILING_DESCRIPTION = "Post Transition a Limited Partnership";
 
+    static final String FILING_ASSEMBLY_BRANCH_METRIC = "limited.partnerships.filing.assembly.branch";
+    static final String FILING_ASSEMBLY_METRIC = "limited.partnerships.filing.assembly";
+
+    private static final String BRANCH_PARTNERSHIP = "partnership";
+    private static final String BRANCH_GENERAL_PARTNERS = "general-partners";
+    private static final String BRANCH_LIMITED_PARTNERS = "limited-partners";
+    private static final String BRANCH_PERSONS_WITH_SIGNIFICANT_CONTROL = "persons-with-significant-control";
+    private static final String BRANCH_PAYMENT = "payment";
+
+    private static final String SUBMISSION_DATA_SET_LOG_CATEGORY = "filing-submission-data-set";
+
     private final LimitedPartnershipService limitedPartnershipService;
     private final GeneralPartnerService generalPartnerService;
     private final LimitedPartnerService limitedPartnerService;
     private final PersonWithSignificantControlService personWithSignificantControlService;
     private final TransactionService transactionService;
     private final PaymentService paymentService;
-    private final ApiClientService apiClientService;
+    private final AppointmentService appointmentService;
     private final CompanyService companyService;
     private final CostsService costsService;
     private final FilingKind filingKind;
+    private final ExecutorService filingAssemblyExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${FILING_CONCURRENT_ASSEMBLY_ENABLED:false}")
+    private boolean concurrentAssemblyEnabled;
 
     public FilingsService(LimitedPartnershipService limitedPartnershipService,
                           GeneralPartnerService generalPartnerService,
@@ -74,9 +101,11 @@ public class FilingsService {
                           TransactionService transactionService,
                           PaymentService paymentService,
                           FilingKind filingKind,
-                          ApiClientService apiClientService,
+                          AppointmentService appointmentService,
                           CompanyService companyService,
-                          CostsService costsService
+                          CostsService costsService,
+                          @Qualifier(FILING_ASSEMBLY_EXECUTOR) ExecutorService filingAssemblyExecutor,
+                          MeterRegistry meterRegistry
     ) {
 
         this.limitedPartnershipService = limitedPartnershipService;
@@ -86,9 +115,11 @@ public class FilingsService {
         this.transactionService = transactionService;
         this.paymentService = paymentService;
         this.filingKind = filingKind;
-        this.apiClientService = apiClientService;
+        this.appointmentService = appointmentService;
         this.companyService = companyService;
         this.costsService = costsService;
+        this.filingAssemblyExecutor = filingAssemblyExecutor;
+        this.meterRegistry = meterRegistry;
     }
 
     public FilingApi generateIncorporationFiling(Transaction transaction, String incorporationId) throws ServiceException {
@@ -111,19 +142,124 @@ public class FilingsService {
         var logMap = new HashMap<String, Object>();
         logMap.put(TRANSACTION_KEY, transaction.getId());
 
+        Timer.Sample assemblySample = Timer.start(meterRegistry);
+        Map<String, Object> data = concurrentAssemblyEnabled
+                ? assembleFilingDataConcurrently(transaction, logMap)
+                : assembleFilingDataSequentially(transaction, logMap);
+        assemblySample.stop(meterRegistry.timer(FILING_ASSEMBLY_METRIC, "mode", concurrentAssemblyEnabled ? "concurrent" : "sequential"));
+
+        filing.setData(data);
+        filing.setKind(transaction.getFilingMode());
+        setDescriptionFields(filing, transaction);
+    }
+
+    private Map<String, Object> assembleFilingDataSequentially(Transaction transaction, Map<String, Object> logMap) throws ServiceException {
         Map<String, Object> data = new HashMap<>();
 
-        var limitedPartnershipDto = limitedPartnershipService.getLimitedPartnership(transaction);
-        List<GeneralPartnerDataDto> generalPartnerDataList = generalPartnerService.getGeneralPartnerDataList(transaction);
-        List<LimitedPartnerDataDto> limitedPartnerDataList = limitedPartnerService.getLimitedPartnerDataList(transaction);
-        List<PersonWithSignificantControlDataDto> personsWithSignificantControlDataList = personWithSignificantControlService.getPersonWithSignificantControlDataList(transaction);
+        var limitedPartnershipDto = timeBranch(BRANCH_PARTNERSHIP,
+                () -> limitedPartnershipService.getLimitedPartnership(transaction));
+        List<GeneralPartnerDataDto> generalPartnerDataList = timeBranch(BRANCH_GENERAL_PARTNERS,
+                () -> generalPartnerService.getGeneralPartnerDataList(transaction));
+        List<LimitedPartnerDataDto> limitedPartnerDataList = timeBranch(BRANCH_LIMITED_PARTNERS,
+                () -> limitedPartnerService.getLimitedPartnerDataList(transaction));
+        List<PersonWithSignificantControlDataDto> personsWithSignificantControlDataList = timeBranch(BRANCH_PERSONS_WITH_SIGNIFICANT_CONTROL,
+                () -> personWithSignificantControlService.getPersonWithSignificantControlDataList(transaction));
 
         setSubmissionData(data, limitedPartnershipDto, generalPartnerDataList, limitedPartnerDataList, personsWithSignificantControlDataList, transaction, logMap);
 
-        setPaymentData(data, transaction);
-        filing.setData(data);
-        filing.setKind(transaction.getFilingMode());
-        setDescriptionFields(filing, transaction);
+        data.putAll(timeBranch(BRANCH_PAYMENT, () -> getPaymentData(transaction)));
+
+        return data;
+    }
+
+    /**
+     * Runs the four repository reads and the payment lookup at the same time and joins them in the order the sequential
+     * assembly would have run them, so the exception surfaced for a failing filing is the same in both modes. Once one
+     * branch has failed the remaining branches are cancelled.
+     */
+    private Map<String, Object> assembleFilingDataConcurrently(Transaction transaction, Map<String, Object> logMap) throws ServiceException {
+        Future<LimitedPartnershipDto> limitedPartnershipFuture = submitBranch(BRANCH_PARTNERSHIP,
+                () -> limitedPartnershipService.getLimitedPartnership(transaction));
+        Future<List<GeneralPartnerDataDto>> generalPartnersFuture = submitBranch(BRANCH_GENERAL_PARTNERS,
+                () -> generalPartnerService.getGeneralPartnerDataList(transaction));
+        Future<List<LimitedPartnerDataDto>> limitedPartnersFuture = submitBranch(BRANCH_LIMITED_PARTNERS,
+                () -> limitedPartnerService.getLimitedPartnerDataList(transaction));
+        Future<List<PersonWithSignificantControlDataDto>> personsWithSignificantControlFuture = submitBranch(BRANCH_PERSONS_WITH_SIGNIFICANT_CONTROL,
+                () -> personWithSignificantControlService.getPersonWithSignificantControlDataList(transaction));
+        Future<Map<String, Object>> paymentFuture = submitBranch(BRANCH_PAYMENT,
+                () -> getPaymentData(transaction));
+
+        List<Future<?>> branches = List.of(limitedPartnershipFuture, generalPartnersFuture, limitedPartnersFuture,
+                personsWithSignificantControlFuture, paymentFuture);
+
+        try {
+            Map<String, Object> data = new HashMap<>();
+
+            setSubmissionData(data,
+                    joinBranch(limitedPartnershipFuture),
+                    joinBranch(generalPartnersFuture),
+                    joinBranch(limitedPartnersFuture),
+                    joinBranch(personsWithSignificantControlFuture),
+                    transaction,
+                    logMap);
+
+            data.putAll(joinBranch(paymentFuture));
+
+            return data;
+        } catch (ServiceException | RuntimeException e) {
+            branches.forEach(branch -> branch.cancel(true));
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FilingBranch<T> {
+        T load() throws ServiceException;
+    }
+
+    private <T> Future<T> submitBranch(String branchName, FilingBranch<T> branch) {
+        // Hand the request attributes to the worker so request scoped state, such as the repository cache, is shared
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        return filingAssemblyExecutor.submit(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return timeBranch(branchName, branch);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    private <T> T timeBranch(String branchName, FilingBranch<T> branch) throws ServiceException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            return branch.load();
+        } catch (ServiceException | RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(FILING_ASSEMBLY_BRANCH_METRIC, "branch", branchName, "outcome", outcome));
+        }
+    }
+
+    private static <T> T joinBranch(Future<T> future) throws ServiceException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while assembling filing data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServiceException("Error assembling filing data: " + cause.getMessage(), cause);
+        }
     }
 
     private void setSubmissionData(Map<String, Object> data,
@@ -143,7 +279,7 @@ public class FilingsService {
             data.put(PERSON_WITH_SIGNIFICANT_CONTROL_FIELD, personsWithSignificantControlDataList);
         }
 
-        ApiLogger.info("Submission data has been set on filing", logMap);
+        ApiLogger.infoRateLimited(SUBMISSION_DATA_SET_LOG_CATEGORY, "Submission data has been set on filing", () -> logMap);
     }
 
     private void setDescriptionFields(FilingApi filing, Transaction transaction) {
@@ -166,6 +302,7 @@ public class FilingsService {
 
         String partnerKind = generalPartnerDataDto.getKind();
         if (PartnerKind.isUpdatePartnerKind(partnerKind) || PartnerKind.isRemovePartnerKind(partnerKind)) {
+            prefetchOtherPartnerAppointments(transaction, generalPartnerDataDto.getAppointmentId());
             AppointmentFullRecordAPI appointmentFullRecordAPI = getAppointmentFullRecordAPI(generalPartnerDataDto, transaction);
             setExtraData(generalPartnerDataDto, appointmentFullRecordAPI);
             setFieldValuesForUpdatePartnerChanges(generalPartnerDataDto, appointmentFullRecordAPI);
@@ -200,6 +337,7 @@ public class FilingsService {
 
         String partnerKind = limitedPartnerDataDto.getKind();
         if (PartnerKind.isUpdatePartnerKind(partnerKind) || PartnerKind.isRemovePartnerKind(partnerKind)) {
+            prefetchOtherPartnerAppointments(transaction, limitedPartnerDataDto.getAppointmentId());
             AppointmentFullRecordAPI appointmentFullRecordAPI = getAppointmentFullRecordAPI(limitedPartnerDataDto, transaction);
             setExtraData(limitedPartnerDataDto, appointmentFullRecordAPI);
             setFieldValuesForUpdatePartnerChanges(limitedPartnerDataDto, appointmentFullRecordAPI);
@@ -269,12 +407,33 @@ public class FilingsService {
     }
 
     private AppointmentFullRecordAPI getAppointmentFullRecordAPI(PartnerDataDto partnerDataDto, Transaction transaction) throws URIValidationException, ApiErrorResponseException {
-        String companyNumber = transaction.getCompanyNumber();
-        String appointmentId = partnerDataDto.getAppointmentId();
+        return appointmentService.getAppointment(transaction.getCompanyNumber(), partnerDataDto.getAppointmentId());
+    }
 
-        String uri = String.format("/company/%s/appointments/%s/full_record", companyNumber, appointmentId);
-        ApiResponse<AppointmentFullRecordAPI> response = apiClientService.getInternalApiClient().privateDeltaResourceHandler().getAppointment(uri).execute();
-        return response.getData();
+    /**
+     * Starts warming the appointment cache with the appointments referenced by the other update and remove partners on
+     * the transaction, so the filings generated for them next are served from the cache. This is done at most once per
+     * transaction within the cache TTL, and not at all when the requested appointment is already cached as that means
+     * an earlier filing for the transaction has been generated. The prefetch runs in the background, so this filing
+     * only waits for its own appointment.
+     */
+    private void prefetchOtherPartnerAppointments(Transaction transaction, String appointmentId) {
+        if (appointmentService.isAppointmentCached(transaction.getCompanyNumber(), appointmentId)
+                || !appointmentService.markTransactionPrefetched(transaction.getId())) {
+            return;
+        }
+
+        Stream<PartnerDataDto> partners = Stream.concat(
+                generalPartnerService.getGeneralPartnerDataList(transaction).stream(),
+                limitedPartnerService.getLimitedPartnerDataList(transaction).stream());
+
+        List<String> appointmentIds = partners
+                .filter(partner -> PartnerKind.isUpdatePartnerKind(partner.getKind()) || PartnerKind.isRemovePartnerKind(partner.getKind()))
+                .map(PartnerDataDto::getAppointmentId)
+                .filter(otherAppointmentId -> !Objects.equals(otherAppointmentId, appointmentId))
+                .toList();
+
+        appointmentService.prefetchAppointments(transaction.getCompanyNumber(), appointmentIds);
     }
 
     private void setSensitiveData(PartnerDataDto partnerDataDto, AppointmentFullRecordAPI appointmentFullRecordAPI) {
@@ -329,9 +488,9 @@ public class FilingsService {
                 return;
             }
 
-            partnerDataDto.setNationality1(Nationality.fromDescription(partnerNationality1));
+            partnerDataDto.setNationality1(ReferenceDataLookup.nationalityFromDescription(partnerNationality1));
 
-            Nationality nationality2FromDescription = Nationality.fromDescription(partnerNationality2);
+            Nationality nationality2FromDescription = ReferenceDataLookup.nationalityFromDescription(partnerNationality2);
             Nationality nationality2 = nationality2FromDescription == Nationality.UNKNOWN ? null : nationality2FromDescription;
             partnerDataDto.setNationality2(nationality2);
         } else {
@@ -443,14 +602,21 @@ public class FilingsService {
      * @throws ServiceException if an error occurs while retrieving payment information
      */
     private void setPaymentData(Map<String, Object> data, Transaction transaction) throws ServiceException {
+        data.putAll(getPaymentData(transaction));
+    }
+
+    private Map<String, Object> getPaymentData(Transaction transaction) throws ServiceException {
+        Map<String, Object> data = new HashMap<>();
+
         if (transaction.getLinks() == null || !StringUtils.isNotBlank(transaction.getLinks().getPayment())) {
             // Transaction has no payment link so no payment data to set
-            return;
+            return data;
         }
 
         var paymentReference = transactionService.getPaymentReference(transaction.getLinks().getPayment());
         var payment = paymentService.getPayment(paymentReference);
         data.put(FILING_PAYMENT_REFERENCE, paymentReference);
         data.put(FILING_PAYMENT_METHOD, payment.getPaymentMethod());
+        return data;
     }
 }
@@ -1,6 +1,8 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.GenerateEtagUtil;
 import uk.gov.companieshouse.api.model.payment.Cost;
@@ -11,24 +13,37 @@ import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.GeneralPartnerMapper;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.PartnerKind;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.GeneralPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.GeneralPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.NationalityUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNullElse;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_GENERAL_PARTNER;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNERSHIP;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_GENERAL_PARTNER;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.checkIfMatch;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.combineEtags;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.copyMetaDataForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.setAuditDetailsForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.Operation.DELETION;
@@ -43,33 +58,41 @@ public class GeneralPartnerService {
     private final GeneralPartnerValidator generalPartnerValidator;
     private final TransactionService transactionService;
     private final PostTransitionStrategyHandler postTransitionStrategyHandler;
+    private final ValidationContextFactory validationContextFactory;
+    private final SubmissionInserter submissionInserter;
+    private final SubmissionPatcher submissionPatcher;
+    private final ValidationResultCache validationResultCache;
+    private final ValidationExecutor validationExecutor;
 
     public GeneralPartnerService(GeneralPartnerRepository repository,
                                  GeneralPartnerMapper mapper,
                                  GeneralPartnerValidator generalPartnerValidator,
                                  TransactionService transactionService,
-                                 PostTransitionStrategyHandler postTransitionStrategyHandler
+                                 PostTransitionStrategyHandler postTransitionStrategyHandler,
+                                 ValidationContextFactory validationContextFactory,
+                                 SubmissionInserter submissionInserter,
+                                 SubmissionPatcher submissionPatcher,
+                                 ValidationResultCache validationResultCache,
+                                 ValidationExecutor validationExecutor
     ) {
         this.repository = repository;
         this.mapper = mapper;
         this.generalPartnerValidator = generalPartnerValidator;
         this.transactionService = transactionService;
         this.postTransitionStrategyHandler = postTransitionStrategyHandler;
+        this.validationContextFactory = validationContextFactory;
+        this.submissionInserter = submissionInserter;
+        this.submissionPatcher = submissionPatcher;
+        this.validationResultCache = validationResultCache;
+        this.validationExecutor = validationExecutor;
     }
 
-    public String createGeneralPartner(Transaction transaction, GeneralPartnerDto generalPartnerDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
-        var partnerKind = generalPartnerDto.getData().getKind();
-        if (PartnerKind.isRemoveGeneralPartnerKind(partnerKind)) {
-            generalPartnerValidator.validateRemove(generalPartnerDto, transaction);
-        } else if (PartnerKind.isUpdateGeneralPartnerKind(partnerKind)) {
-            generalPartnerValidator.validateUpdate(generalPartnerDto, transaction);
-        } else {
-            generalPartnerValidator.validatePartial(generalPartnerDto, transaction);
-        }
+    public String createGeneralPartner(Transaction transaction, GeneralPartnerDto generalPartnerDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
+        validateGeneralPartnerForCreate(transaction, generalPartnerDto);
 
         GeneralPartnerDao dao = mapper.dtoToDao(generalPartnerDto);
         GeneralPartnerDao insertedSubmission = insertDaoWithMetadata(requestId, transaction, userId, dao);
-        String submissionUri = linkAndSaveDao(transaction, insertedSubmission.getId(), dao);
+        String submissionUri = String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), insertedSubmission.getId());
 
         String kind = requireNonNullElse(insertedSubmission.getData().getKind(), FILING_KIND_LIMITED_PARTNERSHIP);
 
@@ -90,8 +113,92 @@ public class GeneralPartnerService {
         return insertedId;
     }
 
+    /**
+     * Creates all of the general partners, or none of them. Every partner is validated before anything is written, and
+     * the errors for the whole batch are reported together, each field prefixed with the index of its partner.
+     */
+    public List<String> createGeneralPartners(Transaction transaction, List<GeneralPartnerDto> generalPartnerDtos, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
+        BindingResult batchBindingResult = validationContextFactory.createBindingResult(generalPartnerDtos, GeneralPartnerDataDto.class);
+        if (generalPartnerDtos.size() > MAX_BATCH_SIZE) {
+            batchBindingResult.addError(new FieldError(GeneralPartnerDataDto.class.getName(), "general_partners",
+                    String.format("No more than %d general partners can be created at once", MAX_BATCH_SIZE)));
+            validationContextFactory.throwIfErrors(batchBindingResult, GeneralPartnerDataDto.class);
+        }
+        if (generalPartnerDtos.isEmpty()) {
+            batchBindingResult.addError(new FieldError(GeneralPartnerDataDto.class.getName(), "general_partners", "At least one general partner is required"));
+        }
+
+        for (int i = 0; i < generalPartnerDtos.size(); i++) {
+            try {
+                validateGeneralPartnerForCreate(transaction, generalPartnerDtos.get(i));
+            } catch (MethodArgumentNotValidException e) {
+                validationContextFactory.addItemErrors(batchBindingResult, i, e.getBindingResult());
+            }
+        }
+
+        validationContextFactory.throwIfErrors(batchBindingResult, GeneralPartnerDataDto.class);
+
+        List<GeneralPartnerDao> daos = new ArrayList<>();
+        for (GeneralPartnerDto generalPartnerDto : generalPartnerDtos) {
+            GeneralPartnerDao dao = mapper.dtoToDao(generalPartnerDto);
+            setMetadataForInsert(transaction, userId, dao);
+            setCompletion(transaction, dao, mapper.daoToDto(dao));
+            daos.add(dao);
+        }
+
+        String selfLinkPrefix = String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), "");
+        List<GeneralPartnerDao> insertedSubmissions = submissionInserter.insertAllWithSelfLinks(repository, daos, selfLinkPrefix,
+                submissionIds -> repository.saveSelfLinksByIdIn(submissionIds, selfLinkPrefix), requestId);
+        List<String> ids = insertedSubmissions.stream().map(GeneralPartnerDao::getId).toList();
+        String batchDescription = String.join(",", ids);
+        ApiLogger.infoContext(requestId, String.format("General Partner submissions created with ids: %s", batchDescription));
+
+        boolean isPostTransition = FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode());
+        Map<String, String> kindsBySubmissionUri = new LinkedHashMap<>();
+        Set<String> costedSubmissionUris = new HashSet<>();
+        for (int i = 0; i < insertedSubmissions.size(); i++) {
+            GeneralPartnerDao insertedSubmission = insertedSubmissions.get(i);
+            String submissionUri = String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), insertedSubmission.getId());
+            kindsBySubmissionUri.put(submissionUri, requireNonNullElse(insertedSubmission.getData().getKind(), FILING_KIND_LIMITED_PARTNERSHIP));
+
+            if (isPostTransition && postTransitionStrategyHandler.getCost(generalPartnerDtos.get(i)) != null) {
+                costedSubmissionUris.add(submissionUri);
+            }
+        }
+
+        executeWithTransactionalRollback(
+            requestId,
+            batchDescription,
+            () -> transactionService.updateTransactionWithLinksForResources(requestId, transaction, kindsBySubmissionUri, costedSubmissionUris),
+            INSERTION,
+            () -> repository.deleteAllById(ids));
+
+        return ids;
+    }
+
+    private void validateGeneralPartnerForCreate(Transaction transaction, GeneralPartnerDto generalPartnerDto) throws ServiceException, MethodArgumentNotValidException {
+        var partnerKind = generalPartnerDto.getData().getKind();
+        if (PartnerKind.isRemoveGeneralPartnerKind(partnerKind)) {
+            generalPartnerValidator.validateRemove(generalPartnerDto, transaction);
+        } else if (PartnerKind.isUpdateGeneralPartnerKind(partnerKind)) {
+            generalPartnerValidator.validateUpdate(generalPartnerDto, transaction);
+        } else {
+            generalPartnerValidator.validatePartial(generalPartnerDto, transaction);
+        }
+    }
+
     private GeneralPartnerDao insertDaoWithMetadata(
-            String requestId, Transaction transaction, String userId, GeneralPartnerDao dao) {
+            String requestId, Transaction transaction, String userId, GeneralPartnerDao dao) throws ServiceException {
+        setMetadataForInsert(transaction, userId, dao);
+        setCompletion(transaction, dao, mapper.daoToDto(dao));
+
+        GeneralPartnerDao insertedSubmission = submissionInserter.insertWithSelfLink(repository, dao,
+                submissionId -> String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), submissionId));
+        ApiLogger.infoContext(requestId, String.format("General Partner submission created with id: %s", insertedSubmission.getId()));
+        return insertedSubmission;
+    }
+
+    private void setMetadataForInsert(Transaction transaction, String userId, GeneralPartnerDao dao) {
         if (dao.getData().getKind() == null) {
             dao.getData().setKind(FILING_KIND_GENERAL_PARTNER);
         }
@@ -100,25 +207,15 @@ public class GeneralPartnerService {
         dao.setCreatedBy(userId);
         dao.setUpdatedBy(userId);
         dao.setTransactionId(transaction.getId());
-
-        GeneralPartnerDao insertedSubmission = repository.insert(dao);
-        ApiLogger.infoContext(requestId, String.format("General Partner submission created with id: %s", insertedSubmission.getId()));
-        return insertedSubmission;
     }
 
-    private String linkAndSaveDao(Transaction transaction, String submissionId, GeneralPartnerDao dao) {
-        var submissionUri = String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), submissionId);
-        dao.setLinks(Collections.singletonMap(LINK_SELF, submissionUri));
-        repository.save(dao);
-        return submissionUri;
-    }
-
-    public void updateGeneralPartner(Transaction transaction, String generalPartnerId, GeneralPartnerDataDto generalPartnerChangesDataDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public void updateGeneralPartner(Transaction transaction, String generalPartnerId, GeneralPartnerDataDto generalPartnerChangesDataDto, String requestId, String userId, String ifMatch) throws ServiceException, MethodArgumentNotValidException {
         var generalPartnerDaoBeforePatch = repository.findById(generalPartnerId).orElseThrow(() -> new ResourceNotFoundException(String.format("Submission with id %s not found", generalPartnerId)));
 
         String kind = requireNonNullElse(generalPartnerDaoBeforePatch.getData().getKind(), FILING_KIND_GENERAL_PARTNER);
 
         checkGeneralPartnerIsLinkedToTransaction(transaction, generalPartnerId, kind);
+        checkIfMatch(generalPartnerId, ifMatch, generalPartnerDaoBeforePatch.getData().getEtag());
 
         var generalPartnerDto = mapper.daoToDto(generalPartnerDaoBeforePatch);
 
@@ -139,10 +236,13 @@ public class GeneralPartnerService {
         // Need to ensure we don't lose the meta-data already set on the Mongo document (but lost when DAO is mapped to a DTO)
         copyMetaDataForPatch(generalPartnerDaoBeforePatch, generalPartnerDaoAfterPatch);
         setAuditDetailsForPatch(generalPartnerDaoAfterPatch, userId);
+        setCompletion(transaction, generalPartnerDaoAfterPatch, generalPartnerDto);
+        generalPartnerDaoAfterPatch.getData().setEtag(GenerateEtagUtil.generateEtag());
 
         ApiLogger.infoContext(requestId, String.format("General Partner updated with id: %s", generalPartnerId));
 
-        repository.save(generalPartnerDaoAfterPatch);
+        submissionPatcher.update(generalPartnerDaoBeforePatch, generalPartnerDaoAfterPatch,
+                generalPartnerDaoBeforePatch.getData().getEtag());
     }
 
     private void handleUpdateAddressRequiredOptionality(String kind, GeneralPartnerDataDto generalPartnerChangesDataDto, GeneralPartnerDataDto data) {
@@ -181,8 +281,25 @@ public class GeneralPartnerService {
         return mapper.daoToDto(generalPartnerDao);
     }
 
+    /**
+     * @return the etag of the general partner, read without loading the rest of it, or null if the partner is not found
+     * or has no etag, leaving the full read to decide the response
+     */
+    public String getGeneralPartnerEtag(Transaction transaction, String generalPartnerId) throws ResourceNotFoundException {
+        var generalPartnerDao = repository.findEtagById(generalPartnerId).orElse(null);
+        if (generalPartnerDao == null || generalPartnerDao.getData() == null || generalPartnerDao.getData().getEtag() == null) {
+            return null;
+        }
+
+        String kind = requireNonNullElse(generalPartnerDao.getData().getKind(), FILING_KIND_GENERAL_PARTNER);
+
+        checkGeneralPartnerIsLinkedToTransaction(transaction, generalPartnerId, kind);
+
+        return generalPartnerDao.getData().getEtag();
+    }
+
     public List<ValidationStatusError> validateGeneralPartner(Transaction transaction, String generalPartnerId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            throws ServiceException, MethodArgumentNotValidException {
         GeneralPartnerDto dto = getGeneralPartner(transaction, generalPartnerId);
 
         if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
@@ -193,36 +310,84 @@ public class GeneralPartnerService {
     }
 
     public List<ValidationStatusError> validateGeneralPartners(Transaction transaction) throws ServiceException {
-        List<GeneralPartnerDto> generalPartners = repository.findAllByTransactionIdOrderByUpdatedAtDesc(
-                transaction.getId()).stream().map(mapper::daoToDto).toList();
+        return validateGeneralPartners(transaction, repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()));
+    }
 
+    public List<ValidationStatusError> validateGeneralPartners(Transaction transaction, List<GeneralPartnerDao> generalPartnerDaos) throws ServiceException {
         List<ValidationStatusError> errors = new ArrayList<>();
 
-        if (generalPartners.isEmpty()) {
+        if (generalPartnerDaos.isEmpty()) {
             errors.add(new ValidationStatusError("At least one general partner is required", "general_partners", null, null));
 
             return errors;
         }
 
-        for (GeneralPartnerDto partner : generalPartners) {
-            errors.addAll(generalPartnerValidator.validateFull(partner, transaction, false));
+        return validationExecutor.validateAll(generalPartnerDaos, generalPartnerDao ->
+                validationResultCache.getOrValidate(generalPartnerDao.getId(), generalPartnerDao.getData().getEtag(), transaction,
+                        () -> generalPartnerValidator.validateFull(mapper.daoToDto(generalPartnerDao), transaction, false)));
+    }
+
+    public List<GeneralPartnerDto> getGeneralPartnerList(Transaction transaction) throws ServiceException {
+        return getGeneralPartnerList(transaction, repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()));
+    }
+
+    /**
+     * An etag for the general partners in the transaction, shared by the full and summary lists. It changes whenever a
+     * partner is added, removed or changed, or its stored completion status or the validator version changes.
+     */
+    public String getGeneralPartnerListEtag(Transaction transaction) {
+        List<String> itemVersions = new ArrayList<>();
+        itemVersions.add(String.valueOf(GeneralPartnerValidator.VERSION));
+
+        for (GeneralPartnerDao generalPartnerDao : repository.findEtagsByTransactionId(transaction.getId())) {
+            String etag = generalPartnerDao.getData() == null ? null : generalPartnerDao.getData().getEtag();
+            itemVersions.add(String.join(":", generalPartnerDao.getId(), etag, String.valueOf(generalPartnerDao.getUpdatedAt()),
+                    String.valueOf(generalPartnerDao.getCompleted()), String.valueOf(generalPartnerDao.getValidatorVersion())));
         }
 
-        return errors;
+        return combineEtags(itemVersions);
     }
 
-    public List<GeneralPartnerDto> getGeneralPartnerList(Transaction transaction) throws ServiceException {
-        List<GeneralPartnerDto> generalPartnerDtos = repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()).stream()
-                .map(mapper::daoToDto).toList();
+    public List<GeneralPartnerDto> getGeneralPartnerList(Transaction transaction, List<GeneralPartnerDao> generalPartnerDaos) throws ServiceException {
+        List<GeneralPartnerDto> generalPartnerDtos = new ArrayList<>();
 
-        for (GeneralPartnerDto generalPartnerDto : generalPartnerDtos) {
-            boolean isCompleted = generalPartnerValidator.validateFull(generalPartnerDto, transaction, false).isEmpty();
-            generalPartnerDto.getData().setCompleted(isCompleted);
+        for (GeneralPartnerDao generalPartnerDao : generalPartnerDaos) {
+            GeneralPartnerDto generalPartnerDto = mapper.daoToDto(generalPartnerDao);
+            generalPartnerDto.getData().setCompleted(isCompleted(transaction, generalPartnerDao, generalPartnerDto));
+            generalPartnerDtos.add(generalPartnerDto);
         }
 
         return generalPartnerDtos;
     }
 
+    /**
+     * Lists the general partners in the transaction with just their names and completion status. The status stored
+     * when each partner was written is used, and only partners stored by an older validator version are loaded in
+     * full to recompute it. Each summary is mapped straight from the document, without building the full partner.
+     */
+    public List<PartnerSummaryDto> getGeneralPartnerSummaryList(Transaction transaction) throws ServiceException {
+        List<GeneralPartnerDao> summaryDaos = repository.findSummariesByTransactionId(transaction.getId());
+
+        List<String> staleIds = summaryDaos.stream()
+                .filter(dao -> !dao.hasCompletionFor(GeneralPartnerValidator.VERSION))
+                .map(GeneralPartnerDao::getId)
+                .toList();
+
+        Map<String, GeneralPartnerDao> fullDaos = staleIds.isEmpty() ? Map.of() : repository.findAllById(staleIds).stream()
+                .collect(Collectors.toMap(GeneralPartnerDao::getId, Function.identity()));
+
+        List<PartnerSummaryDto> summaries = new ArrayList<>();
+        for (GeneralPartnerDao summaryDao : summaryDaos) {
+            GeneralPartnerDao generalPartnerDao = fullDaos.getOrDefault(summaryDao.getId(), summaryDao);
+            if (!generalPartnerDao.hasCompletionFor(GeneralPartnerValidator.VERSION)) {
+                isCompleted(transaction, generalPartnerDao, mapper.daoToDto(generalPartnerDao));
+            }
+            summaries.add(mapper.daoToSummaryDto(generalPartnerDao));
+        }
+
+        return summaries;
+    }
+
     public List<GeneralPartnerDataDto> getGeneralPartnerDataList(Transaction transaction) {
         return repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()).stream()
                 .map(mapper::daoToDto)
@@ -230,17 +395,18 @@ public class GeneralPartnerService {
                 .toList();
     }
 
-    public void deleteGeneralPartner(Transaction transaction, String generalPartnerId, String requestId) throws ServiceException {
+    public void deleteGeneralPartner(Transaction transaction, String generalPartnerId, String requestId, String ifMatch) throws ServiceException {
         GeneralPartnerDao generalPartnerDao = repository.findById(generalPartnerId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("General partner with id %s not found", generalPartnerId)));
 
         String kind = requireNonNullElse(generalPartnerDao.getData().getKind(), FILING_KIND_GENERAL_PARTNER);
 
         checkGeneralPartnerIsLinkedToTransaction(transaction, generalPartnerId, kind);
+        checkIfMatch(generalPartnerId, ifMatch, generalPartnerDao.getData().getEtag());
 
         var submissionUri = String.format(URL_GET_GENERAL_PARTNER, transaction.getId(), generalPartnerId);
 
-        repository.deleteById(generalPartnerDao.getId());
+        submissionPatcher.delete(generalPartnerDao, generalPartnerDao.getData().getEtag());
 
         executeWithTransactionalRollback(
             requestId,
@@ -252,6 +418,29 @@ public class GeneralPartnerService {
         ApiLogger.infoContext(requestId, String.format("General Partner deleted with id: %s", generalPartnerId));
     }
 
+    private void setCompletion(Transaction transaction, GeneralPartnerDao dao, GeneralPartnerDto dto) throws ServiceException {
+        boolean isCompleted = generalPartnerValidator.validateFull(dto, transaction, false).isEmpty();
+        dao.setCompletion(isCompleted, GeneralPartnerValidator.VERSION);
+    }
+
+    /*
+     * Uses the completed flag stored with the partner when it was written by the current validator version. Otherwise
+     * the flag is recomputed and stored, so the next read does not have to validate the partner again.
+     */
+    private boolean isCompleted(Transaction transaction, GeneralPartnerDao dao, GeneralPartnerDto dto) throws ServiceException {
+        if (dao.hasCompletionFor(GeneralPartnerValidator.VERSION)) {
+            return dao.getCompleted();
+        }
+
+        boolean isCompleted = generalPartnerValidator.validateFull(dto, transaction, false).isEmpty();
+        if (dao.getId() != null) {
+            repository.saveCompletionById(dao.getId(), isCompleted, GeneralPartnerValidator.VERSION);
+        }
+        dao.setCompletion(isCompleted, GeneralPartnerValidator.VERSION);
+
+        return isCompleted;
+    }
+
     private void checkGeneralPartnerIsLinkedToTransaction(Transaction transaction, String generalPartnerId, String kind) throws ResourceNotFoundException {
         String transactionId = transaction.getId();
         var submissionUri = String.format(URL_GET_GENERAL_PARTNER, transactionId, generalPartnerId);
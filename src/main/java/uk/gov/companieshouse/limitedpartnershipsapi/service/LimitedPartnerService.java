@@ -1,6 +1,8 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.GenerateEtagUtil;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
@@ -11,26 +13,37 @@ import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnerMapper;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.PartnerKind;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.PartnershipType;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.NationalityUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNullElse;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNER;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNERSHIP;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_LIMITED_PARTNER;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.checkIfMatch;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.combineEtags;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.copyMetaDataForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.setAuditDetailsForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.Operation.DELETION;
@@ -47,6 +60,11 @@ public class LimitedPartnerService {
     private final LimitedPartnershipService limitedPartnershipService;
     private final CompanyService companyService;
     private final PostTransitionStrategyHandler postTransitionStrategyHandler;
+    private final ValidationContextFactory validationContextFactory;
+    private final SubmissionInserter submissionInserter;
+    private final SubmissionPatcher submissionPatcher;
+    private final ValidationResultCache validationResultCache;
+    private final ValidationExecutor validationExecutor;
 
     public LimitedPartnerService(LimitedPartnerRepository repository,
                                  LimitedPartnerMapper mapper,
@@ -54,7 +72,12 @@ public class LimitedPartnerService {
                                  TransactionService transactionService,
                                  LimitedPartnershipService limitedPartnershipService,
                                  CompanyService companyService,
-                                 PostTransitionStrategyHandler postTransitionStrategyHandler
+                                 PostTransitionStrategyHandler postTransitionStrategyHandler,
+                                 ValidationContextFactory validationContextFactory,
+                                 SubmissionInserter submissionInserter,
+                                 SubmissionPatcher submissionPatcher,
+                                 ValidationResultCache validationResultCache,
+                                 ValidationExecutor validationExecutor
     ) {
         this.repository = repository;
         this.mapper = mapper;
@@ -63,33 +86,23 @@ public class LimitedPartnerService {
         this.limitedPartnershipService = limitedPartnershipService;
         this.companyService = companyService;
         this.postTransitionStrategyHandler = postTransitionStrategyHandler;
+        this.validationContextFactory = validationContextFactory;
+        this.submissionInserter = submissionInserter;
+        this.submissionPatcher = submissionPatcher;
+        this.validationResultCache = validationResultCache;
+        this.validationExecutor = validationExecutor;
     }
 
-    public String createLimitedPartner(Transaction transaction, LimitedPartnerDto limitedPartnerDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
-        PartnershipType partnershipType;
-        if (!FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
-            LimitedPartnershipDto limitedPartnershipDto = limitedPartnershipService.getLimitedPartnership(transaction);
-            limitedPartnerDto.getData().setPartnershipType(limitedPartnershipDto.getData().getPartnershipType());
-            partnershipType = limitedPartnershipDto.getData().getPartnershipType();
-        } else {
-            CompanyProfileApi companyProfile = companyService.getCompanyProfile(transaction.getCompanyNumber());
-            partnershipType = PartnershipType.fromValue(companyProfile.getSubtype());
-        }
+    public String createLimitedPartner(Transaction transaction, LimitedPartnerDto limitedPartnerDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
+        PartnershipType partnershipType = getPartnershipType(transaction, List.of(limitedPartnerDto));
 
-        var partnerKind = limitedPartnerDto.getData().getKind();
-        if (PartnerKind.isRemoveLimitedPartnerKind(partnerKind)) {
-            limitedPartnerValidator.validateRemove(limitedPartnerDto, transaction);
-        } else if (PartnerKind.isUpdateLimitedPartnerKind(partnerKind)) {
-            limitedPartnerValidator.validateUpdate(limitedPartnerDto, transaction);
-        } else {
-            limitedPartnerValidator.validatePartial(limitedPartnerDto, transaction);
-        }
+        validateLimitedPartnerForCreate(transaction, limitedPartnerDto);
 
         LimitedPartnerDao dao = mapper.dtoToDao(limitedPartnerDto);
         dao.getData().setPartnershipType(partnershipType);
 
         LimitedPartnerDao insertedSubmission = insertDaoWithMetadata(requestId, transaction, userId, dao);
-        String submissionUri = linkAndSaveDao(transaction, insertedSubmission.getId(), dao);
+        String submissionUri = String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), insertedSubmission.getId());
 
         String kind = requireNonNullElse(insertedSubmission.getData().getKind(), FILING_KIND_LIMITED_PARTNERSHIP);
 
@@ -104,8 +117,114 @@ public class LimitedPartnerService {
         return insertedSubmission.getId();
     }
 
+    /**
+     * Creates a batch of limited partners. Every partner is validated before anything is written. The batch is then
+     * inserted with one insertMany (see {@link SubmissionInserter} for how the self links are set) and added to the
+     * transaction in one PATCH. If anything after the insert fails, the whole batch is deleted again.
+     *
+     * @return the ids of the new limited partners, in the order they were given
+     * @throws MethodArgumentNotValidException if any partner is invalid. The field of each error is prefixed with
+     *                                         the index of the partner it belongs to
+     */
+    public List<String> createLimitedPartners(Transaction transaction, List<LimitedPartnerDto> limitedPartnerDtos, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
+        BindingResult batchBindingResult = validationContextFactory.createBindingResult(limitedPartnerDtos, LimitedPartnerDataDto.class);
+        if (limitedPartnerDtos.size() > MAX_BATCH_SIZE) {
+            // Rejected before anything is read or validated, so an oversized batch costs no more than a small one
+            batchBindingResult.addError(new FieldError(LimitedPartnerDataDto.class.getName(), "limited_partners",
+                    String.format("No more than %d limited partners can be created at once", MAX_BATCH_SIZE)));
+            validationContextFactory.throwIfErrors(batchBindingResult, LimitedPartnerDataDto.class);
+        }
+
+        PartnershipType partnershipType = getPartnershipType(transaction, limitedPartnerDtos);
+
+        if (limitedPartnerDtos.isEmpty()) {
+            batchBindingResult.addError(new FieldError(LimitedPartnerDataDto.class.getName(), "limited_partners", "At least one limited partner is required"));
+        }
+
+        for (int i = 0; i < limitedPartnerDtos.size(); i++) {
+            try {
+                validateLimitedPartnerForCreate(transaction, limitedPartnerDtos.get(i));
+            } catch (MethodArgumentNotValidException e) {
+                validationContextFactory.addItemErrors(batchBindingResult, i, e.getBindingResult());
+            }
+        }
+
+        validationContextFactory.throwIfErrors(batchBindingResult, LimitedPartnerDataDto.class);
+
+        List<LimitedPartnerDao> daos = new ArrayList<>();
+        for (LimitedPartnerDto limitedPartnerDto : limitedPartnerDtos) {
+            LimitedPartnerDao dao = mapper.dtoToDao(limitedPartnerDto);
+            dao.getData().setPartnershipType(partnershipType);
+            setMetadataForInsert(transaction, userId, dao);
+            setCompletion(transaction, dao, mapper.daoToDto(dao));
+            daos.add(dao);
+        }
+
+        String selfLinkPrefix = String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), "");
+        List<LimitedPartnerDao> insertedSubmissions = submissionInserter.insertAllWithSelfLinks(repository, daos, selfLinkPrefix,
+                submissionIds -> repository.saveSelfLinksByIdIn(submissionIds, selfLinkPrefix), requestId);
+        List<String> ids = insertedSubmissions.stream().map(LimitedPartnerDao::getId).toList();
+        String batchDescription = String.join(",", ids);
+        ApiLogger.infoContext(requestId, String.format("Limited Partner submissions created with ids: %s", batchDescription));
+
+        Map<String, String> kindsBySubmissionUri = new LinkedHashMap<>();
+        for (LimitedPartnerDao insertedSubmission : insertedSubmissions) {
+            kindsBySubmissionUri.put(
+                    String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), insertedSubmission.getId()),
+                    insertedSubmission.getData().getKind());
+        }
+
+        executeWithTransactionalRollback(
+            requestId,
+            batchDescription,
+            () -> transactionService.updateTransactionWithLinksForResources(requestId, transaction, kindsBySubmissionUri),
+            INSERTION,
+            () -> repository.deleteAllById(ids)
+        );
+
+        return ids;
+    }
+
+    /*
+     * During registration and transition the partnership type comes from the partnership in the transaction, and is
+     * also copied onto each partner so that its capital contribution can be validated. Post transition it comes from
+     * the company profile.
+     */
+    private PartnershipType getPartnershipType(Transaction transaction, List<LimitedPartnerDto> limitedPartnerDtos) throws ServiceException {
+        if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
+            CompanyProfileApi companyProfile = companyService.getCompanyProfile(transaction.getCompanyNumber());
+            return PartnershipType.fromValue(companyProfile.getSubtype());
+        }
+
+        LimitedPartnershipDto limitedPartnershipDto = limitedPartnershipService.getLimitedPartnership(transaction);
+        PartnershipType partnershipType = limitedPartnershipDto.getData().getPartnershipType();
+        limitedPartnerDtos.forEach(limitedPartnerDto -> limitedPartnerDto.getData().setPartnershipType(partnershipType));
+        return partnershipType;
+    }
+
+    private void validateLimitedPartnerForCreate(Transaction transaction, LimitedPartnerDto limitedPartnerDto) throws ServiceException, MethodArgumentNotValidException {
+        var partnerKind = limitedPartnerDto.getData().getKind();
+        if (PartnerKind.isRemoveLimitedPartnerKind(partnerKind)) {
+            limitedPartnerValidator.validateRemove(limitedPartnerDto, transaction);
+        } else if (PartnerKind.isUpdateLimitedPartnerKind(partnerKind)) {
+            limitedPartnerValidator.validateUpdate(limitedPartnerDto, transaction);
+        } else {
+            limitedPartnerValidator.validatePartial(limitedPartnerDto, transaction);
+        }
+    }
+
     private LimitedPartnerDao insertDaoWithMetadata(
-            String requestId, Transaction transaction, String userId, LimitedPartnerDao dao) {
+            String requestId, Transaction transaction, String userId, LimitedPartnerDao dao) throws ServiceException {
+        setMetadataForInsert(transaction, userId, dao);
+        setCompletion(transaction, dao, mapper.daoToDto(dao));
+
+        LimitedPartnerDao insertedSubmission = submissionInserter.insertWithSelfLink(repository, dao,
+                submissionId -> String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), submissionId));
+        ApiLogger.infoContext(requestId, String.format("Limited Partner submission created with id: %s", insertedSubmission.getId()));
+        return insertedSubmission;
+    }
+
+    private void setMetadataForInsert(Transaction transaction, String userId, LimitedPartnerDao dao) {
         if (dao.getData().getKind() == null) {
             dao.getData().setKind(FILING_KIND_LIMITED_PARTNER);
         }
@@ -114,25 +233,15 @@ public class LimitedPartnerService {
         dao.setCreatedBy(userId);
         dao.setTransactionId(transaction.getId());
         dao.setUpdatedBy(userId);
-
-        LimitedPartnerDao insertedSubmission = repository.insert(dao);
-        ApiLogger.infoContext(requestId, String.format("Limited Partner submission created with id: %s", insertedSubmission.getId()));
-        return insertedSubmission;
     }
 
-    private String linkAndSaveDao(Transaction transaction, String submissionId, LimitedPartnerDao dao) {
-        var submissionUri = String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), submissionId);
-        dao.setLinks(Collections.singletonMap(LINK_SELF, submissionUri));
-        repository.save(dao);
-        return submissionUri;
-    }
-
-    public void updateLimitedPartner(Transaction transaction, String limitedPartnerId, LimitedPartnerDataDto limitedPartnerChangesDataDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public void updateLimitedPartner(Transaction transaction, String limitedPartnerId, LimitedPartnerDataDto limitedPartnerChangesDataDto, String requestId, String userId, String ifMatch) throws ServiceException, MethodArgumentNotValidException {
         var limitedPartnerDaoBeforePatch = repository.findById(limitedPartnerId).orElseThrow(() -> new ResourceNotFoundException(String.format("Submission with id %s not found", limitedPartnerId)));
 
         String kind = requireNonNullElse(limitedPartnerDaoBeforePatch.getData().getKind(), FILING_KIND_LIMITED_PARTNER);
 
         checkLimitedPartnerIsLinkedToTransaction(transaction, limitedPartnerId, kind);
+        checkIfMatch(limitedPartnerId, ifMatch, limitedPartnerDaoBeforePatch.getData().getEtag());
 
         var limitedPartnerDto = mapper.daoToDto(limitedPartnerDaoBeforePatch);
 
@@ -153,10 +262,13 @@ public class LimitedPartnerService {
         // Need to ensure we don't lose the meta-data already set on the Mongo document (but lost when DAO is mapped to a DTO)
         copyMetaDataForPatch(limitedPartnerDaoBeforePatch, limitedPartnerDaoAfterPatch);
         setAuditDetailsForPatch(limitedPartnerDaoAfterPatch, userId);
+        setCompletion(transaction, limitedPartnerDaoAfterPatch, limitedPartnerDto);
+        limitedPartnerDaoAfterPatch.getData().setEtag(GenerateEtagUtil.generateEtag());
 
         ApiLogger.infoContext(requestId, String.format("Limited Partner updated with id: %s", limitedPartnerId));
 
-        repository.save(limitedPartnerDaoAfterPatch);
+        submissionPatcher.update(limitedPartnerDaoBeforePatch, limitedPartnerDaoAfterPatch,
+                limitedPartnerDaoBeforePatch.getData().getEtag());
     }
 
     private void handleUpdateAddressRequiredOptionality(String kind, LimitedPartnerDataDto limitedPartnerChangesDataDto, LimitedPartnerDataDto data) {
@@ -189,6 +301,23 @@ public class LimitedPartnerService {
         return mapper.daoToDto(limitedPartnerDao);
     }
 
+    /**
+     * @return the etag of the limited partner, read without loading the rest of it, or null if the partner is not found
+     * or has no etag, leaving the full read to decide the response
+     */
+    public String getLimitedPartnerEtag(Transaction transaction, String limitedPartnerId) throws ResourceNotFoundException {
+        var limitedPartnerDao = repository.findEtagById(limitedPartnerId).orElse(null);
+        if (limitedPartnerDao == null || limitedPartnerDao.getData() == null || limitedPartnerDao.getData().getEtag() == null) {
+            return null;
+        }
+
+        String kind = requireNonNullElse(limitedPartnerDao.getData().getKind(), FILING_KIND_LIMITED_PARTNER);
+
+        checkLimitedPartnerIsLinkedToTransaction(transaction, limitedPartnerId, kind);
+
+        return limitedPartnerDao.getData().getEtag();
+    }
+
     public List<LimitedPartnerDataDto> getLimitedPartnerDataList(Transaction transaction) {
         return repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()).stream()
                 .map(mapper::daoToDto)
@@ -197,29 +326,78 @@ public class LimitedPartnerService {
     }
 
     public List<LimitedPartnerDto> getLimitedPartnerList(Transaction transaction) throws ServiceException {
-        List<LimitedPartnerDto> limitedPartnerDtos = repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()).stream()
-                .map(mapper::daoToDto)
-                .toList();
+        return getLimitedPartnerList(transaction, repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()));
+    }
 
-        for (LimitedPartnerDto limitedPartnerDto : limitedPartnerDtos) {
-            boolean isCompleted = limitedPartnerValidator.validateFull(limitedPartnerDto, transaction, false).isEmpty();
-            limitedPartnerDto.getData().setCompleted(isCompleted);
+    /**
+     * An etag for the limited partners in the transaction, used for both the full and the summary list. Adding,
+     * removing or changing a partner changes it, as does a new stored completion status or validator version.
+     */
+    public String getLimitedPartnerListEtag(Transaction transaction) {
+        List<String> itemVersions = new ArrayList<>();
+        itemVersions.add(String.valueOf(LimitedPartnerValidator.VERSION));
+
+        for (LimitedPartnerDao limitedPartnerDao : repository.findEtagsByTransactionId(transaction.getId())) {
+            String etag = limitedPartnerDao.getData() == null ? null : limitedPartnerDao.getData().getEtag();
+            itemVersions.add(String.join(":", limitedPartnerDao.getId(), etag, String.valueOf(limitedPartnerDao.getUpdatedAt()),
+                    String.valueOf(limitedPartnerDao.getCompleted()), String.valueOf(limitedPartnerDao.getValidatorVersion())));
+        }
+
+        return combineEtags(itemVersions);
+    }
+
+    public List<LimitedPartnerDto> getLimitedPartnerList(Transaction transaction, List<LimitedPartnerDao> limitedPartnerDaos) throws ServiceException {
+        List<LimitedPartnerDto> limitedPartnerDtos = new ArrayList<>();
+
+        for (LimitedPartnerDao limitedPartnerDao : limitedPartnerDaos) {
+            LimitedPartnerDto limitedPartnerDto = mapper.daoToDto(limitedPartnerDao);
+            limitedPartnerDto.getData().setCompleted(isCompleted(transaction, limitedPartnerDao, limitedPartnerDto));
+            limitedPartnerDtos.add(limitedPartnerDto);
         }
 
         return limitedPartnerDtos;
     }
 
-    public void deleteLimitedPartner(Transaction transaction, String limitedPartnerId, String requestId) throws ServiceException {
+    /**
+     * Lists the limited partners in the transaction with just their names and completion status. Partners whose
+     * stored status predates the current validator version are reloaded in full so that it can be recomputed. Each
+     * summary is mapped straight from the document, without building the full partner.
+     */
+    public List<PartnerSummaryDto> getLimitedPartnerSummaryList(Transaction transaction) throws ServiceException {
+        List<LimitedPartnerDao> summaryDaos = repository.findSummariesByTransactionId(transaction.getId());
+
+        List<String> staleIds = summaryDaos.stream()
+                .filter(dao -> !dao.hasCompletionFor(LimitedPartnerValidator.VERSION))
+                .map(LimitedPartnerDao::getId)
+                .toList();
+
+        Map<String, LimitedPartnerDao> fullDaos = staleIds.isEmpty() ? Map.of() : repository.findAllById(staleIds).stream()
+                .collect(Collectors.toMap(LimitedPartnerDao::getId, Function.identity()));
+
+        List<PartnerSummaryDto> summaries = new ArrayList<>();
+        for (LimitedPartnerDao summaryDao : summaryDaos) {
+            LimitedPartnerDao limitedPartnerDao = fullDaos.getOrDefault(summaryDao.getId(), summaryDao);
+            if (!limitedPartnerDao.hasCompletionFor(LimitedPartnerValidator.VERSION)) {
+                isCompleted(transaction, limitedPartnerDao, mapper.daoToDto(limitedPartnerDao));
+            }
+            summaries.add(mapper.daoToSummaryDto(limitedPartnerDao));
+        }
+
+        return summaries;
+    }
+
+    public void deleteLimitedPartner(Transaction transaction, String limitedPartnerId, String requestId, String ifMatch) throws ServiceException {
         LimitedPartnerDao limitedPartnerDao = repository.findById(limitedPartnerId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Limited partner with id %s not found", limitedPartnerId)));
 
         String kind = requireNonNullElse(limitedPartnerDao.getData().getKind(), FILING_KIND_LIMITED_PARTNER);
 
         checkLimitedPartnerIsLinkedToTransaction(transaction, limitedPartnerId, kind);
+        checkIfMatch(limitedPartnerId, ifMatch, limitedPartnerDao.getData().getEtag());
 
         var submissionUri = String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), limitedPartnerId);
 
-        repository.deleteById(limitedPartnerDao.getId());
+        submissionPatcher.delete(limitedPartnerDao, limitedPartnerDao.getData().getEtag());
 
         executeWithTransactionalRollback(
             requestId,
@@ -233,7 +411,7 @@ public class LimitedPartnerService {
     }
 
     public List<ValidationStatusError> validateLimitedPartner(Transaction transaction, String limitedPartnerId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            throws ServiceException, MethodArgumentNotValidException {
         LimitedPartnerDto dto = getLimitedPartner(transaction, limitedPartnerId);
 
         if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
@@ -244,22 +422,44 @@ public class LimitedPartnerService {
     }
 
     public List<ValidationStatusError> validateLimitedPartners(Transaction transaction) throws ServiceException {
-        List<LimitedPartnerDto> limitedPartners = repository.findAllByTransactionIdOrderByUpdatedAtDesc(
-                transaction.getId()).stream().map(mapper::daoToDto).toList();
+        return validateLimitedPartners(transaction, repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()));
+    }
 
+    public List<ValidationStatusError> validateLimitedPartners(Transaction transaction, List<LimitedPartnerDao> limitedPartnerDaos) throws ServiceException {
         List<ValidationStatusError> errors = new ArrayList<>();
 
-        if (limitedPartners.isEmpty()) {
+        if (limitedPartnerDaos.isEmpty()) {
             errors.add(new ValidationStatusError("At least one limited partner is required", "limited_partners", null, null));
 
             return errors;
         }
 
-        for (LimitedPartnerDto partner : limitedPartners) {
-            errors.addAll(limitedPartnerValidator.validateFull(partner, transaction, false));
+        return validationExecutor.validateAll(limitedPartnerDaos, limitedPartnerDao ->
+                validationResultCache.getOrValidate(limitedPartnerDao.getId(), limitedPartnerDao.getData().getEtag(), transaction,
+                        () -> limitedPartnerValidator.validateFull(mapper.daoToDto(limitedPartnerDao), transaction, false)));
+    }
+
+    private void setCompletion(Transaction transaction, LimitedPartnerDao dao, LimitedPartnerDto dto) throws ServiceException {
+        boolean isCompleted = limitedPartnerValidator.validateFull(dto, transaction, false).isEmpty();
+        dao.setCompletion(isCompleted, LimitedPartnerValidator.VERSION);
+    }
+
+    /*
+     * The completed flag is normally the one stored when the partner was last written. If it was stored by an older
+     * validator version (or before the flag existed) it is worked out again here and written back.
+     */
+    private boolean isCompleted(Transaction transaction, LimitedPartnerDao dao, LimitedPartnerDto dto) throws ServiceException {
+        if (dao.hasCompletionFor(LimitedPartnerValidator.VERSION)) {
+            return dao.getCompleted();
+        }
+
+        boolean isCompleted = limitedPartnerValidator.validateFull(dto, transaction, false).isEmpty();
+        if (dao.getId() != null) {
+            repository.saveCompletionById(dao.getId(), isCompleted, LimitedPartnerValidator.VERSION);
         }
+        dao.setCompletion(isCompleted, LimitedPartnerValidator.VERSION);
 
-        return errors;
+        return isCompleted;
     }
 
     private void checkLimitedPartnerIsLinkedToTransaction(Transaction transaction, String limitedPartnerId, String kind) throws ResourceNotFoundException {
@@ -14,6 +14,9 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dto.Inco
 import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dto.IncorporationSubResourcesDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dto.LimitedPartnershipIncorporationDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraph;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraphLoader;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,7 +27,6 @@ import java.util.Map;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.COSTS_URI_SUFFIX;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_COSTS;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_RESOURCE;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_VALIDATION_STATUS;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_INCORPORATION;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.VALIDATION_STATUS_URI_SUFFIX;
@@ -45,6 +47,8 @@ public class LimitedPartnershipIncorporationService {
 
     private final LimitedPartnershipIncorporationMapper mapper;
     private final PersonWithSignificantControlService personWithSignificantControlService;
+    private final TransactionSubmissionGraphLoader transactionSubmissionGraphLoader;
+    private final SubmissionInserter submissionInserter;
 
     public LimitedPartnershipIncorporationService(
             GeneralPartnerService generalPartnerService,
@@ -53,7 +57,9 @@ public class LimitedPartnershipIncorporationService {
             LimitedPartnershipIncorporationRepository repository,
             LimitedPartnershipIncorporationMapper mapper,
             TransactionService transactionService,
-            PersonWithSignificantControlService personWithSignificantControlService) {
+            PersonWithSignificantControlService personWithSignificantControlService,
+            TransactionSubmissionGraphLoader transactionSubmissionGraphLoader,
+            SubmissionInserter submissionInserter) {
         this.generalPartnerService = generalPartnerService;
         this.limitedPartnerService = limitedPartnerService;
         this.limitedPartnershipService = limitedPartnershipService;
@@ -61,6 +67,8 @@ public class LimitedPartnershipIncorporationService {
         this.mapper = mapper;
         this.transactionService = transactionService;
         this.personWithSignificantControlService = personWithSignificantControlService;
+        this.transactionSubmissionGraphLoader = transactionSubmissionGraphLoader;
+        this.submissionInserter = submissionInserter;
     }
 
     public String createIncorporation(Transaction transaction, IncorporationDto incorporationDto, String requestId, String userId)
@@ -72,12 +80,12 @@ public class LimitedPartnershipIncorporationService {
         dao.getData().setEtag(GenerateEtagUtil.generateEtag());
         dao.setCreatedBy(userId);
 
-        LimitedPartnershipIncorporationDao insertedIncorporation = repository.insert(dao);
+        LimitedPartnershipIncorporationDao insertedIncorporation = submissionInserter.insertWithSelfLink(repository, dao,
+                incorporationId -> getSubmissionUri(transaction.getId(), incorporationId));
 
         transaction.setFilingMode(kind);
 
         String incorporationUri = getSubmissionUri(transaction.getId(), insertedIncorporation.getId());
-        updateIncorporationTypeWithSelfLink(dao, incorporationUri);
 
         executeWithTransactionalRollback(
             requestId,
@@ -95,7 +103,7 @@ public class LimitedPartnershipIncorporationService {
         var incorporationTransactionResource = createIncorporationTransactionResource(incorporationUri, kind, transaction);
 
         transaction.setResources(Collections.singletonMap(incorporationUri, incorporationTransactionResource));
-        transactionService.updateTransaction(transaction, loggingContext);
+        transactionService.updateTransactionResources(transaction, loggingContext);
     }
 
     private Resource createIncorporationTransactionResource(String incorporationUri, String kind, Transaction transaction) {
@@ -131,10 +139,11 @@ public class LimitedPartnershipIncorporationService {
 
         if (includeSubResources) {
             var subResourcesDto = new IncorporationSubResourcesDto();
+            TransactionSubmissionGraph graph = transactionSubmissionGraphLoader.load(transaction.getId());
 
-            subResourcesDto.setGeneralPartners(generalPartnerService.getGeneralPartnerList(transaction));
-            subResourcesDto.setLimitedPartners(limitedPartnerService.getLimitedPartnerList(transaction));
-            subResourcesDto.setPartnership(limitedPartnershipService.getLimitedPartnership(transaction));
+            subResourcesDto.setGeneralPartners(generalPartnerService.getGeneralPartnerList(transaction, graph.generalPartners()));
+            subResourcesDto.setLimitedPartners(limitedPartnerService.getLimitedPartnerList(transaction, graph.limitedPartners()));
+            subResourcesDto.setPartnership(limitedPartnershipService.getLimitedPartnership(transaction, graph.limitedPartnerships()));
 
             incorporationDto.setSubResources(subResourcesDto);
         }
@@ -143,23 +152,18 @@ public class LimitedPartnershipIncorporationService {
     }
 
     public List<ValidationStatusError> validateIncorporation(Transaction transaction)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+            throws ServiceException, MethodArgumentNotValidException {
         List<ValidationStatusError> errors = new ArrayList<>();
+        TransactionSubmissionGraph graph = transactionSubmissionGraphLoader.load(transaction.getId());
 
-        errors.addAll(limitedPartnershipService.validateLimitedPartnership(transaction));
-        errors.addAll(generalPartnerService.validateGeneralPartners(transaction));
-        errors.addAll(limitedPartnerService.validateLimitedPartners(transaction));
-        errors.addAll(personWithSignificantControlService.validatePersonsWithSignificantControl(transaction));
+        errors.addAll(limitedPartnershipService.validateLimitedPartnership(transaction, graph.limitedPartnerships()));
+        errors.addAll(generalPartnerService.validateGeneralPartners(transaction, graph.generalPartners()));
+        errors.addAll(limitedPartnerService.validateLimitedPartners(transaction, graph.limitedPartners()));
+        errors.addAll(personWithSignificantControlService.validatePersonsWithSignificantControl(transaction, graph.personsWithSignificantControl()));
 
         return errors;
     }
 
-    private void updateIncorporationTypeWithSelfLink(LimitedPartnershipIncorporationDao incorporationDao,
-                                                     String submissionUri) {
-        incorporationDao.setLinks(Collections.singletonMap(LINK_SELF, submissionUri));
-        repository.save(incorporationDao);
-    }
-
     private String getSubmissionUri(String transactionId, String submissionId) {
         return String.format(URL_GET_INCORPORATION, transactionId, submissionId);
     }
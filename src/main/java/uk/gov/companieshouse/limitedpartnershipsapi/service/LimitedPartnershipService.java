@@ -3,6 +3,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.gov.companieshouse.GenerateEtagUtil;
 import uk.gov.companieshouse.api.model.payment.Cost;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -16,19 +17,21 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.Limite
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipPatchDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnershipValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 
-import java.util.Collections;
 import java.util.List;
 
 import static java.util.Objects.requireNonNullElse;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.COSTS_URI_SUFFIX;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNERSHIP;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_COSTS;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PARTNERSHIP;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.checkIfMatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.Operation.INSERTION;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.Operation.UPDATE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.executeWithTransactionalRollback;
@@ -42,6 +45,9 @@ public class LimitedPartnershipService {
     private final TransactionService transactionService;
     private final LimitedPartnershipValidator limitedPartnershipValidator;
     private final PostTransitionStrategyHandler postTransitionStrategyHandler;
+    private final SubmissionInserter submissionInserter;
+    private final SubmissionPatcher submissionPatcher;
+    private final ValidationResultCache validationResultCache;
 
     @Autowired
     public LimitedPartnershipService(LimitedPartnershipMapper mapper,
@@ -49,21 +55,27 @@ public class LimitedPartnershipService {
                                      LimitedPartnershipRepository repository,
                                      TransactionService transactionService,
                                      LimitedPartnershipValidator limitedPartnershipValidator,
-                                     PostTransitionStrategyHandler postTransitionStrategyHandler) {
+                                     PostTransitionStrategyHandler postTransitionStrategyHandler,
+                                     SubmissionInserter submissionInserter,
+                                     SubmissionPatcher submissionPatcher,
+                                     ValidationResultCache validationResultCache) {
         this.mapper = mapper;
         this.patchMapper = patchMapper;
         this.repository = repository;
         this.transactionService = transactionService;
         this.limitedPartnershipValidator = limitedPartnershipValidator;
         this.postTransitionStrategyHandler = postTransitionStrategyHandler;
+        this.submissionInserter = submissionInserter;
+        this.submissionPatcher = submissionPatcher;
+        this.validationResultCache = validationResultCache;
     }
 
     public String createLimitedPartnership(Transaction transaction,
                                            LimitedPartnershipDto limitedPartnershipDto,
                                            String requestId,
                                            String userId)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
-        ApiLogger.debug("Called createLimitedPartnership(...)");
+            throws ServiceException, MethodArgumentNotValidException {
+        ApiLogger.debug(() -> "Called createLimitedPartnership(...)");
 
         limitedPartnershipValidator.validatePartial(limitedPartnershipDto, FilingMode.fromDescription(transaction.getFilingMode()));
 
@@ -75,11 +87,12 @@ public class LimitedPartnershipService {
         LimitedPartnershipDao dao = mapper.dtoToDao(limitedPartnershipDto);
         dao.setCreatedBy(userId);
         dao.setTransactionId(transaction.getId());
+        dao.getData().setEtag(GenerateEtagUtil.generateEtag());
 
-        LimitedPartnershipDao insertedLimitedPartnership = repository.insert(dao);
+        LimitedPartnershipDao insertedLimitedPartnership = submissionInserter.insertWithSelfLink(repository, dao,
+                submissionId -> getSubmissionUri(transaction.getId(), submissionId));
 
         final String submissionUri = getSubmissionUri(transaction.getId(), insertedLimitedPartnership.getId());
-        updateLimitedPartnershipWithSelfLink(insertedLimitedPartnership, submissionUri);
 
         String kind = requireNonNullElse(insertedLimitedPartnership.getData().getKind(), FILING_KIND_LIMITED_PARTNERSHIP);
 
@@ -114,10 +127,12 @@ public class LimitedPartnershipService {
                                          String submissionId,
                                          LimitedPartnershipPatchDto limitedPartnershipPatchDto,
                                          String requestId,
-                                         String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+                                         String userId,
+                                         String ifMatch) throws ServiceException, MethodArgumentNotValidException {
         var lpSubmissionDaoBeforePatch = repository.findById(submissionId).orElseThrow(() -> new ResourceNotFoundException(String.format("Submission with id %s not found", submissionId)));
 
         checkIfPartnershipIsLinkedToTransaction(transaction, submissionId, lpSubmissionDaoBeforePatch);
+        checkIfMatch(submissionId, ifMatch, lpSubmissionDaoBeforePatch.getData().getEtag());
 
         var lpSubmissionDto = mapper.daoToDto(lpSubmissionDaoBeforePatch);
 
@@ -131,8 +146,10 @@ public class LimitedPartnershipService {
         copyMetaDataForUpdate(lpSubmissionDaoBeforePatch, lpSubmissionDaoAfterPatch);
 
         setAuditDetailsForUpdate(userId, lpSubmissionDaoAfterPatch);
+        lpSubmissionDaoAfterPatch.getData().setEtag(GenerateEtagUtil.generateEtag());
 
-        repository.save(lpSubmissionDaoAfterPatch);
+        submissionPatcher.update(lpSubmissionDaoBeforePatch, lpSubmissionDaoAfterPatch,
+                lpSubmissionDaoBeforePatch.getData().getEtag());
 
         executeWithTransactionalRollback(
             requestId,
@@ -161,12 +178,6 @@ public class LimitedPartnershipService {
         return String.format(URL_GET_PARTNERSHIP, transactionId, submissionId);
     }
 
-    private void updateLimitedPartnershipWithSelfLink(LimitedPartnershipDao limitedPartnershipDao,
-                                                      String submissionUri) {
-        limitedPartnershipDao.setLinks(Collections.singletonMap(LINK_SELF, submissionUri));
-        repository.save(limitedPartnershipDao);
-    }
-
     public LimitedPartnershipDto getLimitedPartnership(Transaction transaction, String submissionId) throws ResourceNotFoundException {
         var limitedPartnershipDao = repository.findById(submissionId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Limited Partnership with id %s not found", submissionId)));
@@ -176,9 +187,26 @@ public class LimitedPartnershipService {
         return mapper.daoToDto(limitedPartnershipDao);
     }
 
+    /**
+     * @return the etag of the limited partnership, read without loading the rest of the submission, or null if it is
+     * not found or has no etag, leaving the full read to decide the response
+     */
+    public String getLimitedPartnershipEtag(Transaction transaction, String submissionId) throws ResourceNotFoundException {
+        var limitedPartnershipDao = repository.findEtagById(submissionId).orElse(null);
+        if (limitedPartnershipDao == null || limitedPartnershipDao.getData() == null || limitedPartnershipDao.getData().getEtag() == null) {
+            return null;
+        }
+
+        checkIfPartnershipIsLinkedToTransaction(transaction, submissionId, limitedPartnershipDao);
+
+        return limitedPartnershipDao.getData().getEtag();
+    }
+
     public LimitedPartnershipDto getLimitedPartnership(Transaction transaction) throws ServiceException {
-        var limitedPartnerships = repository.findByTransactionId(transaction.getId());
+        return getLimitedPartnership(transaction, repository.findByTransactionId(transaction.getId()));
+    }
 
+    public LimitedPartnershipDto getLimitedPartnership(Transaction transaction, List<LimitedPartnershipDao> limitedPartnerships) throws ServiceException {
         if (limitedPartnerships.isEmpty()) {
             throw new ResourceNotFoundException(String.format("No limited partnership found for transaction id %s", transaction.getId()));
         } else if (limitedPartnerships.size() > 1) {
@@ -198,14 +226,22 @@ public class LimitedPartnershipService {
     }
 
     public List<ValidationStatusError> validateLimitedPartnership(Transaction transaction)
-            throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
-        LimitedPartnershipDto limitedPartnershipDto = getLimitedPartnership(transaction);
+            throws ServiceException, MethodArgumentNotValidException {
+        return validateLimitedPartnership(transaction, repository.findByTransactionId(transaction.getId()));
+    }
 
-        if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
-            return postTransitionStrategyHandler.validateLimitedPartnership(limitedPartnershipDto, transaction);
-        }
+    public List<ValidationStatusError> validateLimitedPartnership(Transaction transaction, List<LimitedPartnershipDao> limitedPartnerships)
+            throws ServiceException, MethodArgumentNotValidException {
+        LimitedPartnershipDto limitedPartnershipDto = getLimitedPartnership(transaction, limitedPartnerships);
+        LimitedPartnershipDao limitedPartnershipDao = limitedPartnerships.getFirst();
+
+        return validationResultCache.getOrValidate(limitedPartnershipDao.getId(), limitedPartnershipDao.getData().getEtag(), transaction, () -> {
+            if (FilingMode.DEFAULT.getDescription().equals(transaction.getFilingMode())) {
+                return postTransitionStrategyHandler.validateLimitedPartnership(limitedPartnershipDto, transaction);
+            }
 
-        return limitedPartnershipValidator.validateFull(limitedPartnershipDto, FilingMode.fromDescription(transaction.getFilingMode()));
+            return limitedPartnershipValidator.validateFull(limitedPartnershipDto, FilingMode.fromDescription(transaction.getFilingMode()));
+        });
     }
 
     private void checkIfPartnershipIsLinkedToTransaction(Transaction transaction, String submissionId, LimitedPartnershipDao limitedPartnershipDao) throws ResourceNotFoundException {
@@ -7,16 +7,21 @@ import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.PAYMENT_GET;
+
 @Service
 public class PaymentService {
 
     private final ApiClientService apiClientService;
+    private final ApiClientMetrics apiClientMetrics;
 
     @Autowired
-    public PaymentService(ApiClientService apiClientService) {
+    public PaymentService(ApiClientService apiClientService, ApiClientMetrics apiClientMetrics) {
         this.apiClientService = apiClientService;
+        this.apiClientMetrics = apiClientMetrics;
     }
 
     public PaymentApi getPayment(String paymentReference) throws ServiceException {
@@ -25,12 +30,12 @@ public class PaymentService {
         }
 
         try {
-            return apiClientService
+            return apiClientMetrics.record(PAYMENT_GET, () -> apiClientService
                     .getInternalApiClient()
                     .payment()
                     .get("/payments/" + paymentReference)
                     .execute()
-                    .getData();
+                    .getData());
         } catch (URIValidationException | ApiErrorResponseException e) {
             throw new ServiceException(e.getMessage(), e);
         }
@@ -1,6 +1,8 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.GenerateEtagUtil;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -12,18 +14,26 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantc
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.PersonWithSignificantControlRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.PersonWithSignificantControlValidator;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.NationalityUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNullElse;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL;
-import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.checkIfMatch;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.EtagPreconditions.combineEtags;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.copyMetaDataForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.MetaDataUtils.setAuditDetailsForPatch;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.TransactionalRollback.Operation.DELETION;
@@ -37,16 +47,31 @@ public class PersonWithSignificantControlService {
     private final PersonWithSignificantControlMapper mapper;
     private final TransactionService transactionService;
     private final PersonWithSignificantControlValidator personWithSignificantControlValidator;
+    private final ValidationContextFactory validationContextFactory;
+    private final SubmissionInserter submissionInserter;
+    private final SubmissionPatcher submissionPatcher;
+    private final ValidationResultCache validationResultCache;
+    private final ValidationExecutor validationExecutor;
 
     public PersonWithSignificantControlService(PersonWithSignificantControlRepository repository,
                                                PersonWithSignificantControlMapper mapper,
                                                TransactionService transactionService,
-                                               PersonWithSignificantControlValidator personWithSignificantControlValidator
+                                               PersonWithSignificantControlValidator personWithSignificantControlValidator,
+                                               ValidationContextFactory validationContextFactory,
+                                               SubmissionInserter submissionInserter,
+                                               SubmissionPatcher submissionPatcher,
+                                               ValidationResultCache validationResultCache,
+                                               ValidationExecutor validationExecutor
     ) {
         this.repository = repository;
         this.mapper = mapper;
         this.transactionService = transactionService;
         this.personWithSignificantControlValidator = personWithSignificantControlValidator;
+        this.validationContextFactory = validationContextFactory;
+        this.submissionInserter = submissionInserter;
+        this.submissionPatcher = submissionPatcher;
+        this.validationResultCache = validationResultCache;
+        this.validationExecutor = validationExecutor;
     }
 
     public PersonWithSignificantControlDto getPersonWithSignificantControl(Transaction transaction, String personWithSignificantControlId) throws ResourceNotFoundException {
@@ -60,6 +85,40 @@ public class PersonWithSignificantControlService {
         return mapper.daoToDto(personWithSignificantControlDao);
     }
 
+    /**
+     * @return the etag of the person with significant control, read without loading the rest of the resource, or null
+     * if it is not found or has no etag, leaving the full read to decide the response
+     */
+    public String getPersonWithSignificantControlEtag(Transaction transaction, String personWithSignificantControlId) throws ResourceNotFoundException {
+        var personWithSignificantControlDao = repository.findEtagById(personWithSignificantControlId).orElse(null);
+        if (personWithSignificantControlDao == null || personWithSignificantControlDao.getData() == null
+                || personWithSignificantControlDao.getData().getEtag() == null) {
+            return null;
+        }
+
+        String kind = requireNonNullElse(personWithSignificantControlDao.getData().getKind(), FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
+
+        checkPersonWithSignificantControlIsLinkedToTransaction(transaction, personWithSignificantControlId, kind);
+
+        return personWithSignificantControlDao.getData().getEtag();
+    }
+
+    /**
+     * An etag for the persons with significant control in the transaction. The completed flag in the list is worked
+     * out from each resource's data alone, so the etag and update time of each are enough.
+     */
+    public String getPersonWithSignificantControlListEtag(Transaction transaction) {
+        List<String> itemVersions = new ArrayList<>();
+
+        for (PersonWithSignificantControlDao personWithSignificantControlDao : repository.findEtagsByTransactionId(transaction.getId())) {
+            String etag = personWithSignificantControlDao.getData() == null ? null : personWithSignificantControlDao.getData().getEtag();
+            itemVersions.add(String.join(":", personWithSignificantControlDao.getId(), etag,
+                    String.valueOf(personWithSignificantControlDao.getUpdatedAt())));
+        }
+
+        return combineEtags(itemVersions);
+    }
+
     public List<PersonWithSignificantControlDto> getPersonWithSignificantControlList(Transaction transaction) throws ServiceException {
         List<PersonWithSignificantControlDto> personWithSignificantControlDtos = repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()).stream()
                 .map(mapper::daoToDto)
@@ -82,13 +141,13 @@ public class PersonWithSignificantControlService {
                 .toList();
     }
 
-    public String createPersonWithSignificantControl(Transaction transaction, PersonWithSignificantControlDto personWithSignificantControlDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public String createPersonWithSignificantControl(Transaction transaction, PersonWithSignificantControlDto personWithSignificantControlDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
         var validator = personWithSignificantControlValidator.getValidatorByType(personWithSignificantControlDto.getData().getType());
         validator.validatePartial(personWithSignificantControlDto);
 
         PersonWithSignificantControlDao dao = mapper.dtoToDao(personWithSignificantControlDto);
         PersonWithSignificantControlDao insertedResource = insertDaoWithMetadata(requestId, transaction, userId, dao);
-        String resourceUri = linkAndSaveDao(transaction, insertedResource.getId(), dao);
+        String resourceUri = String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), insertedResource.getId());
 
         String kind = requireNonNullElse(insertedResource.getData().getKind(), FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
 
@@ -103,10 +162,70 @@ public class PersonWithSignificantControlService {
         return insertedResource.getId();
     }
 
-    public void updatePersonWithSignificantControl(Transaction transaction, String personWithSignificantControlId, PersonWithSignificantControlDataDto personWithSignificantControlChangesDataDto, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    /**
+     * Creates all of the persons with significant control in one insert and one transaction update. Nothing is written
+     * unless every one of them is valid, and if the transaction update fails the inserted resources are deleted again.
+     */
+    public List<String> createPersonsWithSignificantControl(Transaction transaction, List<PersonWithSignificantControlDto> personWithSignificantControlDtos, String requestId, String userId) throws ServiceException, MethodArgumentNotValidException {
+        BindingResult batchBindingResult = validationContextFactory.createBindingResult(personWithSignificantControlDtos, PersonWithSignificantControlDataDto.class);
+        if (personWithSignificantControlDtos.size() > MAX_BATCH_SIZE) {
+            batchBindingResult.addError(new FieldError(PersonWithSignificantControlDataDto.class.getName(), "persons_with_significant_control",
+                    String.format("No more than %d persons with significant control can be created at once", MAX_BATCH_SIZE)));
+            validationContextFactory.throwIfErrors(batchBindingResult, PersonWithSignificantControlDataDto.class);
+        }
+        if (personWithSignificantControlDtos.isEmpty()) {
+            batchBindingResult.addError(new FieldError(PersonWithSignificantControlDataDto.class.getName(), "persons_with_significant_control", "At least one person with significant control is required"));
+        }
+
+        for (int i = 0; i < personWithSignificantControlDtos.size(); i++) {
+            PersonWithSignificantControlDto personWithSignificantControlDto = personWithSignificantControlDtos.get(i);
+            try {
+                personWithSignificantControlValidator.getValidatorByType(personWithSignificantControlDto.getData().getType())
+                        .validatePartial(personWithSignificantControlDto);
+            } catch (MethodArgumentNotValidException e) {
+                validationContextFactory.addItemErrors(batchBindingResult, i, e.getBindingResult());
+            }
+        }
+
+        validationContextFactory.throwIfErrors(batchBindingResult, PersonWithSignificantControlDataDto.class);
+
+        List<PersonWithSignificantControlDao> daos = new ArrayList<>();
+        for (PersonWithSignificantControlDto personWithSignificantControlDto : personWithSignificantControlDtos) {
+            PersonWithSignificantControlDao dao = mapper.dtoToDao(personWithSignificantControlDto);
+            setMetadataForInsert(transaction, userId, dao);
+            daos.add(dao);
+        }
+
+        String selfLinkPrefix = String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), "");
+        List<PersonWithSignificantControlDao> insertedResources = submissionInserter.insertAllWithSelfLinks(repository, daos, selfLinkPrefix,
+                resourceIds -> repository.saveSelfLinksByIdIn(resourceIds, selfLinkPrefix), requestId);
+        List<String> ids = insertedResources.stream().map(PersonWithSignificantControlDao::getId).toList();
+        String batchDescription = String.join(",", ids);
+        ApiLogger.infoContext(requestId, String.format("Person with significant control resources created with ids: %s", batchDescription));
+
+        Map<String, String> kindsByResourceUri = new LinkedHashMap<>();
+        for (PersonWithSignificantControlDao insertedResource : insertedResources) {
+            kindsByResourceUri.put(
+                    String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), insertedResource.getId()),
+                    requireNonNullElse(insertedResource.getData().getKind(), FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL));
+        }
+
+        executeWithTransactionalRollback(
+            requestId,
+            batchDescription,
+            () -> transactionService.updateTransactionWithLinksForResources(requestId, transaction, kindsByResourceUri),
+            INSERTION,
+            () -> repository.deleteAllById(ids)
+        );
+
+        return ids;
+    }
+
+    public void updatePersonWithSignificantControl(Transaction transaction, String personWithSignificantControlId, PersonWithSignificantControlDataDto personWithSignificantControlChangesDataDto, String requestId, String userId, String ifMatch) throws ServiceException, MethodArgumentNotValidException {
         var daoBeforePatch = repository.findById(personWithSignificantControlId).orElseThrow(() -> new ResourceNotFoundException(String.format("Person with significant control with id %s not found", personWithSignificantControlId)));
         String kind = requireNonNullElse(daoBeforePatch.getData().getKind(), FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
         checkPersonWithSignificantControlIsLinkedToTransaction(transaction, personWithSignificantControlId, kind);
+        checkIfMatch(personWithSignificantControlId, ifMatch, daoBeforePatch.getData().getEtag());
 
         var dto = mapper.daoToDto(daoBeforePatch);
         var validator = personWithSignificantControlValidator.getValidatorByType(dto.getData().getType());
@@ -122,9 +241,10 @@ public class PersonWithSignificantControlService {
         // Need to ensure we don't lose the meta-data already set on the Mongo document (but lost when DAO is mapped to a DTO)
         copyMetaDataForPatch(daoBeforePatch, daoAfterPatch);
         setAuditDetailsForPatch(daoAfterPatch, userId);
+        daoAfterPatch.getData().setEtag(GenerateEtagUtil.generateEtag());
         ApiLogger.infoContext(requestId, String.format("Person with significant control updated with id: %s", personWithSignificantControlId));
 
-        repository.save(daoAfterPatch);
+        submissionPatcher.update(daoBeforePatch, daoAfterPatch, daoBeforePatch.getData().getEtag());
     }
 
     private void handleLegalEntityRegistrationLocationOptionality(PersonWithSignificantControlDataDto personWithSignificantControlChangesDataDto, PersonWithSignificantControlDataDto data) {
@@ -152,17 +272,18 @@ public class PersonWithSignificantControlService {
     }
 
 
-    public void deletePersonWithSignificantControl(Transaction transaction, String personWithSignificantControlId, String requestId) throws ServiceException {
+    public void deletePersonWithSignificantControl(Transaction transaction, String personWithSignificantControlId, String requestId, String ifMatch) throws ServiceException {
         PersonWithSignificantControlDao personWithSignificantControlDao = repository.findById(personWithSignificantControlId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Person with significant control with id %s not found", personWithSignificantControlId)));
 
         String kind = requireNonNullElse(personWithSignificantControlDao.getData().getKind(), FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
 
         checkPersonWithSignificantControlIsLinkedToTransaction(transaction, personWithSignificantControlId, kind);
+        checkIfMatch(personWithSignificantControlId, ifMatch, personWithSignificantControlDao.getData().getEtag());
 
         var personWithSignificantControlUri = String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), personWithSignificantControlId);
 
-        repository.deleteById(personWithSignificantControlDao.getId());
+        submissionPatcher.delete(personWithSignificantControlDao, personWithSignificantControlDao.getData().getEtag());
 
         executeWithTransactionalRollback(
             requestId,
@@ -176,21 +297,30 @@ public class PersonWithSignificantControlService {
     }
 
     public List<ValidationStatusError> validatePersonsWithSignificantControl(Transaction transaction) throws ServiceException {
-        List<PersonWithSignificantControlDto> personsWithSignificantControl = repository.findAllByTransactionIdOrderByUpdatedAtDesc(
-                transaction.getId()).stream().map(mapper::daoToDto).toList();
-
-        List<ValidationStatusError> errors = new ArrayList<>();
-
-        for (PersonWithSignificantControlDto personWithSignificantControlDto: personsWithSignificantControl) {
-            var validator = personWithSignificantControlValidator.getValidatorByType(personWithSignificantControlDto.getData().getType());
-            errors.addAll(validator.validateFull(personWithSignificantControlDto));
-        }
+        return validatePersonsWithSignificantControl(transaction, repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId()));
+    }
 
-        return errors;
+    public List<ValidationStatusError> validatePersonsWithSignificantControl(Transaction transaction,
+                                                                             List<PersonWithSignificantControlDao> personWithSignificantControlDaos) throws ServiceException {
+        return validationExecutor.validateAll(personWithSignificantControlDaos, personWithSignificantControlDao ->
+                validationResultCache.getOrValidate(personWithSignificantControlDao.getId(), personWithSignificantControlDao.getData().getEtag(), transaction, () -> {
+                    PersonWithSignificantControlDto personWithSignificantControlDto = mapper.daoToDto(personWithSignificantControlDao);
+                    var validator = personWithSignificantControlValidator.getValidatorByType(personWithSignificantControlDto.getData().getType());
+                    return validator.validateFull(personWithSignificantControlDto);
+                }));
     }
 
     private PersonWithSignificantControlDao insertDaoWithMetadata(
             String requestId, Transaction transaction, String userId, PersonWithSignificantControlDao dao) {
+        setMetadataForInsert(transaction, userId, dao);
+
+        PersonWithSignificantControlDao insertedResource = submissionInserter.insertWithSelfLink(repository, dao,
+                resourceId -> String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), resourceId));
+        ApiLogger.infoContext(requestId, String.format("Person with significant control resource created with id: %s", insertedResource.getId()));
+        return insertedResource;
+    }
+
+    private void setMetadataForInsert(Transaction transaction, String userId, PersonWithSignificantControlDao dao) {
         if (dao.getData().getKind() == null) {
             dao.getData().setKind(FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
         }
@@ -199,17 +329,6 @@ public class PersonWithSignificantControlService {
         dao.setCreatedBy(userId);
         dao.setUpdatedBy(userId);
         dao.setTransactionId(transaction.getId());
-
-        PersonWithSignificantControlDao insertedResource = repository.insert(dao);
-        ApiLogger.infoContext(requestId, String.format("Person with significant control resource created with id: %s", insertedResource.getId()));
-        return insertedResource;
-    }
-
-    private String linkAndSaveDao(Transaction transaction, String resourceId, PersonWithSignificantControlDao dao) {
-        var resourceUri = String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, transaction.getId(), resourceId);
-        dao.setLinks(Collections.singletonMap(LINK_SELF, resourceUri));
-        repository.save(dao);
-        return resourceUri;
     }
 
     private void checkPersonWithSignificantControlIsLinkedToTransaction(Transaction transaction, String personWithSignificantControlId, String kind) throws ResourceNotFoundException {
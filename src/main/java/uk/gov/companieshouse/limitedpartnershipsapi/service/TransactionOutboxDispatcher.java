@@ -0,0 +1,209 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionOutbox;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers transaction outbox entries to the Transactions API in the background. Each poll picks up a batch of
+ * transactions with work outstanding and drains each of them on its own virtual thread, oldest entry first. The entries
+ * outstanding for a transaction are merged into a single update, the most recently queued value of each field winning.
+ * A failed call is retried with exponential backoff; once the entries have used all of their attempts they are marked
+ * as failed and the next entries for that transaction are delivered.
+ *
+ * <p>The dispatcher only runs when {@code TRANSACTION_OUTBOX_ENABLED} is set. Otherwise the Transactions API is called
+ * inline by {@link TransactionService}, as before. Updates that add or remove resources are never queued, so a failed
+ * entry does not leave behind a submission the transaction does not link to, or a link to a deleted submission.</p>
+ */
+@Component
+public class TransactionOutboxDispatcher implements SmartLifecycle {
+
+    static final String DELIVERY_METRIC = "limited.partnerships.transaction.outbox.delivery";
+    static final int MAX_ENTRIES_PER_UPDATE = 100;
+
+    private final TransactionOutbox transactionOutbox;
+    private final TransactionService transactionService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public TransactionOutboxDispatcher(
+            TransactionOutbox transactionOutbox,
+            TransactionService transactionService,
+            MeterRegistry meterRegistry,
+            @Value("${TRANSACTION_OUTBOX_ENABLED:false}") boolean enabled,
+            @Value("${TRANSACTION_OUTBOX_POLL_INTERVAL_MILLIS:500}") long pollIntervalMillis,
+            @Value("${TRANSACTION_OUTBOX_BATCH_SIZE:50}") int batchSize,
+            @Value("${TRANSACTION_OUTBOX_MAX_ATTEMPTS:10}") int maxAttempts,
+            @Value("${TRANSACTION_OUTBOX_INITIAL_BACKOFF_MILLIS:1000}") long initialBackoffMillis,
+            @Value("${TRANSACTION_OUTBOX_MAX_BACKOFF_MILLIS:300000}") long maxBackoffMillis,
+            @Value("${TRANSACTION_OUTBOX_LEASE_MILLIS:60000}") long leaseMillis) {
+        this.transactionOutbox = transactionOutbox;
+        this.transactionService = transactionService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("transaction-outbox-dispatcher").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::dispatchPendingSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+
+        ApiLogger.info("Transaction outbox dispatcher started");
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(lease.toMillis(), TimeUnit.MILLISECONDS)) {
+                    scheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                scheduler.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Delivers everything that is currently due for up to one batch of transactions, waiting until each of those
+     * transactions has been drained or has hit a failure.
+     */
+    public void dispatchPending() {
+        List<String> transactionIds = transactionOutbox.findTransactionIdsWithDueEntries(LocalDateTime.now(), batchSize);
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            transactionIds.forEach(transactionId -> executor.submit(() -> dispatchTransaction(transactionId)));
+        }
+    }
+
+    private void dispatchPendingSafely() {
+        try {
+            dispatchPending();
+        } catch (RuntimeException e) {
+            // an exception escaping a scheduled task would cancel all future runs
+            ApiLogger.errorContext("transaction-outbox", "Error dispatching transaction outbox", e);
+        }
+    }
+
+    private void dispatchTransaction(String transactionId) {
+        List<TransactionOutboxDao> entries;
+        while (!(entries = claimBatch(transactionId)).isEmpty()) {
+            if (!deliver(transactionId, entries)) {
+                return;
+            }
+        }
+    }
+
+    private List<TransactionOutboxDao> claimBatch(String transactionId) {
+        var now = LocalDateTime.now();
+        return transactionOutbox.claimBatch(transactionId, now, now.plus(lease), MAX_ENTRIES_PER_UPDATE);
+    }
+
+    private boolean deliver(String transactionId, List<TransactionOutboxDao> entries) {
+        var latest = entries.getLast();
+        try {
+            transactionService.updateTransaction(merge(transactionId, entries), latest.getRequestId());
+        } catch (ServiceException | RuntimeException e) {
+            handleFailure(transactionId, entries, e);
+            return false;
+        }
+
+        transactionOutbox.remove(ids(entries));
+        countDelivery(entries, "success");
+        return true;
+    }
+
+    private static Transaction merge(String transactionId, List<TransactionOutboxDao> entries) {
+        var transaction = new Transaction();
+        transaction.setId(transactionId);
+        for (TransactionOutboxDao entry : entries) {
+            if (entry.getCompanyName() != null) {
+                transaction.setCompanyName(entry.getCompanyName());
+            }
+            if (entry.getResumeJourneyUri() != null) {
+                transaction.setResumeJourneyUri(entry.getResumeJourneyUri());
+            }
+        }
+        return transaction;
+    }
+
+    private void handleFailure(String transactionId, List<TransactionOutboxDao> entries, Exception e) {
+        // Entries merged into a failed update share its attempt count, so they are retried and given up on together
+        int attempts = entries.stream().mapToInt(TransactionOutboxDao::getAttempts).max().orElse(0) + 1;
+        var requestId = entries.getLast().getRequestId();
+
+        if (attempts >= maxAttempts) {
+            transactionOutbox.markFailed(ids(entries), attempts, e.getMessage());
+            countDelivery(entries, "failed");
+            ApiLogger.errorContext(requestId, String.format(
+                    "Giving up on %d update(s) for transaction %s after %d attempts", entries.size(), transactionId, attempts), e);
+            return;
+        }
+
+        transactionOutbox.reschedule(ids(entries), attempts, LocalDateTime.now().plus(backoff(attempts)), e.getMessage());
+        countDelivery(entries, "retry");
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void countDelivery(List<TransactionOutboxDao> entries, String outcome) {
+        Counter.builder(DELIVERY_METRIC)
+                .tag("operation", entries.getFirst().getOperation().name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(entries.size());
+    }
+
+    private static List<String> ids(List<TransactionOutboxDao> entries) {
+        return entries.stream().map(TransactionOutboxDao::getId).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxOperation;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionOutbox;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records Transactions API updates in the transaction outbox so they can be delivered by the
+ * {@link TransactionOutboxDispatcher} after the request has completed. A failure to write the outbox entry is reported
+ * as a {@link ServiceException}, so callers using {@code TransactionalRollback} still undo their own writes.
+ */
+@Service
+public class TransactionOutboxService {
+
+    private final TransactionOutbox transactionOutbox;
+
+    public TransactionOutboxService(TransactionOutbox transactionOutbox) {
+        this.transactionOutbox = transactionOutbox;
+    }
+
+    /**
+     * Queues an update of the given fields of the transaction. A null field is left unchanged.
+     */
+    public void enqueueTransactionUpdate(String transactionId, String companyName, String resumeJourneyUri,
+                                         String requestId) throws ServiceException {
+        var entry = newEntry(transactionId, TransactionOutboxOperation.UPDATE_TRANSACTION, requestId);
+        entry.setCompanyName(companyName);
+        entry.setResumeJourneyUri(resumeJourneyUri);
+
+        insert(entry, "Error queueing update for transaction " + transactionId);
+    }
+
+    private TransactionOutboxDao newEntry(String transactionId, TransactionOutboxOperation operation, String requestId) {
+        var now = LocalDateTime.now();
+
+        var entry = new TransactionOutboxDao();
+        entry.setTransactionId(transactionId);
+        entry.setOperation(operation);
+        entry.setRequestId(requestId);
+        entry.setStatus(TransactionOutboxStatus.PENDING);
+        entry.setNextAttemptAt(now);
+        entry.setCreatedAt(now);
+        return entry;
+    }
+
+    private void insert(TransactionOutboxDao entry, String errorMessage) throws ServiceException {
+        try {
+            transactionOutbox.insert(entry);
+        } catch (DataAccessException e) {
+            ApiLogger.errorContext(entry.getRequestId(), errorMessage, e);
+            throw new ServiceException(errorMessage, e);
+        }
+    }
+}
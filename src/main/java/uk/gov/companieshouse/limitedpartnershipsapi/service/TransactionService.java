@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -9,6 +10,7 @@ import uk.gov.companieshouse.api.model.payment.Cost;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
@@ -17,10 +19,15 @@ import uk.gov.companieshouse.limitedpartnershipsapi.utils.ApiLogger;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.TRANSACTION_PATCH;
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.TRANSACTION_PAYMENT_GET;
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.TRANSACTION_RESOURCE_DELETE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode.REGISTRATION;
 import static uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode.TRANSITION;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.COSTS_URI_SUFFIX;
@@ -37,10 +44,18 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.VALID
 public class TransactionService {
 
     private final ApiClientService apiClientService;
+    private final TransactionOutboxService transactionOutboxService;
+    private final ApiClientMetrics apiClientMetrics;
+
+    @Value("${TRANSACTION_OUTBOX_ENABLED:false}")
+    private boolean transactionOutboxEnabled;
 
     @Autowired
-    public TransactionService(ApiClientService apiClientService) {
+    public TransactionService(ApiClientService apiClientService, TransactionOutboxService transactionOutboxService,
+                              ApiClientMetrics apiClientMetrics) {
         this.apiClientService = apiClientService;
+        this.transactionOutboxService = transactionOutboxService;
+        this.apiClientMetrics = apiClientMetrics;
     }
 
     /**
@@ -63,7 +78,7 @@ public class TransactionService {
         transaction.setResources(Collections.singletonMap(submissionUri, limitedPartnershipResource));
         transaction.setResumeJourneyUri(buildPartnershipResumeJourneyUri(transaction, submissionId));
 
-        updateTransaction(transaction, loggingContext);
+        updateTransactionResources(transaction, loggingContext);
     }
 
     private String buildPartnershipResumeJourneyUri(Transaction transaction, String submissionId) {
@@ -76,6 +91,15 @@ public class TransactionService {
         return String.format(URL_RESUME_REGISTRATION_OR_TRANSITION, transaction.getId(), submissionId);
     }
 
+    /**
+     * Update the transaction's resources. This is never queued in the transaction outbox: reads made straight after a
+     * create check that the submission is one of the transaction's resources, and a failure has to reach the caller
+     * so that its rollback removes the submission it inserted.
+     */
+    public void updateTransactionResources(Transaction transaction, String loggingContext) throws ServiceException {
+        updateTransaction(transaction, loggingContext);
+    }
+
     public void updateTransaction(Transaction transaction, String loggingContext) throws ServiceException {
         try {
             var uri = TRANSACTIONS_PRIVATE_API_URI_PREFIX + transaction.getId();
@@ -83,12 +107,15 @@ public class TransactionService {
             // The internal API key client is used here as the transaction service will potentially call back into the
             // LP API (e.g. to get the costs, if a costs end-point has already been set on the transaction) and those
             // calls cannot be made with a user OAuth token
-            var response = apiClientService.getInternalApiClient()
-                    .privateTransaction().patch(uri, transaction).execute();
-
-            if (response.getStatusCode() != HttpStatus.NO_CONTENT.value()) {
-                throw new IOException("Invalid status code received from the Transactions API: " + response.getStatusCode());
-            }
+            apiClientMetrics.record(TRANSACTION_PATCH, () -> {
+                var response = apiClientService.getInternalApiClient()
+                        .privateTransaction().patch(uri, transaction).execute();
+
+                if (response.getStatusCode() != HttpStatus.NO_CONTENT.value()) {
+                    throw new IOException("Invalid status code received from the Transactions API: " + response.getStatusCode());
+                }
+                return response;
+            });
         } catch (IOException | URIValidationException e) {
             var message = "Error Updating transaction " + transaction.getId();
             ApiLogger.errorContext(loggingContext, message, e);
@@ -108,10 +135,21 @@ public class TransactionService {
         return createResourceAndAddLinks(transaction, submissionUri, kind);
     }
 
+    /**
+     * Set the company name on the transaction. When the transaction outbox is enabled only the name is queued, to be
+     * delivered in the background by the {@link TransactionOutboxDispatcher}; otherwise the Transactions API is called
+     * immediately.
+     */
     public void updateTransactionWithPartnershipName(Transaction transaction,
                                                      String requestId,
                                                      String partnershipName) throws ServiceException {
         transaction.setCompanyName(partnershipName);
+
+        if (transactionOutboxEnabled) {
+            transactionOutboxService.enqueueTransactionUpdate(transaction.getId(), partnershipName, null, requestId);
+            return;
+        }
+
         updateTransaction(transaction, requestId);
     }
 
@@ -124,7 +162,37 @@ public class TransactionService {
         }
 
         transaction.setResources(Collections.singletonMap(submissionUri, resource));
-        updateTransaction(transaction, requestId);
+        updateTransactionResources(transaction, requestId);
+    }
+
+    /**
+     * Adds a resource for each of the submissions to the transaction, in a single update.
+     *
+     * @param kindsBySubmissionUri the kind of each submission, keyed by its self link
+     */
+    public void updateTransactionWithLinksForResources(
+            String requestId, Transaction transaction, Map<String, String> kindsBySubmissionUri) throws ServiceException {
+        updateTransactionWithLinksForResources(requestId, transaction, kindsBySubmissionUri, Set.of());
+    }
+
+    /**
+     * As above, also adding a costs link to the resources of the submissions that have a cost.
+     *
+     * @param costedSubmissionUris the self links of the submissions that have a cost
+     */
+    public void updateTransactionWithLinksForResources(
+            String requestId, Transaction transaction, Map<String, String> kindsBySubmissionUri, Set<String> costedSubmissionUris) throws ServiceException {
+        Map<String, Resource> resources = new LinkedHashMap<>();
+        kindsBySubmissionUri.forEach((submissionUri, kind) -> {
+            var resource = createResourceAndAddLinks(transaction, submissionUri, kind);
+            if (costedSubmissionUris.contains(submissionUri)) {
+                resource.getLinks().put(LINK_COSTS, submissionUri + COSTS_URI_SUFFIX);
+            }
+            resources.put(submissionUri, resource);
+        });
+
+        transaction.setResources(resources);
+        updateTransactionResources(transaction, requestId);
     }
 
     private static Resource createResourceAndAddLinks(Transaction transaction, String submissionUri, String kind) {
@@ -143,16 +211,24 @@ public class TransactionService {
         return resource;
     }
 
+    /**
+     * Remove a resource from the transaction, always calling the Transactions API immediately, even when the
+     * transaction outbox is enabled. Callers delete the submission first, and a failure has to reach them so that
+     * their rollback restores it.
+     */
     public void deleteTransactionResource(String transactionId, String resourceId, String loggingContext) throws ServiceException {
         try {
             var uri = TRANSACTIONS_PRIVATE_API_URI_PREFIX + transactionId + "/resources";
 
-            var response = apiClientService.getInternalApiClient()
-                    .privateTransaction().delete(uri, resourceId).execute();
+            apiClientMetrics.record(TRANSACTION_RESOURCE_DELETE, () -> {
+                var response = apiClientService.getInternalApiClient()
+                        .privateTransaction().delete(uri, resourceId).execute();
 
-            if (response.getStatusCode() != HttpStatus.NO_CONTENT.value()) {
-                throw new IOException("Invalid status code received from the Transactions API: " + response.getStatusCode());
-            }
+                if (response.getStatusCode() != HttpStatus.NO_CONTENT.value()) {
+                    throw new IOException("Invalid status code received from the Transactions API: " + response.getStatusCode());
+                }
+                return response;
+            });
         } catch (IOException | URIValidationException e) {
             var message = "Error deleting resource " + resourceId + " from transaction " + transactionId;
             ApiLogger.errorContext(loggingContext, message, e);
@@ -214,21 +290,30 @@ public class TransactionService {
                 .anyMatch(resource -> selfLink.equals(resource.getValue().getLinks().get(LINK_RESOURCE)));
     }
 
+    /**
+     * Set the resume journey URI on the transaction, queueing only the URI when the transaction outbox is enabled.
+     */
     public void updateTransactionWithResumeJourneyUri(Transaction transaction, String resumeJourneyUri, String loggingContext) throws ServiceException {
         transaction.setResumeJourneyUri(resumeJourneyUri);
+
+        if (transactionOutboxEnabled) {
+            transactionOutboxService.enqueueTransactionUpdate(transaction.getId(), null, resumeJourneyUri, loggingContext);
+            return;
+        }
+
         updateTransaction(transaction, loggingContext);
     }
 
     public String getPaymentReference(String paymentLink) throws ServiceException {
         try {
             // Need to use the internal API client as the payment link is not accessible with a user OAuth token
-            return apiClientService
+            return apiClientMetrics.record(TRANSACTION_PAYMENT_GET, () -> apiClientService
                     .getInternalApiClient()
                     .transactions()
                     .getPayment(paymentLink)
                     .execute()
                     .getData()
-                    .getPaymentReference();
+                    .getPaymentReference());
 
         } catch (URIValidationException | IOException e) {
             throw new ServiceException(e.getMessage(), e);
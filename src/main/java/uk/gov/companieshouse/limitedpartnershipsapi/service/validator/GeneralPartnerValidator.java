@@ -2,9 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
 
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -24,13 +22,17 @@ import java.util.List;
 public class GeneralPartnerValidator extends PartnerValidator {
     private static final String CLASS_NAME = GeneralPartnerDataDto.class.getName();
 
+    // Stored with the completed flag on each partner; bump when validateFull changes so stored flags are recomputed
+    public static final int VERSION = 1;
+
     @Autowired
-    public GeneralPartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService) {
-        super(validator, validationStatus, companyService);
+    public GeneralPartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService,
+                                   ValidationContextFactory validationContextFactory) {
+        super(validator, validationStatus, companyService, validationContextFactory);
     }
 
-    public void validatePartial(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(generalPartnerDto, GeneralPartnerDataDto.class.getName());
+    public void validatePartial(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(generalPartnerDto, GeneralPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, generalPartnerDto, bindingResult);
 
@@ -56,14 +58,11 @@ public class GeneralPartnerValidator extends PartnerValidator {
 
         checkNotNullDateEffectiveFrom(CLASS_NAME, generalPartnerDto, transaction, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(GeneralPartnerDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, GeneralPartnerDataDto.class);
     }
 
-    public void validateRemove(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws ServiceException, NoSuchMethodException, MethodArgumentNotValidException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(generalPartnerDto, GeneralPartnerDataDto.class.getName());
+    public void validateRemove(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(generalPartnerDto, GeneralPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, generalPartnerDto, bindingResult);
 
@@ -73,14 +72,11 @@ public class GeneralPartnerValidator extends PartnerValidator {
 
         validateCeaseDate(CLASS_NAME, transaction, generalPartnerDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(GeneralPartnerDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, GeneralPartnerDataDto.class);
     }
 
-    public void validateUpdate(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(generalPartnerDto, GeneralPartnerDataDto.class.getName());
+    public void validateUpdate(GeneralPartnerDto generalPartnerDto, Transaction transaction) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(generalPartnerDto, GeneralPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, generalPartnerDto, bindingResult);
 
@@ -96,10 +92,7 @@ public class GeneralPartnerValidator extends PartnerValidator {
 
         validateDateOfUpdate(CLASS_NAME, transaction, generalPartnerDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(GeneralPartnerDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, GeneralPartnerDataDto.class);
     }
 
     // Validation before close transaction
@@ -143,8 +136,6 @@ public class GeneralPartnerValidator extends PartnerValidator {
 
         } catch (MethodArgumentNotValidException e) {
             validationStatus.convertFieldErrorsToValidationStatusErrors(e.getBindingResult(), errorsList);
-        } catch (NoSuchMethodException e) {
-            throw new ServiceException(e.getMessage());
         }
     }
 }
@@ -2,9 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
 
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -30,11 +28,13 @@ public class LimitedPartnerValidator extends PartnerValidator {
 
     private static final String CLASS_NAME = LimitedPartnerDataDto.class.getName();
 
-    @Autowired
-    public LimitedPartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService
-    ) {
+    // Stamped on the completed flag stored with each limited partner. Increase it whenever the rules in validateFull change
+    public static final int VERSION = 1;
 
-        super(validator, validationStatus, companyService);
+    @Autowired
+    public LimitedPartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService,
+                                   ValidationContextFactory validationContextFactory) {
+        super(validator, validationStatus, companyService, validationContextFactory);
     }
 
     public List<ValidationStatusError> validateFull(LimitedPartnerDto limitedPartnerDto, Transaction transaction, boolean isRemoveOrUpdate) throws ServiceException {
@@ -60,9 +60,8 @@ public class LimitedPartnerValidator extends PartnerValidator {
         return errorsList;
     }
 
-    public void validatePartial(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        var methodParameter = new MethodParameter(LimitedPartnerDataDto.class.getConstructor(), -1);
-        BindingResult bindingResult = new BeanPropertyBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class.getName());
+    public void validatePartial(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, limitedPartnerDto, bindingResult);
 
@@ -81,13 +80,11 @@ public class LimitedPartnerValidator extends PartnerValidator {
 
         checkNotNullDateEffectiveFrom(CLASS_NAME, limitedPartnerDto, transaction, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, LimitedPartnerDataDto.class);
     }
 
-    public void validateRemove(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws ServiceException, NoSuchMethodException, MethodArgumentNotValidException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class.getName());
+    public void validateRemove(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, limitedPartnerDto, bindingResult);
 
@@ -97,10 +94,7 @@ public class LimitedPartnerValidator extends PartnerValidator {
 
         validateCeaseDate(CLASS_NAME, transaction, limitedPartnerDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(LimitedPartnerDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, LimitedPartnerDataDto.class);
     }
 
     private void validateCapitalContributions(LimitedPartnerDataDto limitedPartnerDataDto, Transaction transaction, BindingResult bindingResult) {
@@ -158,8 +152,8 @@ public class LimitedPartnerValidator extends PartnerValidator {
         }
     }
 
-    public void validateUpdate(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class.getName());
+    public void validateUpdate(LimitedPartnerDto limitedPartnerDto, Transaction transaction) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(limitedPartnerDto, LimitedPartnerDataDto.class);
 
         dtoValidation(CLASS_NAME, limitedPartnerDto, bindingResult);
 
@@ -179,10 +173,7 @@ public class LimitedPartnerValidator extends PartnerValidator {
             validateCapitalContributions(limitedPartnerDto.getData(), transaction, bindingResult);
         }
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(LimitedPartnerDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, LimitedPartnerDataDto.class);
     }
 
     private void checkFieldConstraints(LimitedPartnerDto limitedPartnerDto, Transaction transaction, List<ValidationStatusError> errorsList)
@@ -197,8 +188,6 @@ public class LimitedPartnerValidator extends PartnerValidator {
             }
         } catch (MethodArgumentNotValidException e) {
             validationStatus.convertFieldErrorsToValidationStatusErrors(e.getBindingResult(), errorsList);
-        } catch (NoSuchMethodException e) {
-            throw new ServiceException(e.getMessage());
         }
     }
 }
@@ -3,9 +3,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,12 +34,15 @@ public class LimitedPartnershipValidator {
     private final Validator validator;
     private final ValidationStatus validationStatus;
     private final CompanyService companyService;
+    private final ValidationContextFactory validationContextFactory;
 
     @Autowired
-    public LimitedPartnershipValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService) {
+    public LimitedPartnershipValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService,
+                                       ValidationContextFactory validationContextFactory) {
         this.validator = validator;
         this.validationStatus = validationStatus;
         this.companyService = companyService;
+        this.validationContextFactory = validationContextFactory;
     }
 
     public List<ValidationStatusError> validateFull(LimitedPartnershipDto limitedPartnershipDto,
@@ -61,8 +62,8 @@ public class LimitedPartnershipValidator {
 
     public void validatePartial(LimitedPartnershipDto limitedPartnershipDto,
                                 FilingMode filingMode)
-            throws NoSuchMethodException, MethodArgumentNotValidException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(limitedPartnershipDto, DataDto.class.getName());
+            throws MethodArgumentNotValidException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(limitedPartnershipDto, DataDto.class);
 
         dtoValidation(limitedPartnershipDto, bindingResult);
 
@@ -70,23 +71,17 @@ public class LimitedPartnershipValidator {
             checkJourneySpecificFields(limitedPartnershipDto.getData(), filingMode, bindingResult);
         }
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(DataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, DataDto.class);
     }
 
-    public void validateUpdate(LimitedPartnershipDto limitedPartnershipDto, Transaction transaction) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        var methodParameter = new MethodParameter(LimitedPartnerDataDto.class.getConstructor(), -1);
-        BindingResult bindingResult = new BeanPropertyBindingResult(limitedPartnershipDto, LimitedPartnerDataDto.class.getName());
+    public void validateUpdate(LimitedPartnershipDto limitedPartnershipDto, Transaction transaction) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(limitedPartnershipDto, LimitedPartnerDataDto.class);
 
         dtoValidation(limitedPartnershipDto, bindingResult);
 
         validateDateOfUpdate(transaction, limitedPartnershipDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, LimitedPartnerDataDto.class);
     }
 
     protected void validateHasPersonWithSignificantControl(DataDto dataDto, FilingMode filingMode, List<ValidationStatusError> errorsList) {
@@ -208,8 +203,6 @@ public class LimitedPartnershipValidator {
             validatePartial(limitedPartnershipDto, filingMode);
         } catch (MethodArgumentNotValidException e) {
             validationStatus.convertFieldErrorsToValidationStatusErrors(e.getBindingResult(), errorsList);
-        } catch (NoSuchMethodException e) {
-            throw new ServiceException(e.getMessage());
         }
     }
 }
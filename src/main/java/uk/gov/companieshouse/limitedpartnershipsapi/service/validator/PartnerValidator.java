@@ -24,14 +24,17 @@ public abstract class PartnerValidator {
     protected Validator validator;
     protected final ValidationStatus validationStatus;
     protected CompanyService companyService;
+    protected final ValidationContextFactory validationContextFactory;
 
     public static final String NATIONALITY_1_IS_REQUIRED = "Nationality1 is required";
 
     @Autowired
-    protected PartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService) {
+    protected PartnerValidator(Validator validator, ValidationStatus validationStatus, CompanyService companyService,
+                               ValidationContextFactory validationContextFactory) {
         this.validator = validator;
         this.validationStatus = validationStatus;
         this.companyService = companyService;
+        this.validationContextFactory = validationContextFactory;
     }
 
     protected void addError(String className, String fieldName, String defaultMessage, BindingResult bindingResult) {
@@ -0,0 +1,94 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.AbstractBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.DataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
+
+import java.util.Map;
+
+/**
+ * Creates the binding results the validators collect errors in, and raises them as a
+ * {@link MethodArgumentNotValidException}. The method parameters the exception needs are resolved from the data DTO
+ * constructors once, when the bean is created, rather than by reflection on every call.
+ */
+@Component
+public class ValidationContextFactory {
+
+    private final Map<Class<?>, MethodParameter> methodParameters = Map.of(
+            GeneralPartnerDataDto.class, constructorParameter(GeneralPartnerDataDto.class),
+            LimitedPartnerDataDto.class, constructorParameter(LimitedPartnerDataDto.class),
+            DataDto.class, constructorParameter(DataDto.class),
+            PersonWithSignificantControlDataDto.class, constructorParameter(PersonWithSignificantControlDataDto.class));
+
+    public BindingResult createBindingResult(Object target, Class<?> dataDtoClass) {
+        return new FieldErrorBindingResult(target, dataDtoClass.getName());
+    }
+
+    public void throwIfErrors(BindingResult bindingResult, Class<?> dataDtoClass) throws MethodArgumentNotValidException {
+        if (bindingResult.hasErrors()) {
+            throw new MethodArgumentNotValidException(getMethodParameter(dataDtoClass), bindingResult);
+        }
+    }
+
+    /**
+     * Copies the field errors found for one item of a batch into the binding result for the whole batch. Each field
+     * is prefixed with the item's index, e.g. {@code [2].data.surname}, so that the caller can tell which item it
+     * belongs to.
+     */
+    public void addItemErrors(BindingResult batchBindingResult, int index, BindingResult itemBindingResult) {
+        for (FieldError fieldError : itemBindingResult.getFieldErrors()) {
+            String field = fieldError.getField().isEmpty()
+                    ? String.format("[%d]", index)
+                    : String.format("[%d].%s", index, fieldError.getField());
+            batchBindingResult.addError(new FieldError(fieldError.getObjectName(), field, fieldError.getDefaultMessage()));
+        }
+    }
+
+    private MethodParameter getMethodParameter(Class<?> dataDtoClass) {
+        var methodParameter = methodParameters.get(dataDtoClass);
+        if (methodParameter == null) {
+            throw new IllegalArgumentException("No validation context for " + dataDtoClass.getName());
+        }
+
+        return methodParameter;
+    }
+
+    private static MethodParameter constructorParameter(Class<?> dataDtoClass) {
+        try {
+            return new MethodParameter(dataDtoClass.getConstructor(), -1);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(dataDtoClass.getName() + " has no public no-args constructor", e);
+        }
+    }
+
+    /**
+     * The validators only ever add complete field errors, so unlike a BeanPropertyBindingResult this never needs a
+     * bean wrapper around the target to read property values.
+     */
+    private static class FieldErrorBindingResult extends AbstractBindingResult {
+
+        private final transient Object target;
+
+        FieldErrorBindingResult(Object target, String objectName) {
+            super(objectName);
+            this.target = target;
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        protected Object getActualFieldValue(String field) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dao.BaseDao;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig.VALIDATION_EXECUTOR;
+
+/**
+ * Validates every submission in a collection, one at a time or, when parallel validation is enabled, all at once on
+ * virtual threads. Either way the errors are returned grouped by submission in the order the submissions were given,
+ * so the validation status response does not depend on which submission finished first. The number of submissions
+ * being validated at once, across all requests, is capped so that a large transaction cannot flood the Company API.
+ * In parallel, the first failure stops the validations still to run or in progress, and is only thrown once all of them
+ * have finished, as they share the request with the caller.
+ */
+@Component
+public class ValidationExecutor {
+
+    static final String SUBMISSION_VALIDATION_METRIC = "limited.partnerships.validation.submission";
+
+    private final boolean parallelValidationEnabled;
+    private final ExecutorService validationExecutor;
+    private final Semaphore validationPermits;
+    private final MeterRegistry meterRegistry;
+
+    public ValidationExecutor(@Value("${PARALLEL_VALIDATION_ENABLED:false}") boolean parallelValidationEnabled,
+                              @Value("${PARALLEL_VALIDATION_MAX_CONCURRENCY:20}") int maxConcurrency,
+                              @Qualifier(VALIDATION_EXECUTOR) ExecutorService validationExecutor,
+                              MeterRegistry meterRegistry) {
+        this.parallelValidationEnabled = parallelValidationEnabled;
+        this.validationExecutor = validationExecutor;
+        this.validationPermits = new Semaphore(maxConcurrency);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @FunctionalInterface
+    public interface SubmissionValidation<T> {
+        List<ValidationStatusError> validate(T submission) throws ServiceException;
+    }
+
+    /**
+     * @return the errors for every submission, in the order of {@code submissions}
+     * @throws ServiceException the exception thrown by the first validation to fail. When validating in parallel, that
+     *                          failure stops the validations not yet started and interrupts those in progress, and
+     *                          this only returns once every one of them has finished
+     */
+    public <T extends BaseDao> List<ValidationStatusError> validateAll(List<T> submissions, SubmissionValidation<T> validation)
+            throws ServiceException {
+        if (!parallelValidationEnabled || submissions.size() < 2) {
+            List<ValidationStatusError> errors = new ArrayList<>();
+            for (T submission : submissions) {
+                errors.addAll(timeValidation(submission, validation, "sequential"));
+            }
+            return errors;
+        }
+
+        // Hand the request attributes to the workers so request scoped state, such as the request headers, is shared.
+        // Every worker is waited for, even after a failure, so none is still using them once the request has completed.
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        var parallelValidation = new ParallelValidation();
+
+        List<Future<List<ValidationStatusError>>> validations = new ArrayList<>();
+        for (T submission : submissions) {
+            validations.add(validationExecutor.submit(() -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return parallelValidation.validate(submission, validation);
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }));
+        }
+
+        List<ValidationStatusError> errors = new ArrayList<>();
+        for (Future<List<ValidationStatusError>> submissionValidation : validations) {
+            errors.addAll(parallelValidation.await(submissionValidation));
+        }
+        parallelValidation.throwFailure();
+        return errors;
+    }
+
+    private <T extends BaseDao> List<ValidationStatusError> timeValidation(T submission, SubmissionValidation<T> validation,
+                                                                            String mode) throws ServiceException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            return validation.validate(submission);
+        } catch (ServiceException | RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(SUBMISSION_VALIDATION_METRIC,
+                    "submission", submission.getClass().getSimpleName(),
+                    "mode", mode,
+                    "outcome", outcome));
+        }
+    }
+
+    /**
+     * The workers validating the submissions of one call, so that the first failure can stop the others. A worker
+     * records its own failure rather than throwing it, and is only interrupted while it is validating.
+     */
+    private final class ParallelValidation {
+
+        private final Lock lock = new ReentrantLock();
+        private final Set<Thread> workers = new HashSet<>();
+        private Exception failure;
+
+        <T extends BaseDao> List<ValidationStatusError> validate(T submission, SubmissionValidation<T> validation) {
+            if (!start()) {
+                return List.of();
+            }
+
+            try {
+                validationPermits.acquire();
+                try {
+                    return hasFailed() ? List.of() : timeValidation(submission, validation, "parallel");
+                } catch (ServiceException | RuntimeException e) {
+                    // Recorded while the permit is held, so no other validation can start in between
+                    fail(e);
+                    return List.of();
+                } finally {
+                    validationPermits.release();
+                }
+            } catch (InterruptedException e) {
+                fail(new ServiceException("Interrupted while validating submissions", e));
+                return List.of();
+            } finally {
+                finish();
+            }
+        }
+
+        List<ValidationStatusError> await(Future<List<ValidationStatusError>> submissionValidation) {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return submissionValidation.get();
+                    } catch (InterruptedException e) {
+                        // Stop the workers but still wait for them, as they share this request
+                        interrupted = true;
+                        fail(new ServiceException("Interrupted while validating submissions", e));
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        fail(new ServiceException("Error validating submissions: " + cause.getMessage(), cause));
+                        return List.of();
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        void throwFailure() throws ServiceException {
+            lock.lock();
+            try {
+                if (failure instanceof ServiceException serviceException) {
+                    throw serviceException;
+                }
+                if (failure instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean start() {
+            lock.lock();
+            try {
+                if (failure != null) {
+                    return false;
+                }
+                workers.add(Thread.currentThread());
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finish() {
+            lock.lock();
+            try {
+                workers.remove(Thread.currentThread());
+                // Clear an interrupt that arrived after the validation had already finished
+                Thread.interrupted();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean hasFailed() {
+            lock.lock();
+            try {
+                return failure != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void fail(Exception e) {
+            lock.lock();
+            try {
+                if (failure != null) {
+                    return;
+                }
+                failure = e;
+                workers.stream()
+                        .filter(worker -> worker != Thread.currentThread())
+                        .forEach(Thread::interrupt);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.CurrentRequest;
+
+import java.util.List;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig.VALIDATION_RESULT_CACHE_NAME;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.VALIDATION_CACHE_BYPASS_HEADER;
+
+/**
+ * Remembers the result of fully validating a submission, so that a validation status request only re-validates the
+ * submissions that have changed since the last one. Submissions without an etag are always validated, as there is no
+ * way to tell whether they have changed. Sending the bypass header with any value other than {@code false} skips the
+ * lookup and replaces whatever was cached with a fresh result.
+ */
+@Component
+public class ValidationResultCache {
+
+    static final String BYPASSED_METRIC = "limited.partnerships.validation.cache.bypassed";
+
+    private final boolean enabled;
+    private final Cache<ValidationResultKey, List<ValidationStatusError>> validationResultCache;
+    private final MeterRegistry meterRegistry;
+
+    public ValidationResultCache(@Value("${VALIDATION_RESULT_CACHE_ENABLED:false}") boolean enabled,
+                                 Cache<ValidationResultKey, List<ValidationStatusError>> validationResultCache,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.validationResultCache = validationResultCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public record ValidationResultKey(String submissionId, String etag, String transactionId, String filingMode,
+                                      String companyNumber) {
+    }
+
+    @FunctionalInterface
+    public interface Validation<E extends Exception> {
+        List<ValidationStatusError> validate() throws ServiceException, E;
+    }
+
+    /**
+     * @param submissionId the id of the submission being validated
+     * @param etag         the etag the submission has now
+     * @param validation   validates the submission, if there is no usable cached result
+     * @return the errors found, which must not be modified
+     */
+    public <E extends Exception> List<ValidationStatusError> getOrValidate(String submissionId, String etag,
+                                                                           Transaction transaction,
+                                                                           Validation<E> validation)
+            throws ServiceException, E {
+        if (!enabled || etag == null) {
+            return validation.validate();
+        }
+
+        var key = new ValidationResultKey(submissionId, etag, transaction.getId(), transaction.getFilingMode(),
+                transaction.getCompanyNumber());
+
+        if (isBypassRequested()) {
+            meterRegistry.counter(BYPASSED_METRIC, "cache", VALIDATION_RESULT_CACHE_NAME).increment();
+        } else {
+            List<ValidationStatusError> cachedErrors = validationResultCache.getIfPresent(key);
+            if (cachedErrors != null) {
+                return cachedErrors;
+            }
+        }
+
+        List<ValidationStatusError> errors = List.copyOf(validation.validate());
+        validationResultCache.put(key, errors);
+        return errors;
+    }
+
+    private static boolean isBypassRequested() {
+        String bypass = CurrentRequest.header(VALIDATION_CACHE_BYPASS_HEADER);
+        return bypass != null && !"false".equalsIgnoreCase(bypass.trim());
+    }
+}
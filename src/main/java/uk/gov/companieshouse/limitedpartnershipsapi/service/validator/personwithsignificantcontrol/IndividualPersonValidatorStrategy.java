@@ -2,9 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwit
 
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
@@ -12,6 +10,7 @@ import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.PersonWithSignificantControlType;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.natureofcontrol.NatureOfControlValidator;
 
@@ -27,15 +26,16 @@ public class IndividualPersonValidatorStrategy extends PersonWithSignificantCont
     @Autowired
     public IndividualPersonValidatorStrategy(Validator validator,
                                              ValidationStatus validationStatus,
-                                             NatureOfControlValidator natureOfControlValidator) {
-        super(natureOfControlValidator);
+                                             NatureOfControlValidator natureOfControlValidator,
+                                             ValidationContextFactory validationContextFactory) {
+        super(natureOfControlValidator, validationContextFactory);
         this.validator = validator;
         this.validationStatus = validationStatus;
     }
 
     @Override
-    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(personWithSignificantControlDto, DATA_DTO_CLASS_NAME);
+    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(personWithSignificantControlDto, PersonWithSignificantControlDataDto.class);
 
         performAnnotationValidation(personWithSignificantControlDto, validator, bindingResult);
         super.checkPersonWithSignificantControlTypeUnchanged(personWithSignificantControlDto.getData(), PersonWithSignificantControlType.INDIVIDUAL_PERSON, bindingResult);
@@ -58,10 +58,7 @@ public class IndividualPersonValidatorStrategy extends PersonWithSignificantCont
 
         super.validateNaturesOfControl(personWithSignificantControlDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(PersonWithSignificantControlDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, PersonWithSignificantControlDataDto.class);
     }
 
     @Override
@@ -4,9 +4,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.util.StringUtils;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -15,6 +13,7 @@ import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.PersonWithSignificantControlType;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.natureofcontrol.NatureOfControlValidator;
 
@@ -26,14 +25,17 @@ public abstract class PersonWithSignificantControlValidatorStrategy {
 
     protected static final String DATA_DTO_CLASS_NAME = PersonWithSignificantControlDataDto.class.getName();
     private final NatureOfControlValidator natureOfControlValidator;
+    protected final ValidationContextFactory validationContextFactory;
 
     @Autowired
-    PersonWithSignificantControlValidatorStrategy(NatureOfControlValidator natureOfControlValidator) {
+    PersonWithSignificantControlValidatorStrategy(NatureOfControlValidator natureOfControlValidator,
+                                                  ValidationContextFactory validationContextFactory) {
         this.natureOfControlValidator = natureOfControlValidator;
+        this.validationContextFactory = validationContextFactory;
     }
 
     public abstract List<ValidationStatusError> validateFull(PersonWithSignificantControlDto personWithSignificantControlDto) throws ServiceException;
-    public abstract void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException;
+    public abstract void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws MethodArgumentNotValidException, ServiceException;
 
     protected void performAnnotationValidation(PersonWithSignificantControlDto personWithSignificantControlDto, Validator validator, BindingResult bindingResult) {
         Set<ConstraintViolation<PersonWithSignificantControlDto>> violations = validator.validate(
@@ -59,8 +61,8 @@ public abstract class PersonWithSignificantControlValidatorStrategy {
         }
     }
 
-    protected void validatePartialRleOrOrp(PersonWithSignificantControlDto personWithSignificantControlDto, Validator validator, PersonWithSignificantControlType expectedType) throws NoSuchMethodException, MethodArgumentNotValidException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(personWithSignificantControlDto, DATA_DTO_CLASS_NAME);
+    protected void validatePartialRleOrOrp(PersonWithSignificantControlDto personWithSignificantControlDto, Validator validator, PersonWithSignificantControlType expectedType) throws MethodArgumentNotValidException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(personWithSignificantControlDto, PersonWithSignificantControlDataDto.class);
 
         performAnnotationValidation(personWithSignificantControlDto, validator, bindingResult);
         checkPersonWithSignificantControlTypeUnchanged(personWithSignificantControlDto.getData(), expectedType, bindingResult);
@@ -73,10 +75,7 @@ public abstract class PersonWithSignificantControlValidatorStrategy {
 
         this.validateNaturesOfControl(personWithSignificantControlDto, bindingResult);
 
-        if (bindingResult.hasErrors()) {
-            var methodParameter = new MethodParameter(PersonWithSignificantControlDataDto.class.getConstructor(), -1);
-            throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        }
+        validationContextFactory.throwIfErrors(bindingResult, PersonWithSignificantControlDataDto.class);
     }
 
     protected List<ValidationStatusError> validateFullRleOrOrp(PersonWithSignificantControlDto personWithSignificantControlDto, ValidationStatus validationStatus) throws ServiceException {
@@ -96,8 +95,6 @@ public abstract class PersonWithSignificantControlValidatorStrategy {
             validatePartial(personWithSignificantControlDto);
         } catch (MethodArgumentNotValidException e) {
             validationStatus.convertFieldErrorsToValidationStatusErrors(e.getBindingResult(), errorsList);
-        } catch (NoSuchMethodException e) {
-            throw new ServiceException(e.getMessage());
         }
     }
 
@@ -8,6 +8,7 @@ import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.PersonWithSignificantControlType;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.natureofcontrol.NatureOfControlValidator;
 
@@ -22,14 +23,15 @@ public class RelevantLegalEntityValidatorStrategy extends PersonWithSignificantC
     @Autowired
     public RelevantLegalEntityValidatorStrategy(Validator validator,
                                                 ValidationStatus validationStatus,
-                                                NatureOfControlValidator natureOfControlValidator) {
-        super(natureOfControlValidator);
+                                                NatureOfControlValidator natureOfControlValidator,
+                                                ValidationContextFactory validationContextFactory) {
+        super(natureOfControlValidator, validationContextFactory);
         this.validator = validator;
         this.validationStatus = validationStatus;
     }
 
     @Override
-    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
+    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws MethodArgumentNotValidException, ServiceException {
         super.validatePartialRleOrOrp(personWithSignificantControlDto, validator, PersonWithSignificantControlType.RELEVANT_LEGAL_ENTITY);
     }
 
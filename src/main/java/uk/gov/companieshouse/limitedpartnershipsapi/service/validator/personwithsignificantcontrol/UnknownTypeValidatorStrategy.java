@@ -1,15 +1,14 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.natureofcontrol.NatureOfControlValidator;
 
@@ -25,8 +24,9 @@ public class UnknownTypeValidatorStrategy extends PersonWithSignificantControlVa
     private final ValidationStatus validationStatus;
 
     @Autowired
-    public UnknownTypeValidatorStrategy(ValidationStatus validationStatus, NatureOfControlValidator natureOfControlValidator) {
-        super(natureOfControlValidator);
+    public UnknownTypeValidatorStrategy(ValidationStatus validationStatus, NatureOfControlValidator natureOfControlValidator,
+                                        ValidationContextFactory validationContextFactory) {
+        super(natureOfControlValidator, validationContextFactory);
         this.validationStatus = validationStatus;
     }
 
@@ -38,10 +38,9 @@ public class UnknownTypeValidatorStrategy extends PersonWithSignificantControlVa
     }
 
     @Override
-    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws NoSuchMethodException, MethodArgumentNotValidException, ServiceException {
-        BindingResult bindingResult = new BeanPropertyBindingResult(personWithSignificantControlDto, DATA_DTO_CLASS_NAME);
+    public void validatePartial(PersonWithSignificantControlDto personWithSignificantControlDto) throws MethodArgumentNotValidException, ServiceException {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(personWithSignificantControlDto, PersonWithSignificantControlDataDto.class);
         addError(TYPE_FIELD_NAME, ERROR_MESSAGE, bindingResult);
-        var methodParameter = new MethodParameter(PersonWithSignificantControlDataDto.class.getConstructor(), -1);
-        throw new MethodArgumentNotValidException(methodParameter, bindingResult);
+        validationContextFactory.throwIfErrors(bindingResult, PersonWithSignificantControlDataDto.class);
     }
 }
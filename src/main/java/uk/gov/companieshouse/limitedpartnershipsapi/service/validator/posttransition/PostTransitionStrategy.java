@@ -12,7 +12,7 @@ import java.util.List;
 public interface PostTransitionStrategy<T> {
     String getKind();
 
-    void validate(T dto, List<ValidationStatusError> errorsList, ValidationStatus validationStatus, Transaction transaction) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException;
+    void validate(T dto, List<ValidationStatusError> errorsList, ValidationStatus validationStatus, Transaction transaction) throws ServiceException, MethodArgumentNotValidException;
 
     Cost getCost(Cost cost);
 }
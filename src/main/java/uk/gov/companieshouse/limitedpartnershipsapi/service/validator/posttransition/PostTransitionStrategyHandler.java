@@ -50,7 +50,7 @@ public class PostTransitionStrategyHandler {
         this.strategyMap = setStrategyMap(strategies);
     }
 
-    public List<ValidationStatusError> validateLimitedPartnership(LimitedPartnershipDto limitedPartnershipDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public List<ValidationStatusError> validateLimitedPartnership(LimitedPartnershipDto limitedPartnershipDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException {
         List<ValidationStatusError> errorsList = new ArrayList<>();
 
         validateDto(limitedPartnershipDto, errorsList);
@@ -69,7 +69,7 @@ public class PostTransitionStrategyHandler {
         return errorsList;
     }
 
-    public List<ValidationStatusError> validatePartner(PartnerDto partnerDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public List<ValidationStatusError> validatePartner(PartnerDto partnerDto, Transaction transaction) throws ServiceException, MethodArgumentNotValidException {
         List<ValidationStatusError> errorsList = new ArrayList<>();
 
         validateDto(partnerDto, errorsList);
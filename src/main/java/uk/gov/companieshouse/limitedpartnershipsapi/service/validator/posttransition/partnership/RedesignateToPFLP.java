@@ -29,7 +29,7 @@ public class RedesignateToPFLP implements PostTransitionStrategy<LimitedPartners
     }
 
     @Override
-    public void validate(LimitedPartnershipDto limitedPartnershipDto, List<ValidationStatusError> errorsList, ValidationStatus validationStatus, Transaction transaction) throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
+    public void validate(LimitedPartnershipDto limitedPartnershipDto, List<ValidationStatusError> errorsList, ValidationStatus validationStatus, Transaction transaction) throws ServiceException, MethodArgumentNotValidException {
 
         if (limitedPartnershipDto.getData().getPartnershipType() != PartnershipType.LP &&
            limitedPartnershipDto.getData().getPartnershipType() != PartnershipType.SLP) {
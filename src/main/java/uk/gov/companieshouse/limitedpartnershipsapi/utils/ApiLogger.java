@@ -6,6 +6,11 @@ import uk.gov.companieshouse.logging.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 public class ApiLogger {
 
@@ -14,14 +19,46 @@ public class ApiLogger {
     private static final Logger LOGGER =
             LoggerFactory.getLogger(LimitedPartnershipsApiApplication.APP_NAMESPACE);
 
+    // The structured logger writes through SLF4J under the same name, so its level can be checked before building a
+    // message that would be thrown away
+    private static final org.slf4j.Logger LEVEL_CHECK =
+            org.slf4j.LoggerFactory.getLogger(LimitedPartnershipsApiApplication.APP_NAMESPACE);
+
+    static final String SUPPRESSED_COUNT_KEY = "suppressed_count";
+    static final int DEFAULT_INFO_RATE_LIMIT_PER_SECOND = 10;
+    private static volatile int infoRateLimitPerSecond = DEFAULT_INFO_RATE_LIMIT_PER_SECOND;
+    private static final Map<String, CategoryRateLimit> INFO_RATE_LIMITS = new ConcurrentHashMap<>();
+
+    public static boolean isDebugEnabled() {
+        return LEVEL_CHECK.isDebugEnabled();
+    }
+
     public static void debug(String message) {
         LOGGER.debug(message);
     }
 
+    /**
+     * Builds the message only if debug logging is enabled.
+     */
+    public static void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            LOGGER.debug(message.get());
+        }
+    }
+
     public static void debugContext(String context, String message, Map<String, Object> dataMap) {
         LOGGER.debugContext(context, message, cloneMapData(dataMap));
     }
 
+    /**
+     * Builds the message and the data map only if debug logging is enabled.
+     */
+    public static void debugContext(String context, Supplier<String> message, Supplier<Map<String, Object>> dataMap) {
+        if (isDebugEnabled()) {
+            LOGGER.debugContext(context, message.get(), cloneMapData(dataMap.get()));
+        }
+    }
+
     public static void info(String message) {
         LOGGER.info(message, null);
     }
@@ -30,6 +67,40 @@ public class ApiLogger {
         LOGGER.info(message, cloneMapData(dataMap));
     }
 
+    /**
+     * Sets the number of messages {@link #infoRateLimited} logs per second for each category. Called at startup by
+     * {@link uk.gov.companieshouse.limitedpartnershipsapi.config.LoggingConfig}; the limits already in use are reset.
+     */
+    public static void setInfoRateLimitPerSecond(int limit) {
+        infoRateLimitPerSecond = limit;
+        INFO_RATE_LIMITS.clear();
+    }
+
+    /**
+     * Logs at most a fixed number of messages per second for each category, set with the
+     * {@code LOG_INFO_RATE_LIMIT_PER_SECOND} property (10 by default). The rest are dropped, and the next
+     * message logged for the category carries the number dropped under {@value #SUPPRESSED_COUNT_KEY}. The data map is
+     * only built for messages that are logged.
+     *
+     * @param category groups the messages that share a limit, typically one per log statement
+     */
+    public static void infoRateLimited(String category, String message, Supplier<Map<String, Object>> dataMap) {
+        int suppressed = INFO_RATE_LIMITS.computeIfAbsent(category, key -> new CategoryRateLimit(infoRateLimitPerSecond))
+                .tryAcquire(System.nanoTime());
+        if (suppressed < 0) {
+            return;
+        }
+
+        Map<String, Object> data = cloneMapData(dataMap.get());
+        if (suppressed > 0) {
+            if (data == null) {
+                data = new HashMap<>();
+            }
+            data.put(SUPPRESSED_COUNT_KEY, suppressed);
+        }
+        LOGGER.info(message, data);
+    }
+
     public static void infoContext(String context, String message) {
         LOGGER.infoContext(context, message, null);
     }
@@ -54,18 +125,61 @@ public class ApiLogger {
      * The Companies House logging implementation modifies the data map content which means that
      * if the same data map is used for subsequent calls any new message that might be passed in
      * is not displayed in certain log format outputs. Creating a clone of the data map gets around
-     * this issue.
+     * this issue. A null map is passed on as it is, as the logger creates its own.
      *
      * @param dataMap The map data to log
-     * @return A cloned copy of the map data
+     * @return A cloned copy of the map data, or null
      */
     private static Map<String, Object> cloneMapData(Map<String, Object> dataMap) {
-        if(dataMap == null) {
-            dataMap = new HashMap<>();
+        if (dataMap == null) {
+            return null;
         }
-        Map<String, Object> clonedMapData = new HashMap<>();
-        clonedMapData.putAll(dataMap);
+        return new HashMap<>(dataMap);
+    }
 
-        return clonedMapData;
+    /**
+     * Counts the messages logged for one category in the current one second window.
+     */
+    static class CategoryRateLimit {
+
+        private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final int limit;
+        private final Lock lock = new ReentrantLock();
+        private long windowStart;
+        private int logged;
+        private int suppressed;
+        private boolean started;
+
+        CategoryRateLimit(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * @return -1 if the message should be dropped, otherwise the number of messages dropped since the last one
+         * that was logged
+         */
+        int tryAcquire(long nowNanos) {
+            lock.lock();
+            try {
+                if (!started || nowNanos - windowStart >= WINDOW_NANOS) {
+                    started = true;
+                    windowStart = nowNanos;
+                    logged = 0;
+                }
+
+                if (logged >= limit) {
+                    suppressed++;
+                    return -1;
+                }
+
+                logged++;
+                int suppressedSinceLastLogged = suppressed;
+                suppressed = 0;
+                return suppressedSinceLastLogged;
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 }
@@ -11,6 +11,7 @@ import java.util.stream.Stream;
 public class Constants {
     // Request header names
     public static final String ERIC_REQUEST_ID_KEY = "X-Request-Id";
+    public static final String VALIDATION_CACHE_BYPASS_HEADER = "X-Bypass-Validation-Cache";
 
     // URL path parameters
     public static final String URL_PARAM_TRANSACTION_ID = "transactionId";
@@ -63,6 +64,7 @@ public class Constants {
     public static final int LONG_MAX_SIZE = 160;
     public static final int PREMISES_MAX_SIZE = 200;
     public static final String MAX_SIZE_MESSAGE = "must be less than {max}";
+    public static final int MAX_BATCH_SIZE = 100;
     public static final String REG_EXP_FOR_ALLOWED_CHARACTERS = "^[-,.:; 0-9A-Z&@$£¥€'\"«»?!/\\\\()\\[\\]{}<>*=#%+ÀÁÂÃÄÅĀĂĄÆǼÇĆĈĊČÞĎÐÈÉÊËĒĔĖĘĚĜĞĠĢĤĦÌÍÎÏĨĪĬĮİĴĶĹĻĽĿŁÑŃŅŇŊÒÓÔÕÖØŌŎŐǾŒŔŖŘŚŜŞŠŢŤŦÙÚÛÜŨŪŬŮŰŲŴẀẂẄỲÝŶŸŹŻŽa-zſƒǺàáâãäåāăąæǽçćĉċčþďðèéêëēĕėęěĝģğġĥħìíîïĩīĭįĵķĺļľŀłñńņňŋòóôõöøōŏőǿœŕŗřśŝşšţťŧùúûüũūŭůűųŵẁẃẅỳýŷÿźżž]*$";
 
     public static final String INVALID_CHARACTERS_MESSAGE = "must only include letters a to z, numbers and common special characters such as hyphens, spaces and apostrophes";
@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.utils;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Access to the HTTP request being handled by the current thread, for code below the controllers that only needs to
+ * look at a header or two.
+ */
+public class CurrentRequest {
+
+    private CurrentRequest() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return the value of the header, or null if it is not set or the current thread is not handling a request
+     */
+    public static String header(String name) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes servletRequestAttributes) {
+            return servletRequestAttributes.getRequest().getHeader(name);
+        }
+
+        return null;
+    }
+}
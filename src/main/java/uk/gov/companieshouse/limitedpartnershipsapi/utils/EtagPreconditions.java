@@ -0,0 +1,103 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Conditional request handling based on the etag stored with each submission. The If-Match header is passed down from
+ * the controllers; the If-None-Match header is read from the current HTTP request, as it is only checked by the
+ * controllers themselves.
+ */
+public class EtagPreconditions {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EtagPreconditions() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param submissionId the id of the submission, used in the exception message
+     * @param ifMatch      the If-Match header of the request, or null if it has none
+     * @param currentEtag  the etag the submission has now
+     * @throws PreconditionFailedException if there is an If-Match header and it does not match
+     */
+    public static void checkIfMatch(String submissionId, String ifMatch, String currentEtag)
+            throws PreconditionFailedException {
+        if (ifMatch != null && !matches(ifMatch, currentEtag)) {
+            throw new PreconditionFailedException(String.format(
+                    "Submission with id %s does not have the etag given in the If-Match header", submissionId));
+        }
+    }
+
+    /**
+     * Answers a GET with 304 Not Modified, without loading the body, if the If-None-Match header of the current request
+     * matches {@code currentEtag}. Otherwise the body is loaded and returned with the etag in the ETag header.
+     *
+     * @param currentEtag the etag the resource has now, or null if it has none, in which case the body is always
+     *                    returned
+     */
+    public static <T, E extends Exception> ResponseEntity<T> okOrNotModified(String currentEtag, BodySupplier<T, E> body)
+            throws E {
+        if (currentEtag == null) {
+            return ResponseEntity.ok().body(body.get());
+        }
+
+        String ifNoneMatch = CurrentRequest.header(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, currentEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+        }
+
+        return ResponseEntity.ok().eTag(currentEtag).body(body.get());
+    }
+
+    /**
+     * @param itemVersions a value for each item in a list, in the order the list is returned, that changes whenever the
+     *                     item as returned in the list would
+     * @return an etag for the list as a whole
+     */
+    public static String combineEtags(List<String> itemVersions) {
+        return DigestUtils.md5DigestAsHex(String.join(",", itemVersions).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Weak and strong etags are compared alike, since the etags stored with a submission only ever track whether it
+     * has changed.
+     *
+     * @param header the value of an If-Match or If-None-Match header
+     * @return true if the header is {@code *} or lists {@code etag}
+     */
+    public static boolean matches(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (ANY.equals(value)) {
+                return true;
+            }
+
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @FunctionalInterface
+    public interface BodySupplier<T, E extends Exception> {
+        T get() throws E;
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.utils;
+
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Country;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.Currency;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.UK_POSTCODE_LETTERS_NOT_MAINLAND;
+
+/**
+ * Lookup tables for the reference data used when validating and mapping submissions. They are built once, so a lookup
+ * is a hash probe rather than a scan of the enum values, and the postcode pattern is not recompiled for each address.
+ */
+public class ReferenceDataLookup {
+
+    private static final Pattern UK_POSTCODE_PATTERN = Pattern.compile("^[A-Za-z]{1,2}\\d[A-Za-z\\d]? ?\\d[A-Za-z]{2}$");
+
+    private static final String[] NOT_MAINLAND_PREFIXES = UK_POSTCODE_LETTERS_NOT_MAINLAND.toArray(String[]::new);
+
+    private static final Map<String, Nationality> NATIONALITIES_BY_DESCRIPTION =
+            index(Nationality.values(), nationality -> fold(nationality.getDescription()));
+
+    private static final Map<String, Country> COUNTRIES_BY_DESCRIPTION =
+            index(Country.values(), country -> fold(country.getDescription()));
+
+    // Currency codes have always been matched exactly, so this index is not case folded
+    private static final Map<String, Currency> CURRENCIES_BY_CODE = index(Currency.values(), Currency::name);
+
+    private ReferenceDataLookup() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isUkPostcodeFormat(String postcode) {
+        return UK_POSTCODE_PATTERN.matcher(postcode).matches();
+    }
+
+    /**
+     * Whether the postcode starts with one of the Channel Islands or Isle of Man area letters. Compares the first two
+     * characters in place instead of upper-casing a substring.
+     */
+    public static boolean isNotMainlandPostcode(String postcode) {
+        for (String prefix : NOT_MAINLAND_PREFIXES) {
+            if (postcode.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static Nationality nationalityFromDescription(String description) {
+        return description == null ? Nationality.UNKNOWN
+                : NATIONALITIES_BY_DESCRIPTION.getOrDefault(fold(description), Nationality.UNKNOWN);
+    }
+
+    public static Country countryFromDescription(String description) {
+        return description == null ? Country.UNKNOWN
+                : COUNTRIES_BY_DESCRIPTION.getOrDefault(fold(description), Country.UNKNOWN);
+    }
+
+    public static Currency currencyFromCode(String code) {
+        return code == null ? Currency.UNKNOWN : CURRENCIES_BY_CODE.getOrDefault(code, Currency.UNKNOWN);
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <E extends Enum<E>> Map<String, E> index(E[] values, Function<E, String> key) {
+        Map<String, E> index = HashMap.newHashMap(values.length);
+        for (E value : values) {
+            // Keep the first constant for a key, as the linear scans this replaces did
+            index.putIfAbsent(key.apply(value), value);
+        }
+
+        return Map.copyOf(index);
+    }
+}
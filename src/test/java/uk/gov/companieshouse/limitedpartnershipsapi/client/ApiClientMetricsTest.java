@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.client;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.COMPANY_GET;
+import static uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics.TRANSACTION_PATCH;
+
+class ApiClientMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApiClientMetrics apiClientMetrics = new ApiClientMetrics(meterRegistry);
+
+    @Test
+    void shouldRecordASuccessfulCall() throws URIValidationException {
+        String result = apiClientMetrics.record(COMPANY_GET, () -> {
+            assertEquals(1, inFlight(COMPANY_GET));
+            return "profile";
+        });
+
+        assertEquals("profile", result);
+        assertEquals(0, inFlight(COMPANY_GET));
+        assertEquals(1, meterRegistry.get(ApiClientMetrics.DURATION_METRIC)
+                .tags("operation", COMPANY_GET, "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ApiClientMetrics.CALLS_METRIC)
+                .tags("operation", COMPANY_GET, "outcome", "success").counter().count());
+    }
+
+    @Test
+    void shouldRecordTheOutcomeOfAFailedCall() {
+        ApiErrorResponseException notFound = apiError(404);
+        ApiErrorResponseException unavailable = apiError(503);
+
+        assertThrows(ApiErrorResponseException.class, () -> apiClientMetrics.record(COMPANY_GET, () -> {
+            throw notFound;
+        }));
+        assertThrows(ApiErrorResponseException.class, () -> apiClientMetrics.record(COMPANY_GET, () -> {
+            throw unavailable;
+        }));
+        assertThrows(URIValidationException.class, () -> apiClientMetrics.record(COMPANY_GET, () -> {
+            throw new URIValidationException("Invalid URI");
+        }));
+
+        assertThat(meterRegistry.get(ApiClientMetrics.CALLS_METRIC).tag("operation", COMPANY_GET).counters())
+                .extracting(counter -> counter.getId().getTag("outcome"))
+                .containsExactlyInAnyOrder("client_error", "server_error", "error");
+        assertEquals(0, inFlight(COMPANY_GET));
+    }
+
+    @Test
+    void shouldPassOnExceptionsThrownByTheCall() {
+        IOException exception = assertThrows(IOException.class, () -> apiClientMetrics.record(TRANSACTION_PATCH, () -> {
+            throw new IOException("Invalid status code received from the Transactions API: 200");
+        }));
+
+        assertEquals("Invalid status code received from the Transactions API: 200", exception.getMessage());
+        assertEquals(1, meterRegistry.get(ApiClientMetrics.CALLS_METRIC)
+                .tags("operation", TRANSACTION_PATCH, "outcome", "error").counter().count());
+    }
+
+    private double inFlight(String operation) {
+        return meterRegistry.get(ApiClientMetrics.IN_FLIGHT_METRIC).tag("operation", operation).gauge().value();
+    }
+
+    private static ApiErrorResponseException apiError(int statusCode) {
+        return ApiErrorResponseException.fromHttpResponseException(
+                new HttpResponseException.Builder(statusCode, "error", new HttpHeaders()).build());
+    }
+}
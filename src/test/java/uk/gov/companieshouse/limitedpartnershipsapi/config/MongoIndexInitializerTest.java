@@ -0,0 +1,144 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.limitedpartnershipsapi.Containers;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.MongoIndexInitializer.IndexReportEntry;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.MongoIndexInitializer.IndexStatus;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Testcontainers
+@SpringBootTest(properties = "MONGO_INDEX_MODE=CREATE")
+class MongoIndexInitializerTest {
+
+    private static final String TRANSACTION_ID = TransactionBuilder.TRANSACTION_ID;
+    private static final String TRANSACTION_ID_UPDATED_AT = "transaction_id_updated_at";
+
+    @Container
+    private static final MongoDBContainer mongoDBContainer = Containers.mongoDBContainer();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @BeforeEach
+    void init() {
+        mongoTemplate.insert(new LimitedPartnershipBuilder().buildDao());
+        mongoTemplate.insert(new GeneralPartnerBuilder().personDao());
+        mongoTemplate.insert(new LimitedPartnerBuilder().personDao());
+        mongoTemplate.insert(new PersonWithSignificantControlBuilder().individualPersonDao());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Class<?> dao : MongoIndexInitializer.INDEXED_DAOS) {
+            mongoTemplate.remove(new Query(), dao);
+        }
+        mongoIndexInitializer.ensureIndexes(MongoIndexInitializer.Mode.CREATE);
+    }
+
+    /**
+     * The same filters and sorts as the derived repository queries and the transaction outbox queries.
+     */
+    static Stream<Arguments> repositoryQueries() {
+        var byTransactionId = Query.query(where("transaction_id").is(TRANSACTION_ID));
+        var byTransactionIdNewestFirst = Query.query(where("transaction_id").is(TRANSACTION_ID))
+                .with(Sort.by(Sort.Direction.DESC, "updated_at"));
+        var outboxHead = Query.query(where("transaction_id").is(TRANSACTION_ID).and("status").in("PENDING", "IN_FLIGHT"))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+        var now = LocalDateTime.now();
+        var outboxDue = Query.query(new Criteria().orOperator(
+                        where("status").is("PENDING").and("next_attempt_at").lte(now),
+                        where("status").is("IN_FLIGHT").and("lease_expires_at").lte(now)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+
+        return Stream.of(
+                Arguments.of(LimitedPartnershipDao.class, byTransactionId),
+                Arguments.of(GeneralPartnerDao.class, byTransactionIdNewestFirst),
+                Arguments.of(LimitedPartnerDao.class, byTransactionIdNewestFirst),
+                Arguments.of(PersonWithSignificantControlDao.class, byTransactionIdNewestFirst),
+                Arguments.of(TransactionOutboxDao.class, outboxHead),
+                Arguments.of(TransactionOutboxDao.class, outboxDue));
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryQueries")
+    void testRepositoryQueryUsesAnIndexScan(Class<?> dao, Query query) {
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(dao))
+                .find(query.getQueryObject())
+                .sort(query.getSortObject())
+                .explain();
+
+        String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+        assertThat(winningPlan).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+
+    @Test
+    void testReportModeListsMissingIndexWithoutCreatingIt() {
+        mongoTemplate.indexOps(GeneralPartnerDao.class).dropIndex(TRANSACTION_ID_UPDATED_AT);
+
+        List<IndexReportEntry> report = mongoIndexInitializer.ensureIndexes(MongoIndexInitializer.Mode.REPORT);
+
+        assertThat(report).anyMatch(entry -> entry.collection().equals("general_partners")
+                && entry.indexName().equals(TRANSACTION_ID_UPDATED_AT)
+                && entry.status() == IndexStatus.MISSING);
+        assertThat(indexNames(GeneralPartnerDao.class)).doesNotContain(TRANSACTION_ID_UPDATED_AT);
+    }
+
+    @Test
+    void testCreateModeCreatesMissingIndexAndReportsExistingOnes() {
+        mongoTemplate.indexOps(LimitedPartnerDao.class).dropIndex(TRANSACTION_ID_UPDATED_AT);
+
+        List<IndexReportEntry> report = mongoIndexInitializer.ensureIndexes(MongoIndexInitializer.Mode.CREATE);
+
+        assertThat(report).anyMatch(entry -> entry.collection().equals("limited_partners")
+                && entry.status() == IndexStatus.CREATED);
+        assertThat(report).anyMatch(entry -> entry.collection().equals("general_partners")
+                && entry.status() == IndexStatus.PRESENT);
+        assertThat(indexNames(LimitedPartnerDao.class)).contains(TRANSACTION_ID_UPDATED_AT);
+    }
+
+    private List<String> indexNames(Class<?> dao) {
+        return mongoTemplate.indexOps(dao).getIndexInfo().stream().map(indexInfo -> indexInfo.getName()).toList();
+    }
+}
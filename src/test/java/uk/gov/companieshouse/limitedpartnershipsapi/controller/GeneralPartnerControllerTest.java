@@ -36,6 +36,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_GENERAL_PARTNER;
@@ -144,6 +145,42 @@ class GeneralPartnerControllerTest {
         assertCreatePartnerReturnsSuccess(txn, true);
     }
 
+    @Test
+    void testPostTransitionCreatePartnersAddsResumeLinkForLastPartner() throws Exception {
+        Transaction txn = new TransactionBuilder()
+                .withKindAndUri(FILING_KIND_GENERAL_PARTNER, URL_GET_GENERAL_PARTNER, GENERAL_PARTNER_ID)
+                .build();
+        txn.setFilingMode(FilingMode.DEFAULT.getDescription());
+        List<GeneralPartnerDto> generalPartnerDtos = List.of(generalPartnerDto, new GeneralPartnerBuilder().legalEntityDto());
+        when(generalPartnerService.createGeneralPartners(txn, generalPartnerDtos, REQUEST_ID, USER_ID))
+                .thenReturn(List.of("first-id", "last-id"));
+
+        var response = generalPartnerController.createGeneralPartners(txn, generalPartnerDtos, REQUEST_ID, USER_ID);
+
+        assertEquals(HttpStatus.CREATED.value(), response.getStatusCode().value());
+        verify(transactionService).updateTransactionWithResumeJourneyUri(
+                txn,
+                String.format(URL_RESUME_POST_TRANSITION_GENERAL_PARTNER, txn.getCompanyNumber(), TRANSACTION_ID, "last-id"),
+                REQUEST_ID
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FilingMode.class, names = {"REGISTRATION", "TRANSITION"})
+    void testCreatePartnersDoesNotAddResumeLink(FilingMode filingMode) throws Exception {
+        Transaction txn = new TransactionBuilder()
+                .withKindAndUri(FILING_KIND_GENERAL_PARTNER, URL_GET_GENERAL_PARTNER, GENERAL_PARTNER_ID)
+                .withIncorporationKind(filingMode)
+                .build();
+        List<GeneralPartnerDto> generalPartnerDtos = List.of(generalPartnerDto);
+        when(generalPartnerService.createGeneralPartners(txn, generalPartnerDtos, REQUEST_ID, USER_ID))
+                .thenReturn(List.of(SUBMISSION_ID));
+
+        generalPartnerController.createGeneralPartners(txn, generalPartnerDtos, REQUEST_ID, USER_ID);
+
+        verify(transactionService, never()).updateTransactionWithResumeJourneyUri(any(), any(), any());
+    }
+
     @Test
     void testCreatePartnerThrowsServiceException() throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
         when(generalPartnerService.createGeneralPartner(
@@ -166,14 +203,14 @@ class GeneralPartnerControllerTest {
                 eq(GENERAL_PARTNER_ID),
                 any(GeneralPartnerDataDto.class),
                 eq(REQUEST_ID),
-                eq(USER_ID));
+                eq(USER_ID), any());
 
         assertThrows(ServiceException.class, () -> generalPartnerController.updateGeneralPartner(
                 transaction,
                 GENERAL_PARTNER_ID,
                 new GeneralPartnerDataDto(),
                 REQUEST_ID,
-                USER_ID));
+                USER_ID, null));
     }
 
     @Test
@@ -183,14 +220,14 @@ class GeneralPartnerControllerTest {
                 eq(GENERAL_PARTNER_ID),
                 any(GeneralPartnerDataDto.class),
                 eq(REQUEST_ID),
-                eq(USER_ID));
+                eq(USER_ID), any());
 
         assertThrows(ResourceNotFoundException.class, () -> generalPartnerController.updateGeneralPartner(
                 transaction,
                 GENERAL_PARTNER_ID,
                 new GeneralPartnerDataDto(),
                 REQUEST_ID,
-                USER_ID));
+                USER_ID, null));
     }
 
     @Test
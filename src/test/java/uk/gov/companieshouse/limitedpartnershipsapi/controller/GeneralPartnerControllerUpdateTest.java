@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +11,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -20,16 +24,23 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.GeneralPartnerMapperImpl;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.GeneralPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.GeneralPartnerService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.GeneralPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 
@@ -38,11 +49,16 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_GENERAL_PARTNER;
@@ -55,6 +71,14 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_G
         GeneralPartnerValidator.class,
         PostTransitionStrategyHandler.class,
         ValidationStatus.class,
+        ValidationContextFactory.class,
+        SubmissionInserter.class,
+        SubmissionPatcher.class,
+        ValidationResultCache.class,
+        ValidationResultCacheConfig.class,
+        ValidationExecutor.class,
+        ExecutorConfig.class,
+        SimpleMeterRegistry.class,
         GeneralPartnerMapperImpl.class,
         GlobalExceptionHandler.class})
 @WebMvcTest(controllers = {GeneralPartnerController.class})
@@ -104,6 +128,9 @@ class GeneralPartnerControllerUpdateTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private GeneralPartnerRepository generalPartnerRepository;
 
@@ -125,6 +152,9 @@ class GeneralPartnerControllerUpdateTest {
         httpHeaders.add("ERIC-Access-Token", "passthrough");
         httpHeaders.add("X-Request-Id", "123");
         httpHeaders.add("ERIC-Identity", "123");
+
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(mongoTemplate.remove(any(Query.class), any(Class.class))).thenReturn(DeleteResult.acknowledged(1));
     }
 
     @ParameterizedTest
@@ -164,6 +194,56 @@ class GeneralPartnerControllerUpdateTest {
                 .andExpect(jsonPath("$.['errors'].['" + field + "']").value(errorMessage));
     }
 
+    @Test
+    void shouldReturn200IfTheIfMatchHeaderMatchesTheEtag() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setEtag("etag-123");
+        mocks(generalPartnerDao);
+
+        mockMvc.perform(patch(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, "\"etag-123\"")
+                        .requestAttr("transaction", transaction)
+                        .content(JSON_GENERAL_PARTNER_PERSON))
+                .andExpect(status().isOk());
+
+        verify(mongoTemplate).findAndReplace(any(Query.class), argThat((GeneralPartnerDao dao) -> !"etag-123".equals(dao.getData().getEtag())));
+    }
+
+    @Test
+    void shouldReturn412IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setEtag("etag-123");
+        mocks(generalPartnerDao);
+
+        mockMvc.perform(patch(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                        .requestAttr("transaction", transaction)
+                        .content(JSON_GENERAL_PARTNER_PERSON))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(mongoTemplate, never()).findAndReplace(any(Query.class), any());
+    }
+
+    @Test
+    void shouldReturn412IfTheSubmissionIsChangedBeforeItIsWritten() throws Exception {
+        mocks();
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenReturn(null);
+
+        mockMvc.perform(patch(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction)
+                        .content(JSON_GENERAL_PARTNER_PERSON))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Nested
     class CreatePartnerWithDateEffectiveFrom {
         private static final String JSON_GENERAL_PARTNER_PERSON = """
@@ -427,6 +507,23 @@ class GeneralPartnerControllerUpdateTest {
                             .requestAttr("transaction", transaction))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        void shouldReturn412IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+            GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+            generalPartnerDao.getData().setEtag("etag-123");
+            mocks(generalPartnerDao);
+
+            mockMvc.perform(delete(GENERAL_PARTNER_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                            .requestAttr("transaction", transaction))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        }
     }
 
     @Test
@@ -452,6 +549,113 @@ class GeneralPartnerControllerUpdateTest {
                 .andExpect(jsonPath("$.[1].data.completed").value(false));
     }
 
+    @Test
+    void shouldReturnTheSummaryListOfGPWithTheCompletedField() throws Exception {
+        GeneralPartnerDao generalPartnerDao1 = new GeneralPartnerBuilder().personDao();
+
+        GeneralPartnerDao generalPartnerDao2 = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao2.getData().setUsualResidentialAddress(null);
+
+        when(generalPartnerRepository.findSummariesByTransactionId(TRANSACTION_ID)).thenReturn(List.of(generalPartnerDao1, generalPartnerDao2));
+
+        mockMvc.perform(get(GENERAL_PARTNER_LIST_URL + "/summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(generalPartnerDao1.getId()))
+                .andExpect(jsonPath("$.[0].forename").value(generalPartnerDao1.getData().getForename()))
+                .andExpect(jsonPath("$.[0].completed").value(true))
+                .andExpect(jsonPath("$.[0].data").doesNotExist())
+                .andExpect(jsonPath("$.[0].usual_residential_address").doesNotExist())
+                .andExpect(jsonPath("$.[1].completed").value(false));
+    }
+
+    @Test
+    void shouldReturnTheGPWithItsEtag() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setEtag("etag-123");
+        mocks(generalPartnerDao);
+        when(generalPartnerRepository.findEtagById(GENERAL_PARTNER_ID)).thenReturn(Optional.of(generalPartnerDao));
+
+        mockMvc.perform(get(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag-123\""))
+                .andExpect(jsonPath("$.data.forename").value(generalPartnerDao.getData().getForename()));
+    }
+
+    @Test
+    void shouldReturn304WithoutLoadingTheGPIfTheIfNoneMatchHeaderMatchesTheEtag() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setEtag("etag-123");
+        mocks(generalPartnerDao);
+        when(generalPartnerRepository.findEtagById(GENERAL_PARTNER_ID)).thenReturn(Optional.of(generalPartnerDao));
+
+        httpHeaders.add(HttpHeaders.IF_NONE_MATCH, "\"etag-123\"");
+
+        mockMvc.perform(get(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag-123\""));
+
+        verify(generalPartnerRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldReturn404IfTheGPIsNotLinkedToTheTransactionEvenIfTheIfNoneMatchHeaderMatches() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setEtag("etag-123");
+        when(generalPartnerRepository.findEtagById(GENERAL_PARTNER_ID)).thenReturn(Optional.of(generalPartnerDao));
+        when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(false);
+
+        httpHeaders.add(HttpHeaders.IF_NONE_MATCH, "\"etag-123\"");
+
+        mockMvc.perform(get(GENERAL_PARTNER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturn304ForTheListOfGPIfNothingHasChangedSinceTheEtagWasReturned() throws Exception {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.setTransactionId(TRANSACTION_ID);
+        generalPartnerDao.getData().setEtag("etag-123");
+
+        when(generalPartnerRepository.findEtagsByTransactionId(TRANSACTION_ID)).thenReturn(List.of(generalPartnerDao));
+        when(generalPartnerRepository.findAllByTransactionIdOrderByUpdatedAtDesc(TRANSACTION_ID)).thenReturn(List.of(generalPartnerDao));
+
+        String etag = mockMvc.perform(get(GENERAL_PARTNER_LIST_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        httpHeaders.add(HttpHeaders.IF_NONE_MATCH, etag);
+
+        mockMvc.perform(get(GENERAL_PARTNER_LIST_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isNotModified());
+
+        verify(generalPartnerRepository, times(1)).findAllByTransactionIdOrderByUpdatedAtDesc(TRANSACTION_ID);
+    }
+
     private void mocks(GeneralPartnerDao generalPartnerDao) {
         when(generalPartnerRepository.insert((GeneralPartnerDao) any())).thenReturn(generalPartnerDao);
         when(generalPartnerRepository.save(any())).thenReturn(generalPartnerDao);
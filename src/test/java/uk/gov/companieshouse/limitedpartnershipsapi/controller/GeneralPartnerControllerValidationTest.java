@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -16,25 +18,40 @@ import uk.gov.companieshouse.api.interceptor.TransactionInterceptor;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.GeneralPartnerMapperImpl;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.GeneralPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.GeneralPartnerService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.GeneralPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -42,6 +59,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNER;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.INVALID_CHARACTERS_MESSAGE;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_GENERAL_PARTNER;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_LIMITED_PARTNER;
 
 @ContextConfiguration(classes = {
@@ -50,6 +69,14 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_G
         GeneralPartnerValidator.class,
         PostTransitionStrategyHandler.class,
         ValidationStatus.class,
+        ValidationContextFactory.class,
+        SubmissionInserter.class,
+        SubmissionPatcher.class,
+        ValidationResultCache.class,
+        ValidationResultCacheConfig.class,
+        ValidationExecutor.class,
+        ExecutorConfig.class,
+        SimpleMeterRegistry.class,
         GeneralPartnerMapperImpl.class,
         GlobalExceptionHandler.class}
 )
@@ -144,6 +171,9 @@ class GeneralPartnerControllerValidationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private GeneralPartnerRepository repository;
 
@@ -245,6 +275,67 @@ class GeneralPartnerControllerValidationTest {
                 .andExpect(jsonPath("$.['errors'].['legal_entity_name']").value("Legal Entity Name is required"));
     }
 
+    @Nested
+    class CreateGeneralPartners {
+        private static final String BULK_URL = "/transactions/" + TRANSACTION_ID + "/limited-partnership/general-partners";
+
+        @Test
+        void shouldReturn201WithTheIdOfEachPartnerInOrder() throws Exception {
+            GeneralPartnerDao personDao = new GeneralPartnerBuilder().personDao();
+            personDao.setId("person-id");
+            GeneralPartnerDao legalEntityDao = new GeneralPartnerBuilder().legalEntityDao();
+            legalEntityDao.setId("legal-entity-id");
+            when(repository.insert(anyList())).thenReturn(List.of(personDao, legalEntityDao));
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + JSON_CORRECT + "," + JSON_GENERAL_LEGAL_ENTITY_CORRECT + "]"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$[0].id").value("person-id"))
+                    .andExpect(jsonPath("$[1].id").value("legal-entity-id"));
+
+            verify(repository).saveSelfLinksByIdIn(List.of("person-id", "legal-entity-id"),
+                    String.format(URL_GET_GENERAL_PARTNER, TRANSACTION_ID, ""));
+            verify(transactionService).updateTransactionWithLinksForResources(any(), eq(transaction), argThat(resources -> resources.size() == 2), eq(Set.of()));
+        }
+
+        @Test
+        void shouldReturn400WithErrorsKeyedByIndexAndWriteNothing() throws Exception {
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + JSON_GENERAL_LEGAL_ENTITY_NO_NAME + "," + JSON_CORRECT + "," + JSON_WITH_BELOW_MIN_SURNAME + "]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['[0].legal_entity_name']").value("Legal Entity Name is required"))
+                    .andExpect(jsonPath("$.['errors'].['[2].data.surname']").value("Last name must be greater than 1"));
+
+            verify(repository, never()).insert(anyList());
+        }
+
+        @Test
+        void shouldReturn400AndWriteNothingWhenTheBatchIsTooLarge() throws Exception {
+            String batch = "[" + String.join(",", Collections.nCopies(MAX_BATCH_SIZE + 1, JSON_CORRECT)) + "]";
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content(batch))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['general_partners']")
+                            .value("No more than " + MAX_BATCH_SIZE + " general partners can be created at once"));
+
+            verify(repository, never()).insert(anyList());
+            verify(transactionService, never()).updateTransactionWithLinksForResources(any(), any(), any(), any());
+        }
+    }
+
     @Nested
     class ValidatePartner {
         @Test
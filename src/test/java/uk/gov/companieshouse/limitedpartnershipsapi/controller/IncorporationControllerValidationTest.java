@@ -26,6 +26,8 @@ import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnerRep
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipRepository;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.PersonWithSignificantControlRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraph;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraphLoader;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
@@ -93,6 +95,9 @@ class IncorporationControllerValidationTest {
     @MockitoBean
     private PersonWithSignificantControlRepository personWithSignificantControlRepository;
 
+    @MockitoBean
+    private TransactionSubmissionGraphLoader transactionSubmissionGraphLoader;
+
     @MockitoBean
     private TransactionService transactionService;
 
@@ -108,6 +113,15 @@ class IncorporationControllerValidationTest {
         httpHeaders.add("ERIC-Access-Token", "passthrough");
         httpHeaders.add("X-Request-Id", "123");
         httpHeaders.add("ERIC-Identity", "123");
+
+        when(transactionSubmissionGraphLoader.load(any())).thenAnswer(invocation -> {
+            String transactionId = invocation.getArgument(0);
+            return new TransactionSubmissionGraph(transactionId,
+                    limitedPartnershipRepository.findByTransactionId(transactionId),
+                    generalPartnerRepository.findAllByTransactionIdOrderByUpdatedAtDesc(transactionId),
+                    limitedPartnerRepository.findAllByTransactionIdOrderByUpdatedAtDesc(transactionId),
+                    personWithSignificantControlRepository.findAllByTransactionIdOrderByUpdatedAtDesc(transactionId));
+        });
     }
 
     @ParameterizedTest
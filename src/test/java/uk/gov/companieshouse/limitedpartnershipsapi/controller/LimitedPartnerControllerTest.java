@@ -33,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder.LIMITED_PARTNER_ID;
@@ -138,6 +139,45 @@ class LimitedPartnerControllerTest {
         assertCreatePartnerIsSuccessful(txn, true);
     }
 
+    @Test
+    void testPostTransitionCreatePartnersAddsResumeLinkForLastPartner() throws Exception {
+        Transaction txn = new TransactionBuilder()
+                .withKindAndUri(FILING_KIND_LIMITED_PARTNER, URL_GET_LIMITED_PARTNER, LIMITED_PARTNER_ID)
+                .build();
+        txn.setFilingMode(FilingMode.DEFAULT.getDescription());
+        List<LimitedPartnerDto> limitedPartnerDtos = List.of(limitedPartnerDto, new LimitedPartnerBuilder().legalEntityDto());
+        when(limitedPartnerService.createLimitedPartners(txn, limitedPartnerDtos, REQUEST_ID, USER_ID))
+                .thenReturn(List.of("first-id", "last-id"));
+
+        var response = limitedPartnerController.createLimitedPartners(txn, limitedPartnerDtos, REQUEST_ID, USER_ID);
+
+        assertEquals(HttpStatus.CREATED.value(), response.getStatusCode().value());
+        verify(transactionService).updateTransactionWithResumeJourneyUri(
+                txn,
+                String.format(URL_RESUME_POST_TRANSITION_LIMITED_PARTNER, txn.getCompanyNumber(), TRANSACTION_ID, "last-id"),
+                REQUEST_ID
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FilingMode.class, names = {
+            "REGISTRATION",
+            "TRANSITION"
+    })
+    void testCreatePartnersDoesNotAddResumeLink(FilingMode filingMode) throws Exception {
+        Transaction txn = new TransactionBuilder()
+                .withKindAndUri(FILING_KIND_LIMITED_PARTNER, URL_GET_LIMITED_PARTNER, LIMITED_PARTNER_ID)
+                .withIncorporationKind(filingMode)
+                .build();
+        List<LimitedPartnerDto> limitedPartnerDtos = List.of(limitedPartnerDto);
+        when(limitedPartnerService.createLimitedPartners(txn, limitedPartnerDtos, REQUEST_ID, USER_ID))
+                .thenReturn(List.of(SUBMISSION_ID));
+
+        limitedPartnerController.createLimitedPartners(txn, limitedPartnerDtos, REQUEST_ID, USER_ID);
+
+        verify(transactionService, never()).updateTransactionWithResumeJourneyUri(any(), any(), any());
+    }
+
     @Test
     void givenServiceException_whenCreateLimitedPartner_thenInternalServerError() throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
         when(limitedPartnerService.createLimitedPartner(
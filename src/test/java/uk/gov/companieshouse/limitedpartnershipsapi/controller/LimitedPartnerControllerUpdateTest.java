@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +12,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -21,6 +25,8 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnerMapperImpl;
@@ -30,11 +36,16 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.Partnershi
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.DataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnerService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnershipService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 
@@ -44,6 +55,8 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -55,7 +68,7 @@ import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILIN
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.INVALID_CHARACTERS_MESSAGE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_LIMITED_PARTNER;
 
-@ContextConfiguration(classes = {LimitedPartnerController.class, LimitedPartnerService.class, LimitedPartnerValidator.class, ValidationStatus.class, LimitedPartnerMapperImpl.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = {LimitedPartnerController.class, LimitedPartnerService.class, LimitedPartnerValidator.class, ValidationStatus.class, ValidationContextFactory.class, SubmissionInserter.class, SubmissionPatcher.class, ValidationResultCache.class, ValidationResultCacheConfig.class, ValidationExecutor.class, ExecutorConfig.class, SimpleMeterRegistry.class, LimitedPartnerMapperImpl.class, GlobalExceptionHandler.class})
 @WebMvcTest(controllers = {LimitedPartnerController.class})
 class LimitedPartnerControllerUpdateTest {
     private static final String TRANSACTION_ID = "863851-951242-143528";
@@ -74,6 +87,9 @@ class LimitedPartnerControllerUpdateTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private LimitedPartnerRepository limitedPartnerRepository;
 
@@ -98,6 +114,9 @@ class LimitedPartnerControllerUpdateTest {
         httpHeaders.add("ERIC-Access-Token", "passthrough");
         httpHeaders.add("X-Request-Id", "123");
         httpHeaders.add("ERIC-Identity", "123");
+
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(mongoTemplate.remove(any(Query.class), any(Class.class))).thenReturn(DeleteResult.acknowledged(1));
     }
 
     @Nested
@@ -319,6 +338,38 @@ class LimitedPartnerControllerUpdateTest {
                     .andExpect(status().isBadRequest());
         }
 
+        @Test
+        void shouldReturn412IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+            LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+            limitedPartnerDao.getData().setEtag("etag-123");
+            mocks(limitedPartnerDao);
+
+            mockMvc.perform(patch(LIMITED_PARTNER_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                            .requestAttr("transaction", transaction)
+                            .content(JSON_LIMITED_PARTNER_PERSON))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(mongoTemplate, never()).findAndReplace(any(Query.class), any());
+        }
+
+        @Test
+        void shouldReturn412IfTheSubmissionIsChangedBeforeItIsWritten() throws Exception {
+            mocks();
+            when(mongoTemplate.findAndReplace(any(Query.class), any())).thenReturn(null);
+
+            mockMvc.perform(patch(LIMITED_PARTNER_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content(JSON_LIMITED_PARTNER_PERSON))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
         @Nested
         class ContributionSubType {
 
@@ -574,6 +625,23 @@ class LimitedPartnerControllerUpdateTest {
                             .requestAttr("transaction", transaction))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        void shouldReturn412IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+            LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+            limitedPartnerDao.getData().setEtag("etag-123");
+            mocks(limitedPartnerDao);
+
+            mockMvc.perform(delete(LIMITED_PARTNER_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                            .requestAttr("transaction", transaction))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        }
     }
 
     @Test
@@ -606,6 +674,35 @@ class LimitedPartnerControllerUpdateTest {
                 .andExpect(jsonPath("$.[1].data.completed").value(false));
     }
 
+    @Test
+    void shouldReturnTheSummaryListOfLPWithTheCompletedField() throws Exception {
+        LimitedPartnerDao limitedPartnerDao1 = new LimitedPartnerBuilder().personDao();
+
+        LimitedPartnerDao limitedPartnerDao2 = new LimitedPartnerBuilder().personDao();
+        limitedPartnerDao2.getData().setUsualResidentialAddress(null);
+
+        when(limitedPartnerRepository.findSummariesByTransactionId(TRANSACTION_ID)).thenReturn(List.of(limitedPartnerDao1, limitedPartnerDao2));
+
+        LimitedPartnershipDto limitedPartnershipDto = new LimitedPartnershipDto();
+        limitedPartnershipDto.setData(new DataDto());
+        limitedPartnershipDto.getData().setPartnershipType(PartnershipType.LP);
+
+        when(limitedPartnershipService.getLimitedPartnership(transaction))
+                .thenReturn(limitedPartnershipDto);
+
+        mockMvc.perform(get(LIMITED_PARTNER_LIST_URL + "/summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(limitedPartnerDao1.getId()))
+                .andExpect(jsonPath("$.[0].surname").value(limitedPartnerDao1.getData().getSurname()))
+                .andExpect(jsonPath("$.[0].completed").value(true))
+                .andExpect(jsonPath("$.[0].data").doesNotExist())
+                .andExpect(jsonPath("$.[1].completed").value(false));
+    }
+
     private void mocks(LimitedPartnerDao limitedPartnerDao) throws ServiceException {
         when(limitedPartnerRepository.insert((LimitedPartnerDao) any())).thenReturn(limitedPartnerDao);
         when(limitedPartnerRepository.save(any())).thenReturn(limitedPartnerDao);
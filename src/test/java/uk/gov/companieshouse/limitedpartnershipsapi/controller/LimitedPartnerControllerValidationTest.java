@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -16,6 +18,8 @@ import uk.gov.companieshouse.api.interceptor.TransactionInterceptor;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnerMapperImpl;
@@ -24,21 +28,33 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.Partnershi
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.DataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnerService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnershipService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -46,9 +62,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_LIMITED_PARTNER;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.INVALID_CHARACTERS_MESSAGE;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_LIMITED_PARTNER;
 
-@ContextConfiguration(classes = {LimitedPartnerController.class, LimitedPartnerService.class, LimitedPartnerValidator.class, ValidationStatus.class, LimitedPartnerMapperImpl.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = {LimitedPartnerController.class, LimitedPartnerService.class, LimitedPartnerValidator.class, ValidationStatus.class, ValidationContextFactory.class, SubmissionInserter.class, SubmissionPatcher.class, ValidationResultCache.class, ValidationResultCacheConfig.class, ValidationExecutor.class, ExecutorConfig.class, SimpleMeterRegistry.class, LimitedPartnerMapperImpl.class, GlobalExceptionHandler.class})
 @WebMvcTest(controllers = {LimitedPartnerController.class})
 class LimitedPartnerControllerValidationTest {
 
@@ -130,6 +147,9 @@ class LimitedPartnerControllerValidationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private LimitedPartnerRepository limitedPartnerRepository;
 
@@ -280,6 +300,72 @@ class LimitedPartnerControllerValidationTest {
 
     }
 
+    @Nested
+    class CreateLimitedPartners {
+        private static final String BULK_URL = "/transactions/" + TRANSACTION_ID + "/limited-partnership/limited-partners";
+
+        @Test
+        void shouldReturn201WithTheIdOfEachPartnerInOrder() throws Exception {
+            mockLimitedPartnershipService(PartnershipType.LP);
+
+            LimitedPartnerDao firstDao = new LimitedPartnerBuilder().personDao();
+            firstDao.setId("first-id");
+            LimitedPartnerDao secondDao = new LimitedPartnerBuilder().personDao();
+            secondDao.setId("second-id");
+            when(limitedPartnerRepository.insert(anyList())).thenReturn(List.of(firstDao, secondDao));
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + JSON_CORRECT + "," + JSON_CORRECT + "]"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$[0].id").value("first-id"))
+                    .andExpect(jsonPath("$[1].id").value("second-id"));
+
+            verify(limitedPartnerRepository).saveSelfLinksByIdIn(List.of("first-id", "second-id"),
+                    String.format(URL_GET_LIMITED_PARTNER, TRANSACTION_ID, ""));
+            verify(transactionService).updateTransactionWithLinksForResources(any(), eq(transaction), argThat(resources -> resources.size() == 2));
+        }
+
+        @Test
+        void shouldReturn400WithErrorsKeyedByIndexAndWriteNothing() throws Exception {
+            mockLimitedPartnershipService(PartnershipType.LP);
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + JSON_CORRECT + "," + JSON_WITH_BELOW_MIN_SURNAME + "]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['[1].data.surname']").value("Last name must be greater than 1"))
+                    .andExpect(jsonPath("$.['errors'].['[0].data.surname']").doesNotExist());
+
+            verify(limitedPartnerRepository, never()).insert(anyList());
+            verify(transactionService, never()).updateTransactionWithLinksForResources(any(), any(), any());
+        }
+
+        @Test
+        void shouldReturn400AndWriteNothingWhenTheBatchIsTooLarge() throws Exception {
+            String batch = "[" + String.join(",", Collections.nCopies(MAX_BATCH_SIZE + 1, JSON_CORRECT)) + "]";
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content(batch))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['limited_partners']")
+                            .value("No more than " + MAX_BATCH_SIZE + " limited partners can be created at once"));
+
+            verify(limitedPartnerRepository, never()).insert(anyList());
+            verify(transactionService, never()).updateTransactionWithLinksForResources(any(), any(), any());
+        }
+    }
+
     private void mocks(LimitedPartnerDao limitedPartnerDao) throws ServiceException {
         when(limitedPartnerRepository.insert((LimitedPartnerDao) any())).thenReturn(limitedPartnerDao);
         when(limitedPartnerRepository.save(any())).thenReturn(limitedPartnerDao);
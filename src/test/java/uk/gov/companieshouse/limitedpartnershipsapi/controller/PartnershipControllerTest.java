@@ -121,7 +121,7 @@ class PartnershipControllerTest {
                 SUBMISSION_ID,
                 limitedPartnershipPatchDto,
                 REQUEST_ID,
-                USER_ID);
+                USER_ID, null);
 
         // then
         assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
@@ -131,7 +131,7 @@ class PartnershipControllerTest {
                 SUBMISSION_ID,
                 limitedPartnershipPatchDto,
                 REQUEST_ID,
-                USER_ID);
+                USER_ID, null);
     }
 
     @Test
@@ -145,7 +145,7 @@ class PartnershipControllerTest {
                         SUBMISSION_ID,
                         limitedPartnershipPatchDto,
                         REQUEST_ID,
-                        USER_ID);
+                        USER_ID, null);
 
         // when
         var response = partnershipController.updatePartnership(
@@ -153,7 +153,7 @@ class PartnershipControllerTest {
                 SUBMISSION_ID,
                 limitedPartnershipPatchDto,
                 REQUEST_ID,
-                USER_ID);
+                USER_ID, null);
 
         // then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
@@ -169,7 +169,7 @@ class PartnershipControllerTest {
                         SUBMISSION_ID,
                         limitedPartnershipPatchDto,
                         REQUEST_ID,
-                        USER_ID);
+                        USER_ID, null);
 
         // when
         var response = partnershipController.updatePartnership(
@@ -177,7 +177,7 @@ class PartnershipControllerTest {
                 SUBMISSION_ID,
                 limitedPartnershipPatchDto,
                 REQUEST_ID,
-                USER_ID);
+                USER_ID, null);
 
         // then
         assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatusCode().value());
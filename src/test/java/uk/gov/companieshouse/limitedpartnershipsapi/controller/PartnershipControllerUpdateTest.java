@@ -2,10 +2,13 @@ package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -17,6 +20,7 @@ import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnershipMapperImpl;
@@ -25,11 +29,15 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.Limite
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.LimitedPartnershipService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnershipValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.posttransition.PostTransitionStrategyHandler;
 
@@ -38,6 +46,8 @@ import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -48,6 +58,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         LimitedPartnershipService.class,
         LimitedPartnershipValidator.class,
         ValidationStatus.class,
+        ValidationContextFactory.class,
+        SubmissionInserter.class,
+        SubmissionPatcher.class,
+        ValidationResultCache.class,
+        ValidationResultCacheConfig.class,
+        SimpleMeterRegistry.class,
         LimitedPartnershipMapperImpl.class,
         LimitedPartnershipPatchMapperImpl.class,
         CostsService.class,
@@ -65,6 +81,9 @@ class PartnershipControllerUpdateTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private LimitedPartnershipRepository limitedPartnershipRepository;
 
@@ -89,6 +108,8 @@ class PartnershipControllerUpdateTest {
         httpHeaders.add("ERIC-Access-Token", "passthrough");
         httpHeaders.add("X-Request-Id", "123");
         httpHeaders.add("ERIC-Identity", "123");
+
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     @Test
@@ -204,6 +225,42 @@ class PartnershipControllerUpdateTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void UpdateShouldReturn412IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+        LimitedPartnershipDao limitedPartnershipDao = new LimitedPartnershipBuilder().buildDao();
+        limitedPartnershipDao.getData().setEtag("etag-123");
+        mocks(limitedPartnershipDao);
+
+        String body = "{ \"partnership_name\" : \"Test name\", \"name_ending\" : \"LP\" }";
+
+        mockMvc.perform(patch(PARTNERSHIP_PATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                        .requestAttr("transaction", transaction)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(mongoTemplate, never()).findAndReplace(any(Query.class), any());
+    }
+
+    @Test
+    void UpdateShouldReturn412IfThePartnershipIsChangedBeforeItIsWritten() throws Exception {
+        mocks();
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenReturn(null);
+
+        String body = "{ \"partnership_name\" : \"Test name\", \"name_ending\" : \"LP\" }";
+
+        mockMvc.perform(patch(PARTNERSHIP_PATCH_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .headers(httpHeaders)
+                        .requestAttr("transaction", transaction)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     private void mocks(LimitedPartnershipDao limitedPartnershipDao) throws ServiceException {
         when(limitedPartnershipRepository.insert((LimitedPartnershipDao) any())).thenReturn(limitedPartnershipDao);
         when(limitedPartnershipRepository.save(any())).thenReturn(limitedPartnershipDao);
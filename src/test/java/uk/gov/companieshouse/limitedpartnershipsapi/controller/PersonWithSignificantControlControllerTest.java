@@ -132,21 +132,21 @@ class PersonWithSignificantControlControllerTest {
                 PERSON_WITH_SIGNIFICANT_CONTROL_ID,
                 new PersonWithSignificantControlBuilder().individualPersonDto().getData(),
                 REQUEST_ID,
-                USER_ID);
+                USER_ID, null);
 
         assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
     }
 
     @Test
     void testUpdatePersonWithSignificantControlThrowsResourceNotFoundException() throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
-        doThrow(ResourceNotFoundException.class).when(personWithSignificantControlService).updatePersonWithSignificantControl(any(Transaction.class), anyString(), any(PersonWithSignificantControlDataDto.class), anyString(), anyString() );
+        doThrow(ResourceNotFoundException.class).when(personWithSignificantControlService).updatePersonWithSignificantControl(any(Transaction.class), anyString(), any(PersonWithSignificantControlDataDto.class), anyString(), anyString(), any() );
 
         assertThrows(ResourceNotFoundException.class, () -> personWithSignificantControlController.updatePersonWithSignificantControl(
                 transaction,
                 PERSON_WITH_SIGNIFICANT_CONTROL_ID,
                 new PersonWithSignificantControlBuilder().individualPersonDto().getData(),
                 REQUEST_ID,
-                USER_ID));
+                USER_ID, null));
     }
 
     @Test
@@ -154,10 +154,10 @@ class PersonWithSignificantControlControllerTest {
         var response = personWithSignificantControlController.deletePersonWithSignificantControl(
                 transaction,
                 PERSON_WITH_SIGNIFICANT_CONTROL_ID,
-                REQUEST_ID);
+                REQUEST_ID, null);
 
         assertEquals(HttpStatus.NO_CONTENT.value(), response.getStatusCode().value());
-        verify(personWithSignificantControlService).deletePersonWithSignificantControl(transaction, PERSON_WITH_SIGNIFICANT_CONTROL_ID, REQUEST_ID);
+        verify(personWithSignificantControlService).deletePersonWithSignificantControl(transaction, PERSON_WITH_SIGNIFICANT_CONTROL_ID, REQUEST_ID, null);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
@@ -17,14 +20,21 @@ import uk.gov.companieshouse.api.interceptor.TransactionInterceptor;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ExecutorConfig;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.ValidationResultCacheConfig;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.GlobalExceptionHandler;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.PersonWithSignificantControlMapperImpl;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dao.PersonWithSignificantControlDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.PersonWithSignificantControlRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CompanyService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.CostsService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.PersonWithSignificantControlService;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionService;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationStatus;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.IndividualPersonValidatorStrategy;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.OtherRegistrablePersonValidatorStrategy;
@@ -36,22 +46,39 @@ import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwith
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.natureofcontrol.NatureOfControlValidator;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.INVALID_CHARACTERS_MESSAGE;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL;
 
 @ContextConfiguration(classes = {
         PersonWithSignificantControlController.class,
         PersonWithSignificantControlService.class,
         ValidationStatus.class,
+        ValidationContextFactory.class,
+        SubmissionInserter.class,
+        SubmissionPatcher.class,
+        ValidationResultCache.class,
+        ValidationResultCacheConfig.class,
+        ValidationExecutor.class,
+        ExecutorConfig.class,
+        SimpleMeterRegistry.class,
         PersonWithSignificantControlMapperImpl.class,
         GlobalExceptionHandler.class,
         PersonWithSignificantControlValidator.class,
@@ -83,6 +110,9 @@ class PersonWithSignificantControlControllerValidationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private MongoTemplate mongoTemplate;
+
     @MockitoBean
     private PersonWithSignificantControlRepository repository;
 
@@ -104,6 +134,8 @@ class PersonWithSignificantControlControllerValidationTest {
         httpHeaders.add("ERIC-Access-Token", "passthrough");
         httpHeaders.add("X-Request-Id", "123");
         httpHeaders.add("ERIC-Identity", "123");
+
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     // RLE
@@ -447,6 +479,102 @@ class PersonWithSignificantControlControllerValidationTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.['errors'].['" + field + "']").value(errorMessage));
         }
+
+        @Test
+        void shouldReturn412_update_IP_IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+            PersonWithSignificantControlDao personWithSignificantControlDao = new PersonWithSignificantControlBuilder().individualPersonDao();
+            personWithSignificantControlDao.getData().setEtag("etag-123");
+            mocksPsc(personWithSignificantControlDao);
+
+            mockMvc.perform(patch(BASE_URL + "/" + PERSON_WITH_SIGNIFICANT_CONTROL_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                            .requestAttr("transaction", transaction)
+                            .content("{ \"forename\": \"Bob\" }"))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(mongoTemplate, never()).findAndReplace(any(Query.class), any());
+        }
+
+        @Test
+        void shouldReturn412_delete_IP_IfTheIfMatchHeaderDoesNotMatchTheEtag() throws Exception {
+            PersonWithSignificantControlDao personWithSignificantControlDao = new PersonWithSignificantControlBuilder().individualPersonDao();
+            personWithSignificantControlDao.getData().setEtag("etag-123");
+            mocksPsc(personWithSignificantControlDao);
+
+            mockMvc.perform(delete(BASE_URL + "/" + PERSON_WITH_SIGNIFICANT_CONTROL_ID)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .header(HttpHeaders.IF_MATCH, "\"etag-456\"")
+                            .requestAttr("transaction", transaction))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        }
+    }
+
+    @Nested
+    class CreatePersonsWithSignificantControl {
+        private static final String BULK_URL = "/transactions/" + TRANSACTION_ID + "/limited-partnership/persons-with-significant-control";
+
+        @Test
+        void shouldReturn201WithTheIdOfEachPersonInOrder() throws Exception {
+            PersonWithSignificantControlDao firstDao = new PersonWithSignificantControlBuilder().relevantLegalEntityDao();
+            firstDao.setId("first-id");
+            PersonWithSignificantControlDao secondDao = new PersonWithSignificantControlBuilder().relevantLegalEntityDao();
+            secondDao.setId("second-id");
+            when(repository.insert(anyList())).thenReturn(List.of(firstDao, secondDao));
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + RelevantLegalEntity.JSON_CORRECT_RLE + "," + RelevantLegalEntity.JSON_CORRECT_MANDATORY_ONLY_RLE + "]"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$[0].id").value("first-id"))
+                    .andExpect(jsonPath("$[1].id").value("second-id"));
+
+            verify(repository).saveSelfLinksByIdIn(List.of("first-id", "second-id"),
+                    String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, TRANSACTION_ID, ""));
+            verify(transactionService).updateTransactionWithLinksForResources(any(), eq(transaction), argThat(resources -> resources.size() == 2));
+        }
+
+        @Test
+        void shouldReturn400WithErrorsKeyedByIndexAndWriteNothing() throws Exception {
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content("[" + RelevantLegalEntity.JSON_CORRECT_RLE + ","
+                                    + String.format("{\"data\":%s}", RelevantLegalEntity.JSON_NAME_IS_REQUIRED_RLE) + "]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['[1].data.legalEntityName']").value("Name is required"));
+
+            verify(repository, never()).insert(anyList());
+        }
+
+        @Test
+        void shouldReturn400AndWriteNothingWhenTheBatchIsTooLarge() throws Exception {
+            String batch = "[" + String.join(",", Collections.nCopies(MAX_BATCH_SIZE + 1, RelevantLegalEntity.JSON_CORRECT_RLE)) + "]";
+
+            mockMvc.perform(post(BULK_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .characterEncoding(StandardCharsets.UTF_8)
+                            .headers(httpHeaders)
+                            .requestAttr("transaction", transaction)
+                            .content(batch))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.['errors'].['persons_with_significant_control']")
+                            .value("No more than " + MAX_BATCH_SIZE + " persons with significant control can be created at once"));
+
+            verify(repository, never()).insert(anyList());
+            verify(transactionService, never()).updateTransactionWithLinksForResources(any(), any(), any());
+        }
     }
 
     private void mocksPsc(PersonWithSignificantControlDao personWithSignificantControlDao) {
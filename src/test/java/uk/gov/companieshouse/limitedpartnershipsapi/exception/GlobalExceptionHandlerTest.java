@@ -53,6 +53,17 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, entity.getStatusCode());
     }
 
+    @Test
+    void testHandlePreconditionFailedExceptionReturnsPreconditionFailed() {
+        when(webRequest.getHeader(ERIC_REQUEST_ID_KEY)).thenReturn(REQUEST_ID);
+
+        ResponseEntity<Object> entity = globalExceptionHandler.handlePreconditionFailedException(
+                new PreconditionFailedException("Etag does not match"), webRequest);
+
+        assertNotNull(entity);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, entity.getStatusCode());
+    }
+
     @Test
     void testHandleExceptionEncodesException() {
         Throwable rootCause = new Throwable("root cause \n");
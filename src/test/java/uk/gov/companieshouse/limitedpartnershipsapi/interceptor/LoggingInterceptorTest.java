@@ -0,0 +1,113 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.interceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.GeneralPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.RequestScopedRepositoryCacheInterceptor;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoggingInterceptorTest {
+
+    private static final String ROUTE = "/transactions/{transactionId}/limited-partnership/general-partner/{generalPartnerId}";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testRequestIsNotLoggedWhenTheSampleRateIsZero() {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(0, meterRegistry);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(loggingInterceptor.preHandle(request, response, new Object()));
+        loggingInterceptor.afterCompletion(request, response, new Object(), null);
+
+        assertNull(request.getAttribute("start-time"));
+    }
+
+    @Test
+    void testEveryRequestIsLoggedWhenTheSampleRateIsOne() {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(1, meterRegistry);
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(loggingInterceptor.preHandle(request, response, new Object()));
+        loggingInterceptor.afterCompletion(request, response, new Object(), null);
+
+        assertNotNull(request.getAttribute("start-time"));
+    }
+
+    @Test
+    void testNothingIsLoggedForARequestThatWasNotStarted() {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(1, meterRegistry);
+
+        assertDoesNotThrow(() -> loggingInterceptor.afterCompletion(request(), new MockHttpServletResponse(), new Object(), null));
+    }
+
+    @Test
+    void testRepositoryCacheHitsAndMissesAreRecordedForARequestThatIsNotSampled() throws Throwable {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(0, meterRegistry);
+        MockHttpServletRequest request = request();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MethodInvocation findById = mock(MethodInvocation.class);
+        when(findById.getMethod()).thenReturn(GeneralPartnerRepository.class.getMethod("findById", Object.class));
+        when(findById.getArguments()).thenReturn(new Object[]{"abc-123"});
+        when(findById.proceed()).thenReturn(Optional.of(new GeneralPartnerDao()));
+        var repositoryCacheInterceptor = new RequestScopedRepositoryCacheInterceptor(GeneralPartnerRepository.class);
+
+        assertTrue(loggingInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        repositoryCacheInterceptor.invoke(findById);
+        repositoryCacheInterceptor.invoke(findById);
+        repositoryCacheInterceptor.invoke(findById);
+        loggingInterceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        DistributionSummary hits = meterRegistry.get(LoggingInterceptor.REPOSITORY_CACHE_METRIC).tag("result", "hit").summary();
+        DistributionSummary misses = meterRegistry.get(LoggingInterceptor.REPOSITORY_CACHE_METRIC).tag("result", "miss").summary();
+        assertEquals(1, hits.count());
+        assertEquals(2.0, hits.totalAmount());
+        assertEquals(1, misses.count());
+        assertEquals(1.0, misses.totalAmount());
+    }
+
+    @Test
+    void testNothingIsRecordedForARequestThatDidNotReadFromARepository() {
+        LoggingInterceptor loggingInterceptor = new LoggingInterceptor(0, meterRegistry);
+        MockHttpServletRequest request = request();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        loggingInterceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+        assertEquals(0, meterRegistry.get(LoggingInterceptor.REPOSITORY_CACHE_METRIC).tag("result", "hit").summary().count());
+        assertEquals(0, meterRegistry.get(LoggingInterceptor.REPOSITORY_CACHE_METRIC).tag("result", "miss").summary().count());
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transactions/863851-951242-143528/limited-partnership/general-partner/abc-123");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        return request;
+    }
+}
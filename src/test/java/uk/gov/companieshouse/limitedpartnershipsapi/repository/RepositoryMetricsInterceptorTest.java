@@ -0,0 +1,128 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RepositoryMetricsInterceptorTest {
+
+    private static final String COLLECTION = "general_partners";
+    private static final String FIND_ALL_METHOD = "findAllByTransactionIdOrderByUpdatedAtDesc";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    private ObjectProvider<MongoTemplate> mongoTemplateProvider;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoDatabase mongoDatabase;
+
+    @Mock
+    private MethodInvocation findAllInvocation;
+
+    @Mock
+    private MethodInvocation saveCompletionInvocation;
+
+    private final GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        when(mongoTemplateProvider.getIfAvailable()).thenReturn(mongoTemplate);
+        when(mongoTemplate.getCollectionName(GeneralPartnerDao.class)).thenReturn(COLLECTION);
+
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        lenient().when(mongoTemplate.getConverter()).thenReturn(converter);
+        lenient().when(mongoTemplate.getDb()).thenReturn(mongoDatabase);
+        lenient().when(mongoDatabase.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+
+        lenient().when(findAllInvocation.getMethod()).thenReturn(GeneralPartnerRepository.class.getMethod(FIND_ALL_METHOD, String.class));
+        lenient().when(saveCompletionInvocation.getMethod()).thenReturn(GeneralPartnerRepository.class.getMethod("saveCompletionById", String.class, boolean.class, int.class));
+    }
+
+    @Test
+    void testReadIsTimedAndItsDocumentsCounted() throws Throwable {
+        when(findAllInvocation.proceed()).thenReturn(List.of(generalPartnerDao, generalPartnerDao));
+
+        Object result = interceptor(false).invoke(findAllInvocation);
+
+        assertEquals(List.of(generalPartnerDao, generalPartnerDao), result);
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.DURATION_METRIC)
+                .tags("collection", COLLECTION, "method", FIND_ALL_METHOD, "outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get(RepositoryMetricsInterceptor.DOCUMENTS_METRIC)
+                .tags("collection", COLLECTION, "method", FIND_ALL_METHOD).summary().totalAmount());
+        assertNull(meterRegistry.find(RepositoryMetricsInterceptor.DOCUMENT_SIZE_METRIC).summary());
+    }
+
+    @Test
+    void testDocumentSizesAreRecordedWhenEnabled() throws Throwable {
+        when(findAllInvocation.proceed()).thenReturn(List.of(generalPartnerDao));
+
+        interceptor(true).invoke(findAllInvocation);
+
+        var documentSize = meterRegistry.get(RepositoryMetricsInterceptor.DOCUMENT_SIZE_METRIC)
+                .tags("collection", COLLECTION, "method", FIND_ALL_METHOD).summary();
+        assertEquals(1, documentSize.count());
+        assertTrue(documentSize.totalAmount() > 0);
+    }
+
+    @Test
+    void testUpdateIsTimedWithoutCountingDocuments() throws Throwable {
+        when(saveCompletionInvocation.proceed()).thenReturn(null);
+
+        interceptor(true).invoke(saveCompletionInvocation);
+
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.DURATION_METRIC)
+                .tags("method", "saveCompletionById").timer().count());
+        assertNull(meterRegistry.find(RepositoryMetricsInterceptor.DOCUMENTS_METRIC).summary());
+    }
+
+    @Test
+    void testFailedCallIsTimedAndRethrown() throws Throwable {
+        var exception = new IllegalStateException("Mongo unavailable");
+        when(findAllInvocation.proceed()).thenThrow(exception);
+
+        RepositoryMetricsInterceptor interceptor = interceptor(false);
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> interceptor.invoke(findAllInvocation)));
+
+        assertEquals(1, meterRegistry.get(RepositoryMetricsInterceptor.DURATION_METRIC)
+                .tags("method", FIND_ALL_METHOD, "outcome", "error").timer().count());
+    }
+
+    private RepositoryMetricsInterceptor interceptor(boolean documentSizeMetricsEnabled) {
+        return new RepositoryMetricsInterceptor(GeneralPartnerDao.class, meterRegistryProvider, mongoTemplateProvider,
+                documentSizeMetricsEnabled);
+    }
+}
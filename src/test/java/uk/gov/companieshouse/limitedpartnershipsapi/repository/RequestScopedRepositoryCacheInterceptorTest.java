@@ -0,0 +1,103 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder.GENERAL_PARTNER_ID;
+
+@ExtendWith(MockitoExtension.class)
+class RequestScopedRepositoryCacheInterceptorTest {
+
+    private final RequestScopedRepositoryCacheInterceptor interceptor = new RequestScopedRepositoryCacheInterceptor(GeneralPartnerRepository.class);
+
+    @Mock
+    private MethodInvocation findByIdInvocation;
+
+    @Mock
+    private MethodInvocation saveInvocation;
+
+    private final GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        lenient().when(findByIdInvocation.getMethod()).thenReturn(GeneralPartnerRepository.class.getMethod("findById", Object.class));
+        lenient().when(findByIdInvocation.getArguments()).thenReturn(new Object[]{GENERAL_PARTNER_ID});
+        lenient().when(findByIdInvocation.proceed()).thenReturn(Optional.of(generalPartnerDao));
+
+        lenient().when(saveInvocation.getMethod()).thenReturn(GeneralPartnerRepository.class.getMethod("save", Object.class));
+        lenient().when(saveInvocation.proceed()).thenReturn(generalPartnerDao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testRepeatedReadIsServedFromCacheWithinRequest() throws Throwable {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        Object first = interceptor.invoke(findByIdInvocation);
+        Object second = interceptor.invoke(findByIdInvocation);
+
+        assertSame(first, second);
+        verify(findByIdInvocation, times(1)).proceed();
+
+        RequestScopedRepositoryCache cache = RequestScopedRepositoryCache.currentIfPresent();
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testWriteInvalidatesCachedReads() throws Throwable {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        interceptor.invoke(findByIdInvocation);
+        interceptor.invoke(saveInvocation);
+        interceptor.invoke(findByIdInvocation);
+
+        verify(findByIdInvocation, times(2)).proceed();
+        assertEquals(2, RequestScopedRepositoryCache.currentIfPresent().getMisses());
+    }
+
+    @Test
+    void testCacheIsNotSharedBetweenRequests() throws Throwable {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        interceptor.invoke(findByIdInvocation);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        interceptor.invoke(findByIdInvocation);
+
+        verify(findByIdInvocation, times(2)).proceed();
+    }
+
+    @Test
+    void testReadsOutsideOfRequestAreNotCached() throws Throwable {
+        when(findByIdInvocation.proceed()).thenReturn(Optional.of(generalPartnerDao));
+
+        interceptor.invoke(findByIdInvocation);
+        interceptor.invoke(findByIdInvocation);
+
+        verify(findByIdInvocation, times(2)).proceed();
+        assertNull(RequestScopedRepositoryCache.currentIfPresent());
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LINK_SELF;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionInserterTest {
+
+    private static final String SELF_LINK_PREFIX = "/transactions/txn-123/limited-partnership/limited-partner/";
+    private static final String REQUEST_ID = "request-123";
+
+    @Mock
+    private LimitedPartnerRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldInsertOnceWithSelfLinkWhenIdIsPreallocated() {
+        SubmissionInserter submissionInserter = new SubmissionInserter(true, meterRegistry);
+        LimitedPartnerDao dao = new LimitedPartnerDao();
+        when(repository.insert(dao)).thenReturn(dao);
+
+        LimitedPartnerDao insertedDao = submissionInserter.insertWithSelfLink(repository, dao, id -> SELF_LINK_PREFIX + id);
+
+        assertThat(insertedDao.getId()).matches("[0-9a-f]{24}");
+        assertThat(insertedDao.getCreatedAt()).isNotNull();
+        assertEquals(SELF_LINK_PREFIX + insertedDao.getId(), insertedDao.getLinks().get(LINK_SELF));
+        verify(repository, never()).save(any());
+        assertEquals(1, writes("preallocated"));
+        assertEquals(1, inserted("preallocated"));
+    }
+
+    @Test
+    void shouldInsertThenSaveSelfLinkWhenIdIsNotPreallocated() {
+        SubmissionInserter submissionInserter = new SubmissionInserter(false, meterRegistry);
+        LimitedPartnerDao dao = new LimitedPartnerDao();
+        LimitedPartnerDao insertedDao = new LimitedPartnerDao();
+        insertedDao.setId("abc-123");
+        when(repository.insert(dao)).thenReturn(insertedDao);
+
+        submissionInserter.insertWithSelfLink(repository, dao, id -> SELF_LINK_PREFIX + id);
+
+        assertEquals(SELF_LINK_PREFIX + "abc-123", dao.getLinks().get(LINK_SELF));
+        verify(repository).save(dao);
+        assertEquals(2, writes("insert_then_update"));
+        assertEquals(1, inserted("insert_then_update"));
+    }
+
+    @Test
+    void shouldInsertBatchWithSelfLinksWhenIdsArePreallocated() {
+        SubmissionInserter submissionInserter = new SubmissionInserter(true, meterRegistry);
+        List<LimitedPartnerDao> daos = List.of(new LimitedPartnerDao(), new LimitedPartnerDao());
+        when(repository.insert(daos)).thenReturn(daos);
+
+        List<LimitedPartnerDao> insertedDaos = submissionInserter.insertAllWithSelfLinks(repository, daos, SELF_LINK_PREFIX,
+                ids -> {
+                    throw new AssertionError("Self links should not need a separate update");
+                }, REQUEST_ID);
+
+        assertThat(insertedDaos).extracting(LimitedPartnerDao::getId).doesNotHaveDuplicates().doesNotContainNull();
+        insertedDaos.forEach(dao -> assertEquals(SELF_LINK_PREFIX + dao.getId(), dao.getLinks().get(LINK_SELF)));
+        assertEquals(1, writes("preallocated"));
+        assertEquals(2, inserted("preallocated"));
+    }
+
+    @Test
+    void shouldDeleteBatchWhenSelfLinksCannotBeSaved() {
+        SubmissionInserter submissionInserter = new SubmissionInserter(false, meterRegistry);
+        LimitedPartnerDao first = new LimitedPartnerDao();
+        first.setId("first-id");
+        LimitedPartnerDao second = new LimitedPartnerDao();
+        second.setId("second-id");
+        when(repository.insert(anyList())).thenReturn(List.of(first, second));
+
+        List<LimitedPartnerDao> daos = List.of(new LimitedPartnerDao(), new LimitedPartnerDao());
+        assertThrows(IllegalStateException.class, () -> submissionInserter.insertAllWithSelfLinks(repository, daos,
+                SELF_LINK_PREFIX, ids -> {
+                    throw new IllegalStateException("Update failed");
+                }, REQUEST_ID));
+
+        verify(repository).deleteAllById(List.of("first-id", "second-id"));
+        assertThat(meterRegistry.find(SubmissionInserter.SUBMISSION_WRITES_METRIC).counter()).isNull();
+    }
+
+    private double writes(String mode) {
+        return meterRegistry.get(SubmissionInserter.SUBMISSION_WRITES_METRIC)
+                .tags("submission", LimitedPartnerDao.class.getSimpleName(), "mode", mode)
+                .counter().count();
+    }
+
+    private double inserted(String mode) {
+        return meterRegistry.get(SubmissionInserter.SUBMISSIONS_INSERTED_METRIC)
+                .tags("submission", LimitedPartnerDao.class.getSimpleName(), "mode", mode)
+                .counter().count();
+    }
+}
@@ -0,0 +1,160 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.limitedpartnershipsapi.Containers;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.PreconditionFailedException;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Testcontainers
+@SpringBootTest
+class SubmissionPatcherTest {
+
+    private static final String GENERAL_PARTNER_ID = GeneralPartnerBuilder.GENERAL_PARTNER_ID;
+    private static final String USER_ID = "xbJf0l";
+
+    @Container
+    private static final MongoDBContainer mongoDBContainer = Containers.mongoDBContainer();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private GeneralPartnerRepository generalPartnerRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private SubmissionPatcher submissionPatcher;
+
+    @BeforeEach
+    void setUp() {
+        submissionPatcher = new SubmissionPatcher(true, mongoTemplate);
+
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.getData().setNationality2(Nationality.IRISH.getDescription());
+        generalPartnerDao.getData().setEtag("etag-before-patch");
+        generalPartnerRepository.insert(generalPartnerDao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generalPartnerRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSetChangedFieldsAndUnsetRemovedFields() throws ServiceException {
+        GeneralPartnerDao daoBeforePatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        GeneralPartnerDao daoAfterPatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        daoAfterPatch.getData().setForename("Joe");
+        daoAfterPatch.getData().setNationality2(null);
+        daoAfterPatch.getData().setEtag("etag-after-patch");
+        daoAfterPatch.setUpdatedBy(USER_ID);
+
+        submissionPatcher.update(daoBeforePatch, daoAfterPatch, "etag-before-patch");
+
+        GeneralPartnerDao savedDao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        assertThat(savedDao.getData().getForename()).isEqualTo("Joe");
+        assertThat(savedDao.getData().getSurname()).isEqualTo(daoBeforePatch.getData().getSurname());
+        assertThat(savedDao.getData().getNationality2()).isNull();
+        assertThat(savedDao.getData().getEtag()).isEqualTo("etag-after-patch");
+        assertThat(savedDao.getUpdatedBy()).isEqualTo(USER_ID);
+        assertThat(savedDao.getUpdatedAt()).isNotNull();
+        assertThat(savedDao.getTransactionId()).isEqualTo(daoBeforePatch.getTransactionId());
+    }
+
+    @Test
+    void shouldNotWriteWhenTheEtagHasChangedSinceTheSubmissionWasRead() {
+        GeneralPartnerDao daoBeforePatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        GeneralPartnerDao daoAfterPatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        daoAfterPatch.getData().setForename("Joe");
+        daoAfterPatch.getData().setEtag("etag-after-patch");
+
+        assertThrows(PreconditionFailedException.class, () ->
+                submissionPatcher.update(daoBeforePatch, daoAfterPatch, "stale-etag"));
+
+        GeneralPartnerDao savedDao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        assertThat(savedDao.getData().getForename()).isEqualTo(daoBeforePatch.getData().getForename());
+        assertThat(savedDao.getData().getEtag()).isEqualTo("etag-before-patch");
+    }
+
+    @Test
+    void shouldReplaceTheWholeDocumentWhenPartialUpdatesAreDisabled() throws ServiceException {
+        var fullReplacePatcher = new SubmissionPatcher(false, mongoTemplate);
+        GeneralPartnerDao daoBeforePatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        GeneralPartnerDao daoAfterPatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        daoAfterPatch.getData().setForename("Joe");
+        daoAfterPatch.getData().setNationality2(null);
+        daoAfterPatch.getData().setEtag("etag-after-patch");
+
+        fullReplacePatcher.update(daoBeforePatch, daoAfterPatch, "etag-before-patch");
+
+        GeneralPartnerDao savedDao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        assertThat(savedDao.getData().getForename()).isEqualTo("Joe");
+        assertThat(savedDao.getData().getNationality2()).isNull();
+        assertThat(savedDao.getData().getEtag()).isEqualTo("etag-after-patch");
+        assertThat(savedDao.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldNotReplaceTheDocumentWhenTheEtagHasChangedSinceTheSubmissionWasRead() {
+        var fullReplacePatcher = new SubmissionPatcher(false, mongoTemplate);
+        GeneralPartnerDao daoBeforePatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        GeneralPartnerDao daoAfterPatch = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        daoAfterPatch.getData().setForename("Joe");
+        daoAfterPatch.getData().setEtag("etag-after-patch");
+
+        assertThrows(PreconditionFailedException.class, () ->
+                fullReplacePatcher.update(daoBeforePatch, daoAfterPatch, "stale-etag"));
+
+        GeneralPartnerDao savedDao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+        assertThat(savedDao.getData().getForename()).isEqualTo(daoBeforePatch.getData().getForename());
+        assertThat(savedDao.getData().getEtag()).isEqualTo("etag-before-patch");
+    }
+
+    @Test
+    void shouldNotDeleteWhenTheEtagHasChangedAndPartialUpdatesAreDisabled() {
+        var fullReplacePatcher = new SubmissionPatcher(false, mongoTemplate);
+        GeneralPartnerDao dao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+
+        assertThrows(PreconditionFailedException.class, () -> fullReplacePatcher.delete(dao, "stale-etag"));
+
+        assertThat(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).isPresent();
+    }
+
+    @Test
+    void shouldDeleteWhenTheEtagIsUnchanged() throws ServiceException {
+        GeneralPartnerDao dao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+
+        submissionPatcher.delete(dao, "etag-before-patch");
+
+        assertThat(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldNotDeleteWhenTheEtagHasChangedSinceTheSubmissionWasRead() {
+        GeneralPartnerDao dao = generalPartnerRepository.findById(GENERAL_PARTNER_ID).orElseThrow();
+
+        assertThrows(PreconditionFailedException.class, () ->
+                submissionPatcher.delete(dao, "stale-etag"));
+
+        assertThat(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).isPresent();
+    }
+}
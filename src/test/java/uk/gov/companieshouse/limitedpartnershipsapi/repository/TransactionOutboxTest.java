@@ -0,0 +1,156 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.limitedpartnershipsapi.Containers;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxOperation;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxStatus;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.TransactionOutboxService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Testcontainers
+@SpringBootTest
+class TransactionOutboxTest {
+
+    private static final String TRANSACTION_ID = TransactionBuilder.TRANSACTION_ID;
+    private static final String OTHER_TRANSACTION_ID = "another-transaction";
+    private static final String REQUEST_ID = "request-123";
+    private static final String COMPANY_NAME = "Test Partnership";
+    private static final String RESUME_URI = "/limited-partnerships/transaction/" + TRANSACTION_ID + "/resume";
+
+    @Container
+    private static final MongoDBContainer mongoDBContainer = Containers.mongoDBContainer();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private TransactionOutbox transactionOutbox;
+
+    @Autowired
+    private TransactionOutboxService transactionOutboxService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection(TransactionOutboxDao.class);
+    }
+
+    @Test
+    void testOnlyTheQueuedFieldsAreStored() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        TransactionOutboxDao entry = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+
+        assertNotNull(entry);
+        assertEquals(TransactionOutboxOperation.UPDATE_TRANSACTION, entry.getOperation());
+        assertEquals(TransactionOutboxStatus.IN_FLIGHT, entry.getStatus());
+        assertEquals(COMPANY_NAME, entry.getCompanyName());
+        assertNull(entry.getResumeJourneyUri());
+    }
+
+    @Test
+    void testEntriesAreClaimedInTheOrderTheyWereQueued() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, null, RESUME_URI, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        TransactionOutboxDao first = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+
+        assertNotNull(first);
+        assertEquals(COMPANY_NAME, first.getCompanyName());
+        assertNull(transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1)));
+
+        transactionOutbox.remove(List.of(first.getId()));
+        TransactionOutboxDao second = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+
+        assertNotNull(second);
+        assertEquals(RESUME_URI, second.getResumeJourneyUri());
+    }
+
+    @Test
+    void testBatchIsClaimedFromTheOldestEntryUpToTheLimit() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, null, RESUME_URI, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, "Renamed LP", null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(OTHER_TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TransactionOutboxDao> batch = transactionOutbox.claimBatch(TRANSACTION_ID, now, now.plusMinutes(1), 2);
+
+        assertThat(batch).extracting(TransactionOutboxDao::getCompanyName).containsExactly(COMPANY_NAME, null);
+        assertThat(transactionOutbox.claimBatch(TRANSACTION_ID, now, now.plusMinutes(1), 2)).isEmpty();
+
+        transactionOutbox.remove(batch.stream().map(TransactionOutboxDao::getId).toList());
+        assertThat(transactionOutbox.claimBatch(TRANSACTION_ID, now, now.plusMinutes(1), 2))
+                .extracting(TransactionOutboxDao::getCompanyName).containsExactly("Renamed LP");
+        assertThat(transactionOutbox.findTransactionIdsWithDueEntries(now, 10)).containsExactly(OTHER_TRANSACTION_ID);
+    }
+
+    @Test
+    void testExpiredLeaseCanBeReclaimed() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, null, RESUME_URI, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(transactionOutbox.claimBatch(TRANSACTION_ID, now, now.plusSeconds(1), 10)).hasSize(2);
+
+        LocalDateTime later = now.plusSeconds(2);
+        assertThat(transactionOutbox.claimBatch(TRANSACTION_ID, later, later.plusSeconds(1), 10)).hasSize(2);
+    }
+
+    @Test
+    void testRescheduledEntryIsNotDueUntilItsNextAttempt() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(OTHER_TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        TransactionOutboxDao entry = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+        transactionOutbox.reschedule(List.of(entry.getId()), 1, now.plusMinutes(5), "Transactions API unavailable");
+
+        assertThat(transactionOutbox.findTransactionIdsWithDueEntries(now, 10)).containsExactly(OTHER_TRANSACTION_ID);
+        assertNull(transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1)));
+
+        LocalDateTime later = now.plusMinutes(6);
+        assertThat(transactionOutbox.findTransactionIdsWithDueEntries(later, 10)).containsExactly(TRANSACTION_ID, OTHER_TRANSACTION_ID);
+    }
+
+    @Test
+    void testFailedEntryDoesNotBlockLaterEntries() throws ServiceException {
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, COMPANY_NAME, null, REQUEST_ID);
+        transactionOutboxService.enqueueTransactionUpdate(TRANSACTION_ID, null, RESUME_URI, REQUEST_ID);
+
+        LocalDateTime now = LocalDateTime.now();
+        TransactionOutboxDao failed = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+        transactionOutbox.markFailed(List.of(failed.getId()), 10, "Transactions API unavailable");
+
+        TransactionOutboxDao next = transactionOutbox.claimNext(TRANSACTION_ID, now, now.plusMinutes(1));
+
+        assertNotNull(next);
+        assertEquals(RESUME_URI, next.getResumeJourneyUri());
+        assertEquals(List.of(TRANSACTION_ID), transactionOutbox.findTransactionIdsWithDueEntries(now.plusMinutes(2), 10));
+    }
+}
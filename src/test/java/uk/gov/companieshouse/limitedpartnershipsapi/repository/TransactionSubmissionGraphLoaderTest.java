@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.companieshouse.limitedpartnershipsapi.Containers;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.LimitedPartnershipDao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest
+class TransactionSubmissionGraphLoaderTest {
+
+    private static final String TRANSACTION_ID = TransactionBuilder.TRANSACTION_ID;
+
+    @Container
+    private static final MongoDBContainer mongoDBContainer = Containers.mongoDBContainer();
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private TransactionSubmissionGraphLoader transactionSubmissionGraphLoader;
+
+    @Autowired
+    private LimitedPartnershipRepository limitedPartnershipRepository;
+
+    @Autowired
+    private GeneralPartnerRepository generalPartnerRepository;
+
+    @Autowired
+    private LimitedPartnerRepository limitedPartnerRepository;
+
+    @Autowired
+    private PersonWithSignificantControlRepository personWithSignificantControlRepository;
+
+    @AfterEach
+    public void tearDown() {
+        limitedPartnershipRepository.deleteAll();
+        generalPartnerRepository.deleteAll();
+        limitedPartnerRepository.deleteAll();
+        personWithSignificantControlRepository.deleteAll();
+    }
+
+    @Test
+    void testLoadReturnsEveryDocumentForTransaction() {
+        LimitedPartnershipDao limitedPartnershipDao = new LimitedPartnershipBuilder().buildDao();
+        limitedPartnershipDao.setTransactionId(TRANSACTION_ID);
+        limitedPartnershipRepository.insert(limitedPartnershipDao);
+
+        GeneralPartnerDao generalPartnerPerson = new GeneralPartnerBuilder().personDao();
+        GeneralPartnerDao generalPartnerLegalEntity = new GeneralPartnerBuilder().legalEntityDao();
+        generalPartnerLegalEntity.setId("8014b46c-29f6-4f42-a2b9-9ba512e0be4b");
+        generalPartnerRepository.insert(generalPartnerPerson);
+        generalPartnerRepository.insert(generalPartnerLegalEntity);
+
+        limitedPartnerRepository.insert(new LimitedPartnerBuilder().personDao());
+        personWithSignificantControlRepository.insert(new PersonWithSignificantControlBuilder().individualPersonDao());
+
+        GeneralPartnerDao otherTransactionPartner = new GeneralPartnerBuilder().personDao();
+        otherTransactionPartner.setId("another-general-partner");
+        otherTransactionPartner.setTransactionId("another-transaction");
+        generalPartnerRepository.insert(otherTransactionPartner);
+
+        TransactionSubmissionGraph graph = transactionSubmissionGraphLoader.load(TRANSACTION_ID);
+
+        assertThat(graph.transactionId()).isEqualTo(TRANSACTION_ID);
+        assertThat(graph.limitedPartnerships()).hasSize(1);
+        assertThat(graph.limitedPartnerships().getFirst().getData().getPartnershipName())
+                .isEqualTo(limitedPartnershipDao.getData().getPartnershipName());
+        assertThat(graph.generalPartners())
+                .extracting(GeneralPartnerDao::getId)
+                .containsExactly(generalPartnerLegalEntity.getId(), generalPartnerPerson.getId());
+        assertThat(graph.limitedPartners()).hasSize(1);
+        assertThat(graph.personsWithSignificantControl()).hasSize(1);
+    }
+
+    @Test
+    void testLoadReturnsEmptyGraphWhenTransactionHasNoSubmissions() {
+        TransactionSubmissionGraph graph = transactionSubmissionGraphLoader.load("unknown-transaction");
+
+        assertThat(graph.limitedPartnerships()).isEmpty();
+        assertThat(graph.generalPartners()).isEmpty();
+        assertThat(graph.limitedPartners()).isEmpty();
+        assertThat(graph.personsWithSignificantControl()).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.InternalApiClient;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+import uk.gov.companieshouse.api.model.delta.officers.AppointmentFullRecordAPI;
+import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentServiceTest {
+
+    private static final String COMPANY_NUMBER = "LP123456";
+    private static final String APPOINTMENT_ID = "AP123456";
+    private static final String APPOINTMENT_URI = "/company/" + COMPANY_NUMBER + "/appointments/" + APPOINTMENT_ID + "/full_record";
+
+    @Mock
+    private ApiClientService apiClientService;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private InternalApiClient internalApiClient;
+
+    @Mock
+    private ApiResponse<AppointmentFullRecordAPI> appointmentResponse;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private AppointmentService appointmentService;
+
+    @BeforeEach
+    void init() {
+        appointmentService = new AppointmentService(apiClientService, Caffeine.newBuilder().buildAsync(), Caffeine.newBuilder().build(), executor, 2,
+                new ApiClientMetrics(new SimpleMeterRegistry()));
+
+        lenient().when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testGetAppointmentIsServedFromCacheOnSubsequentCalls() throws Exception {
+        AppointmentFullRecordAPI appointment = new AppointmentFullRecordAPI();
+        when(internalApiClient.privateDeltaResourceHandler().getAppointment(APPOINTMENT_URI).execute()).thenReturn(appointmentResponse);
+        when(appointmentResponse.getData()).thenReturn(appointment);
+
+        assertSame(appointment, appointmentService.getAppointment(COMPANY_NUMBER, APPOINTMENT_ID));
+        assertSame(appointment, appointmentService.getAppointment(COMPANY_NUMBER, APPOINTMENT_ID));
+
+        verify(apiClientService, times(1)).getInternalApiClient();
+    }
+
+    @Test
+    void testPrefetchFetchesEachDistinctAppointmentOnce() throws Exception {
+        when(internalApiClient.privateDeltaResourceHandler().getAppointment(any()).execute()).thenReturn(appointmentResponse);
+        when(appointmentResponse.getData()).thenReturn(new AppointmentFullRecordAPI());
+
+        appointmentService.prefetchAppointments(COMPANY_NUMBER, Arrays.asList("AP1", "AP2", "AP1", null, "AP3"));
+        // the prefetch does not wait for the lookups, closing the executor does
+        executor.close();
+        appointmentService.getAppointment(COMPANY_NUMBER, "AP2");
+
+        verify(apiClientService, times(3)).getInternalApiClient();
+        assertTrue(appointmentService.isAppointmentCached(COMPANY_NUMBER, "AP3"));
+    }
+
+    @Test
+    void testPrefetchSkipsAppointmentsAlreadyCached() throws Exception {
+        when(internalApiClient.privateDeltaResourceHandler().getAppointment(any()).execute()).thenReturn(appointmentResponse);
+        when(appointmentResponse.getData()).thenReturn(new AppointmentFullRecordAPI());
+
+        appointmentService.getAppointment(COMPANY_NUMBER, "AP1");
+        appointmentService.prefetchAppointments(COMPANY_NUMBER, List.of("AP1", "AP2"));
+        executor.close();
+
+        verify(apiClientService, times(2)).getInternalApiClient();
+    }
+
+    @Test
+    void testIsAppointmentCachedIsFalseBeforeTheAppointmentIsFetched() {
+        assertFalse(appointmentService.isAppointmentCached(COMPANY_NUMBER, APPOINTMENT_ID));
+    }
+
+    @Test
+    void testMarkTransactionPrefetchedOnlySucceedsOncePerTransaction() {
+        assertTrue(appointmentService.markTransactionPrefetched("txn1"));
+        assertFalse(appointmentService.markTransactionPrefetched("txn1"));
+        assertTrue(appointmentService.markTransactionPrefetched("txn2"));
+    }
+
+    @Test
+    void testGetAppointmentRethrowsApiErrorAndDoesNotCacheIt() throws Exception {
+        when(internalApiClient.privateDeltaResourceHandler().getAppointment(APPOINTMENT_URI).execute()).thenThrow(ApiErrorResponseException.fromIOException(new IOException("TEST")));
+
+        appointmentService.prefetchAppointments(COMPANY_NUMBER, List.of(APPOINTMENT_ID));
+        executor.close();
+
+        assertThatThrownBy(() -> appointmentService.getAppointment(COMPANY_NUMBER, APPOINTMENT_ID))
+                .isInstanceOf(ApiErrorResponseException.class);
+        verify(apiClientService, times(2)).getInternalApiClient();
+    }
+
+    @Test
+    void testGetAppointmentRethrowsUriValidationException() throws Exception {
+        when(internalApiClient.privateDeltaResourceHandler().getAppointment(APPOINTMENT_URI).execute()).thenThrow(new URIValidationException("Invalid URI"));
+
+        assertThatThrownBy(() -> appointmentService.getAppointment(COMPANY_NUMBER, APPOINTMENT_ID))
+                .isInstanceOf(URIValidationException.class);
+    }
+}
@@ -1,11 +1,12 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
@@ -17,12 +18,15 @@ import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.company.CompanyProfileApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.CompanyBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 
 import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,11 +49,12 @@ class CompanyServiceTest {
     @Mock
     private ApiResponse<CompanyProfileApi> companyGetResponse;
 
-    @InjectMocks
     private CompanyService companyService;
 
     @BeforeEach
     void init() {
+        companyService = new CompanyService(apiClientService, Caffeine.newBuilder().buildAsync(), new ApiClientMetrics(new SimpleMeterRegistry()));
+
         when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
         when(internalApiClient.company()).thenReturn(companyResourceHandler);
         when(companyResourceHandler.get("/company/" + COMPANY_NUMBER)).thenReturn(companyGet);
@@ -83,4 +88,40 @@ class CompanyServiceTest {
                 .isInstanceOf(ServiceException.class)
                 .hasMessageContaining("Error getting company profile: " + COMPANY_NUMBER);
     }
+
+    @Test
+    void testGetCompanyIsServedFromCacheOnSubsequentCalls() throws ServiceException, ApiErrorResponseException, URIValidationException {
+        when(companyGet.execute()).thenReturn(companyGetResponse);
+        when(companyGetResponse.getData()).thenReturn(new CompanyBuilder().build());
+
+        CompanyProfileApi first = companyService.getCompanyProfile(COMPANY_NUMBER);
+        CompanyProfileApi second = companyService.getCompanyProfile(COMPANY_NUMBER);
+
+        assertEquals(first, second);
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    void testGetCompany404IsCached() throws IOException, URIValidationException {
+        when(companyGet.execute()).thenThrow(ApiErrorResponseException.fromHttpResponseException(new HttpResponseException.Builder(404, "not found", new HttpHeaders()).setMessage("TEST").build()));
+
+        assertThatThrownBy(() -> companyService.getCompanyProfile(COMPANY_NUMBER))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("Company not found: " + COMPANY_NUMBER);
+        assertThatThrownBy(() -> companyService.getCompanyProfile(COMPANY_NUMBER))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("Company not found: " + COMPANY_NUMBER);
+
+        verify(companyGet, times(1)).execute();
+    }
+
+    @Test
+    void testGetCompany500IsNotCached() throws ApiErrorResponseException, URIValidationException {
+        when(companyGet.execute()).thenThrow(ApiErrorResponseException.fromIOException(new IOException("TEST")));
+
+        assertThatThrownBy(() -> companyService.getCompanyProfile(COMPANY_NUMBER)).isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> companyService.getCompanyProfile(COMPANY_NUMBER)).isInstanceOf(ServiceException.class);
+
+        verify(companyGet, times(2)).execute();
+    }
 }
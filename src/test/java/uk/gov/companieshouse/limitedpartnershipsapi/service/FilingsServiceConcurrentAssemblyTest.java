@@ -0,0 +1,106 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.payment.PaymentApi;
+import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dao.LimitedPartnershipIncorporationDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static uk.gov.companieshouse.limitedpartnershipsapi.service.FilingsService.FILING_ASSEMBLY_BRANCH_METRIC;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_PAYMENT_METHOD;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_PAYMENT_REFERENCE;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.GENERAL_PARTNER_FIELD;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LIMITED_PARTNERSHIP_FIELD;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.LIMITED_PARTNER_FIELD;
+
+@SpringBootTest(properties = "FILING_CONCURRENT_ASSEMBLY_ENABLED=true")
+class FilingsServiceConcurrentAssemblyTest {
+
+    private static final String INCORPORATION_ID = "inc456";
+    private static final String PAYMENT_METHOD = "credit-card";
+    private static final String PAYMENT_REFERENCE = "21311sfg23";
+
+    @Autowired
+    private FilingsService filingsService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockitoBean
+    private LimitedPartnershipService limitedPartnershipService;
+    @MockitoBean
+    private GeneralPartnerService generalPartnerService;
+    @MockitoBean
+    private LimitedPartnerService limitedPartnerService;
+    @MockitoBean
+    private PersonWithSignificantControlService personWithSignificantControlService;
+    @MockitoBean
+    private TransactionService transactionService;
+    @MockitoBean
+    private PaymentService paymentService;
+    @MockitoBean
+    private CompanyService companyService;
+    @MockitoBean
+    private LimitedPartnershipIncorporationRepository limitedPartnershipIncorporationRepository;
+    @MockitoBean
+    private ApiClientService apiClientService;
+
+    @Test
+    void testFilingGenerationSuccessWhenAssembledConcurrently() throws ServiceException {
+        var transaction = new TransactionBuilder().withPayment().build();
+        PaymentApi payment = new PaymentApi();
+        payment.setPaymentMethod(PAYMENT_METHOD);
+
+        when(transactionService.isTransactionLinkedToLimitedPartnershipIncorporation(eq(transaction), any(String.class))).thenReturn(true);
+        when(transactionService.getPaymentReference(transaction.getLinks().getPayment())).thenReturn(PAYMENT_REFERENCE);
+        when(paymentService.getPayment(PAYMENT_REFERENCE)).thenReturn(payment);
+        when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(new LimitedPartnershipBuilder().buildDto());
+        when(generalPartnerService.getGeneralPartnerDataList(transaction)).thenReturn(Collections.singletonList(new GeneralPartnerBuilder().personDto().getData()));
+        when(limitedPartnerService.getLimitedPartnerDataList(transaction)).thenReturn(Collections.singletonList(new LimitedPartnerBuilder().legalEntityDto().getData()));
+        when(personWithSignificantControlService.getPersonWithSignificantControlDataList(transaction)).thenReturn(new ArrayList<>());
+        when(limitedPartnershipIncorporationRepository.findById(any())).thenReturn(Optional.of(new LimitedPartnershipIncorporationDao()));
+
+        FilingApi filing = filingsService.generateIncorporationFiling(transaction, INCORPORATION_ID);
+
+        assertNotNull(filing.getData());
+        assertTrue(filing.getData().containsKey(LIMITED_PARTNERSHIP_FIELD));
+        assertTrue(filing.getData().containsKey(GENERAL_PARTNER_FIELD));
+        assertTrue(filing.getData().containsKey(LIMITED_PARTNER_FIELD));
+        assertEquals(PAYMENT_REFERENCE, filing.getData().get(FILING_PAYMENT_REFERENCE));
+        assertEquals(PAYMENT_METHOD, filing.getData().get(FILING_PAYMENT_METHOD));
+        assertNotNull(meterRegistry.find(FILING_ASSEMBLY_BRANCH_METRIC).tags("branch", "payment", "outcome", "success").timer());
+    }
+
+    @Test
+    void testFilingGenerationPropagatesServiceExceptionFromBranch() throws ServiceException {
+        var transaction = new TransactionBuilder().build();
+
+        when(transactionService.isTransactionLinkedToLimitedPartnershipIncorporation(eq(transaction), any(String.class))).thenReturn(true);
+        when(limitedPartnershipService.getLimitedPartnership(transaction)).thenThrow(new ResourceNotFoundException("Not found"));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> filingsService.generateIncorporationFiling(transaction, INCORPORATION_ID));
+
+        assertEquals("Not found", exception.getMessage());
+    }
+}
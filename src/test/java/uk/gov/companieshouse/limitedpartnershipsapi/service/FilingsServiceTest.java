@@ -1,5 +1,8 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +46,7 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.Lim
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.PartnershipType;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.DataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.AppointmentService.AppointmentKey;
 import uk.gov.companieshouse.limitedpartnershipsapi.utils.FilingKind;
 
 import java.time.LocalDate;
@@ -60,6 +64,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder.GENERAL_PARTNER_ID;
 import static uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder.LIMITED_PARTNER_ID;
@@ -95,6 +102,12 @@ class FilingsServiceTest {
 
     @Autowired
     private FilingsService filingsService;
+    @Autowired
+    private AppointmentService appointmentService;
+    @Autowired
+    private AsyncCache<AppointmentKey, AppointmentFullRecordAPI> appointmentCache;
+    @Autowired
+    private Cache<String, Boolean> appointmentPrefetchedTransactions;
     @MockitoBean
     private LimitedPartnershipService limitedPartnershipService;
     @MockitoBean
@@ -123,6 +136,13 @@ class FilingsServiceTest {
     @MockitoBean
     private ApiResponse<AppointmentFullRecordAPI> appointmentFullRecordAPIApiResponse;
 
+    @BeforeEach
+    void setUp() {
+        // the tests share appointment ids but return different records for them
+        appointmentCache.synchronous().invalidateAll();
+        appointmentPrefetchedTransactions.invalidateAll();
+    }
+
     @Test
     void testFilingGenerationSuccess() throws ServiceException {
         var transaction = new TransactionBuilder().withPayment().build();
@@ -532,6 +552,39 @@ class FilingsServiceTest {
 
             assertEquals(today, filingGeneralPartnerDataDto.getCeaseDate());
         }
+
+        @Test
+        void testAppointmentsForTheOtherPartnersAreFetchedOnceAndServedFromTheCache() throws ResourceNotFoundException, ApiErrorResponseException, URIValidationException {
+            mockChsAppointmentApiData(true);
+            var transaction = new TransactionBuilder().build();
+            var generalPartnerBuilder = new GeneralPartnerBuilder()
+                    .withPartnershipType(PartnershipType.LP)
+                    .withGeneralPartnerKind("limited-partnership#update-general-partner-person");
+            var firstGeneralPartner = generalPartnerBuilder.personDto();
+            firstGeneralPartner.getData().setAppointmentId("AP1");
+            var secondGeneralPartner = generalPartnerBuilder.personDto();
+            secondGeneralPartner.getData().setAppointmentId("AP2");
+
+            when(generalPartnerService.getGeneralPartner(transaction, GENERAL_PARTNER_ID)).thenReturn(firstGeneralPartner);
+            when(generalPartnerService.getGeneralPartner(transaction, "second-id")).thenReturn(secondGeneralPartner);
+            when(generalPartnerService.getGeneralPartnerDataList(transaction))
+                    .thenReturn(List.of(firstGeneralPartner.getData(), secondGeneralPartner.getData()));
+            when(transactionService.isTransactionLinkedToResource(eq(transaction), any(String.class), any(String.class))).thenReturn(true);
+
+            filingsService.generateGeneralPartnerFiling(transaction, GENERAL_PARTNER_ID);
+
+            // AP1 is read for the filing and AP2 is prefetched in the background
+            verify(privateOfficerGet, timeout(5000).times(2)).execute();
+            assertTrue(appointmentService.isAppointmentCached(COMPANY_NUMBER, "AP2"));
+
+            FilingApi filing = filingsService.generateGeneralPartnerFiling(transaction, "second-id");
+            filingsService.generateGeneralPartnerFiling(transaction, GENERAL_PARTNER_ID);
+
+            List<GeneralPartnerDataDto> generalPartners = (List<GeneralPartnerDataDto>) filing.getData().get(GENERAL_PARTNER_FIELD);
+            assertEquals(PREV_FORENAME, generalPartners.getFirst().getAppointmentPreviousDetails().getForename());
+            verify(privateOfficerGet, times(2)).execute();
+            verify(generalPartnerService, times(1)).getGeneralPartnerDataList(transaction);
+        }
     }
 
     @Nested
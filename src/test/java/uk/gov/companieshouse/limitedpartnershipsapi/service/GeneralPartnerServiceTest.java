@@ -1,5 +1,9 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,36 +11,52 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.GeneralPartnerMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.GeneralPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.GeneralPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,6 +82,20 @@ class GeneralPartnerServiceTest {
     @InjectMocks
     private GeneralPartnerService generalPartnerService;
 
+    @Spy
+    private SubmissionInserter submissionInserter = new SubmissionInserter(false, new SimpleMeterRegistry());
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Spy
+    private SubmissionPatcher submissionPatcher = new SubmissionPatcher(false, mongoTemplate);
+
+    @Spy
+    private ValidationResultCache validationResultCache = new ValidationResultCache(false, Caffeine.newBuilder().build(), new SimpleMeterRegistry());
+
+    @Spy
+    private ValidationExecutor validationExecutor = new ValidationExecutor(false, 1, mock(ExecutorService.class), new SimpleMeterRegistry());
+
     @Mock
     private GeneralPartnerRepository repository;
 
@@ -74,9 +108,17 @@ class GeneralPartnerServiceTest {
     @Mock
     private GeneralPartnerValidator generalPartnerValidator;
 
+    @Spy
+    private ValidationContextFactory validationContextFactory = new ValidationContextFactory();
+
     @Captor
     private ArgumentCaptor<GeneralPartnerDao> submissionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.remove(any(Query.class), any(Class.class))).thenReturn(DeleteResult.acknowledged(1));
+    }
+
     @Test
     void testGetGeneralPartnerSuccess() throws ServiceException {
         GeneralPartnerDao dao = new GeneralPartnerBuilder().personDao();
@@ -133,6 +175,8 @@ class GeneralPartnerServiceTest {
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
         assertEquals(USER_ID, sentSubmission.getCreatedBy());
         assertEquals(FILING_KIND_GENERAL_PARTNER, sentSubmission.getData().getKind());
+        assertTrue(sentSubmission.getCompleted());
+        assertEquals(GeneralPartnerValidator.VERSION, sentSubmission.getValidatorVersion());
         assertEquals(SUBMISSION_ID, submissionId);
 
         // Assert self link
@@ -204,6 +248,82 @@ class GeneralPartnerServiceTest {
         assertThat(generalPartnerDtoList).containsExactly(generalPartnerDto1, generalPartnerDto2);
     }
 
+    @Test
+    void testGetGeneralPartnerSummaryListUsesProjectedQuery() throws ServiceException {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.setCompletion(true, GeneralPartnerValidator.VERSION);
+        PartnerSummaryDto summaryDto = new PartnerSummaryDto();
+
+        when(repository.findSummariesByTransactionId(TransactionBuilder.TRANSACTION_ID)).thenReturn(List.of(generalPartnerDao));
+        when(mapper.daoToSummaryDto(generalPartnerDao)).thenReturn(summaryDto);
+
+        List<PartnerSummaryDto> summaries = generalPartnerService.getGeneralPartnerSummaryList(transaction);
+
+        assertThat(summaries).containsExactly(summaryDto);
+        verify(mapper, never()).daoToDto(any());
+        verify(repository, never()).findAllById(any());
+        verify(repository, never()).findAllByTransactionIdOrderByUpdatedAtDesc(any());
+    }
+
+    @Test
+    void testGetGeneralPartnerListUsesStoredCompletion() throws ServiceException {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.setCompletion(false, GeneralPartnerValidator.VERSION);
+        GeneralPartnerDto generalPartnerDto = new GeneralPartnerBuilder().personDto();
+
+        when(mapper.daoToDto(generalPartnerDao)).thenReturn(generalPartnerDto);
+
+        List<GeneralPartnerDto> generalPartnerDtos = generalPartnerService.getGeneralPartnerList(transaction, List.of(generalPartnerDao));
+
+        assertThat(generalPartnerDtos).containsExactly(generalPartnerDto);
+        assertFalse(generalPartnerDto.getData().getCompleted());
+        verify(generalPartnerValidator, never()).validateFull(any(), any(), anyBoolean());
+        verify(repository, never()).saveCompletionById(any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void testGetGeneralPartnerListRecomputesCompletionStoredByOlderValidator() throws ServiceException {
+        GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().personDao();
+        generalPartnerDao.setCompletion(true, GeneralPartnerValidator.VERSION - 1);
+        GeneralPartnerDto generalPartnerDto = new GeneralPartnerBuilder().personDto();
+
+        when(mapper.daoToDto(generalPartnerDao)).thenReturn(generalPartnerDto);
+        when(generalPartnerValidator.validateFull(generalPartnerDto, transaction, false))
+                .thenReturn(List.of(new ValidationStatusError("Forename is required", "forename", null, null)));
+
+        generalPartnerService.getGeneralPartnerList(transaction, List.of(generalPartnerDao));
+
+        assertFalse(generalPartnerDto.getData().getCompleted());
+        verify(repository).saveCompletionById(generalPartnerDao.getId(), false, GeneralPartnerValidator.VERSION);
+    }
+
+    @Test
+    void testGetGeneralPartnerSummaryListLoadsOnlyStalePartnersInFull() throws ServiceException {
+        GeneralPartnerDao currentDao = new GeneralPartnerBuilder().personDao();
+        currentDao.setId("current");
+        currentDao.setCompletion(true, GeneralPartnerValidator.VERSION);
+        GeneralPartnerDao staleDao = new GeneralPartnerBuilder().personDao();
+        staleDao.setId("stale");
+        GeneralPartnerDao fullStaleDao = new GeneralPartnerBuilder().personDao();
+        fullStaleDao.setId("stale");
+        GeneralPartnerDto staleDto = new GeneralPartnerBuilder().personDto();
+
+        when(repository.findSummariesByTransactionId(TransactionBuilder.TRANSACTION_ID)).thenReturn(List.of(currentDao, staleDao));
+        when(repository.findAllById(List.of("stale"))).thenReturn(List.of(fullStaleDao));
+        when(mapper.daoToDto(fullStaleDao)).thenReturn(staleDto);
+        when(mapper.daoToSummaryDto(any())).thenReturn(new PartnerSummaryDto());
+
+        List<PartnerSummaryDto> summaries = generalPartnerService.getGeneralPartnerSummaryList(transaction);
+
+        assertEquals(2, summaries.size());
+        assertTrue(fullStaleDao.getCompleted());
+        verify(mapper, never()).daoToDto(currentDao);
+        verify(mapper).daoToSummaryDto(currentDao);
+        verify(mapper).daoToSummaryDto(fullStaleDao);
+        verify(generalPartnerValidator, times(1)).validateFull(staleDto, transaction, false);
+        verify(repository).saveCompletionById("stale", true, GeneralPartnerValidator.VERSION);
+    }
+
     @Test
     void testGetGeneralPartnerList_Empty() throws ServiceException {
         when(repository.findAllByTransactionIdOrderByUpdatedAtDesc(transaction.getId())).thenReturn(new ArrayList<>());
@@ -258,6 +378,50 @@ class GeneralPartnerServiceTest {
             verify(repository, never()).deleteById(any());
         }
 
+        @Test
+        void givenSettingSelfLinksFails_whenCreateGeneralPartners_thenEveryInsertedPartnerIsDeleted() {
+            // given
+            GeneralPartnerDto personDto = new GeneralPartnerBuilder().personDto();
+            GeneralPartnerDto legalEntityDto = new GeneralPartnerBuilder().legalEntityDto();
+            GeneralPartnerDao personDao = new GeneralPartnerBuilder().personDao();
+            personDao.setId("person-id");
+            GeneralPartnerDao legalEntityDao = new GeneralPartnerBuilder().legalEntityDao();
+            legalEntityDao.setId("legal-entity-id");
+
+            when(mapper.dtoToDao(personDto)).thenReturn(personDao);
+            when(mapper.dtoToDao(legalEntityDto)).thenReturn(legalEntityDao);
+            when(repository.insert(List.of(personDao, legalEntityDao))).thenReturn(List.of(personDao, legalEntityDao));
+            doThrow(new IllegalStateException("Update failed"))
+                .when(repository).saveSelfLinksByIdIn(any(), any());
+
+            // when + then
+            List<GeneralPartnerDto> generalPartnerDtos = List.of(personDto, legalEntityDto);
+            assertThrows(IllegalStateException.class,
+                () -> generalPartnerService.createGeneralPartners(transaction, generalPartnerDtos, REQUEST_ID, USER_ID));
+
+            verify(repository).deleteAllById(List.of("person-id", "legal-entity-id"));
+            verify(transactionService, never()).updateTransactionWithLinksForResources(any(), any(), any(), any());
+        }
+
+        @Test
+        void givenTransactionUpdateFails_whenCreateGeneralPartners_thenEveryInsertedPartnerIsDeleted() throws Exception {
+            // given
+            GeneralPartnerDto dto = new GeneralPartnerBuilder().personDto();
+            GeneralPartnerDao dao = new GeneralPartnerBuilder().personDao();
+
+            when(mapper.dtoToDao(dto)).thenReturn(dao);
+            when(repository.insert(List.of(dao))).thenReturn(List.of(dao));
+            doThrow(new ServiceException("Transaction update failed"))
+                .when(transactionService).updateTransactionWithLinksForResources(any(), any(), any(), any());
+
+            // when + then
+            List<GeneralPartnerDto> generalPartnerDtos = List.of(dto);
+            assertThrows(ServiceException.class,
+                () -> generalPartnerService.createGeneralPartners(transaction, generalPartnerDtos, REQUEST_ID, USER_ID));
+
+            verify(repository).deleteAllById(List.of(SUBMISSION_ID));
+        }
+
         @Test
         void givenTransactionDeleteFails_whenDeleteGeneralPartner_thenMongoDocumentIsRestored() throws Exception {
             // given
@@ -270,10 +434,10 @@ class GeneralPartnerServiceTest {
 
             // when + then
             assertThrows(ServiceException.class,
-                () -> generalPartnerService.deleteGeneralPartner(transaction, SUBMISSION_ID, REQUEST_ID));
+                () -> generalPartnerService.deleteGeneralPartner(transaction, SUBMISSION_ID, REQUEST_ID, null));
 
             // MongoDB was deleted first, then the transaction call failed — expect rollback save
-            verify(repository).deleteById(SUBMISSION_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(GeneralPartnerDao.class));
             verify(repository).save(generalPartnerDao);
         }
 
@@ -286,10 +450,10 @@ class GeneralPartnerServiceTest {
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
             // when
-            generalPartnerService.deleteGeneralPartner(transaction, SUBMISSION_ID, REQUEST_ID);
+            generalPartnerService.deleteGeneralPartner(transaction, SUBMISSION_ID, REQUEST_ID, null);
 
-            // then: only deleteById — no rollback save
-            verify(repository).deleteById(SUBMISSION_ID);
+            // then: only the delete — no rollback save
+            verify(mongoTemplate).remove(any(Query.class), eq(GeneralPartnerDao.class));
             verify(repository, never()).save(any());
         }
     }
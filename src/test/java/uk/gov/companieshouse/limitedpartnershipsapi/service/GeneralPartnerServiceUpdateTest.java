@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.mongodb.client.result.DeleteResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +13,10 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
@@ -38,6 +43,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -68,12 +76,21 @@ class GeneralPartnerServiceUpdateTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
     @Captor
     private ArgumentCaptor<Transaction> transactionCaptor;
 
     @Captor
     private ArgumentCaptor<GeneralPartnerDao> submissionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> invocation.getArgument(1)).when(mongoTemplate).findAndReplace(any(Query.class), any());
+        doReturn(DeleteResult.acknowledged(1)).when(mongoTemplate).remove(any(Query.class), any(Class.class));
+    }
+
     @Test
     void shouldUpdateTheDaoWithPrincipalOfficeAddress() throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
         GeneralPartnerDao generalPartnerDao = new GeneralPartnerBuilder().legalEntityDao();
@@ -89,10 +106,10 @@ class GeneralPartnerServiceUpdateTest {
         // dao principal office address is null before mapping/update
         assertNull(generalPartnerDao.getData().getPrincipalOfficeAddress());
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDto.getData(), REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDto.getData(), REQUEST_ID, USER_ID, null);
 
         verify(generalPartnerRepository).findById(GENERAL_PARTNER_ID);
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -122,7 +139,7 @@ class GeneralPartnerServiceUpdateTest {
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
         MethodArgumentNotValidException exception = assertThrows(MethodArgumentNotValidException.class, () ->
-                service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID)
+                service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null)
         );
 
         assertEquals("Second nationality must be different from the first", Objects.requireNonNull(exception.getBindingResult().getFieldError("nationality2")).getDefaultMessage());
@@ -140,9 +157,9 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -162,9 +179,9 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -185,9 +202,9 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -217,9 +234,9 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -249,9 +266,9 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -278,10 +295,10 @@ class GeneralPartnerServiceUpdateTest {
         // dao principal office address before mapping/update
         assertEquals("United Kingdom", generalPartnerDao.getData().getLegalEntityRegistrationLocation());
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
         verify(generalPartnerRepository).findById(GENERAL_PARTNER_ID);
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -301,10 +318,10 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(generalPartnerDao.getId())).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateGeneralPartner(transaction, GENERAL_PARTNER_ID, generalPartnerDataDto, REQUEST_ID, USER_ID, null);
 
         verify(generalPartnerRepository).findById(GENERAL_PARTNER_ID);
-        verify(generalPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         GeneralPartnerDao newlySavedPartnerDao = submissionCaptor.getValue();
 
@@ -322,7 +339,7 @@ class GeneralPartnerServiceUpdateTest {
         when(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).thenReturn(Optional.of(generalPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(false);
 
-        assertThatThrownBy(() -> service.updateGeneralPartner(transaction, generalPartnerDao.getId(), generalPartnerDataDto, REQUEST_ID, USER_ID))
+        assertThatThrownBy(() -> service.updateGeneralPartner(transaction, generalPartnerDao.getId(), generalPartnerDataDto, REQUEST_ID, USER_ID, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(String.format("Transaction id: %s does not have a resource that matches general partner id: %s", transaction.getId(), generalPartnerDao.getId()));
     }
@@ -336,12 +353,12 @@ class GeneralPartnerServiceUpdateTest {
             when(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).thenReturn(Optional.of(generalPartnerDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID);
+            service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID, null);
 
             String expectedSubmissionUri = String.format(URL_GET_GENERAL_PARTNER, TRANSACTION_ID, GENERAL_PARTNER_ID);
 
             verify(transactionService).deleteTransactionResource(TRANSACTION_ID, expectedSubmissionUri, REQUEST_ID);
-            verify(generalPartnerRepository).deleteById(GENERAL_PARTNER_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(GeneralPartnerDao.class));
         }
 
         @Test
@@ -349,7 +366,7 @@ class GeneralPartnerServiceUpdateTest {
             when(generalPartnerRepository.findById(GENERAL_PARTNER_ID)).thenReturn(Optional.empty());
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID, null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage(String.format("General partner with id %s not found", GENERAL_PARTNER_ID));
         }
@@ -365,12 +382,12 @@ class GeneralPartnerServiceUpdateTest {
                     .when(transactionService).deleteTransactionResource(TRANSACTION_ID,
                             String.format(URL_GET_GENERAL_PARTNER, TRANSACTION_ID, GENERAL_PARTNER_ID), REQUEST_ID);
 
-            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, GENERAL_PARTNER_ID, REQUEST_ID, null))
                     .isInstanceOf(ServiceException.class)
                     .hasMessageContaining("Transaction resource delete failed");
 
             // MongoDB delete happens first; on HTTP failure the document is re-saved (rolled back)
-            verify(generalPartnerRepository).deleteById(GENERAL_PARTNER_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(GeneralPartnerDao.class));
             verify(generalPartnerRepository).save(generalPartnerDao);
         }
 
@@ -382,7 +399,7 @@ class GeneralPartnerServiceUpdateTest {
 
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(false);
 
-            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, generalPartnerDao.getId(), REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteGeneralPartner(transaction, generalPartnerDao.getId(), REQUEST_ID, null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage(String.format("Transaction id: %s does not have a resource that matches general partner id: %s", transaction.getId(), generalPartnerDao.getId()));
         }
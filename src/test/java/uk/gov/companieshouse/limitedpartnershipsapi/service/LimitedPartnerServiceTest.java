@@ -1,5 +1,9 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,32 +11,52 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ResourceNotFoundException;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.mapper.LimitedPartnerMapper;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.dto.PartnerSummaryDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dao.LimitedPartnerDao;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnerRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnerValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,6 +81,20 @@ class LimitedPartnerServiceTest {
     @InjectMocks
     private LimitedPartnerService limitedPartnerService;
 
+    @Spy
+    private SubmissionInserter submissionInserter = new SubmissionInserter(false, new SimpleMeterRegistry());
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Spy
+    private SubmissionPatcher submissionPatcher = new SubmissionPatcher(false, mongoTemplate);
+
+    @Spy
+    private ValidationResultCache validationResultCache = new ValidationResultCache(false, Caffeine.newBuilder().build(), new SimpleMeterRegistry());
+
+    @Spy
+    private ValidationExecutor validationExecutor = new ValidationExecutor(false, 1, mock(ExecutorService.class), new SimpleMeterRegistry());
+
     @Mock
     private LimitedPartnerRepository repository;
 
@@ -75,6 +113,14 @@ class LimitedPartnerServiceTest {
     @Mock
     private LimitedPartnerMapper mapper;
 
+    @Spy
+    private ValidationContextFactory validationContextFactory = new ValidationContextFactory();
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.remove(any(Query.class), any(Class.class))).thenReturn(DeleteResult.acknowledged(1));
+    }
+
     @Test
     void testGetLimitedPartnerSuccess() throws ServiceException {
         LimitedPartnerDao dao = new LimitedPartnerBuilder().personDao();
@@ -121,6 +167,8 @@ class LimitedPartnerServiceTest {
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
         assertEquals(USER_ID, sentSubmission.getCreatedBy());
         assertEquals(FILING_KIND_LIMITED_PARTNER, sentSubmission.getData().getKind());
+        assertTrue(sentSubmission.getCompleted());
+        assertEquals(LimitedPartnerValidator.VERSION, sentSubmission.getValidatorVersion());
         assertEquals(LIMITED_ID, submissionId);
 
         String expectedUri = String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), LIMITED_ID);
@@ -156,6 +204,82 @@ class LimitedPartnerServiceTest {
         assertThat(limitedPartnerDtoList).containsExactly(limitedPartnerDtos.get(0), limitedPartnerDtos.get(1));
     }
 
+    @Test
+    void testGetLimitedPartnerSummaryListUsesProjectedQuery() throws ServiceException {
+        LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+        limitedPartnerDao.setCompletion(true, LimitedPartnerValidator.VERSION);
+        PartnerSummaryDto summaryDto = new PartnerSummaryDto();
+
+        when(repository.findSummariesByTransactionId(TransactionBuilder.TRANSACTION_ID)).thenReturn(List.of(limitedPartnerDao));
+        when(mapper.daoToSummaryDto(limitedPartnerDao)).thenReturn(summaryDto);
+
+        List<PartnerSummaryDto> summaries = limitedPartnerService.getLimitedPartnerSummaryList(transaction);
+
+        assertThat(summaries).containsExactly(summaryDto);
+        verify(mapper, never()).daoToDto(any());
+        verify(repository, never()).findAllById(any());
+        verify(repository, never()).findAllByTransactionIdOrderByUpdatedAtDesc(any());
+    }
+
+    @Test
+    void testGetLimitedPartnerListUsesStoredCompletion() throws ServiceException {
+        LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+        limitedPartnerDao.setCompletion(false, LimitedPartnerValidator.VERSION);
+        LimitedPartnerDto limitedPartnerDto = new LimitedPartnerBuilder().personDto();
+
+        when(mapper.daoToDto(limitedPartnerDao)).thenReturn(limitedPartnerDto);
+
+        List<LimitedPartnerDto> limitedPartnerDtos = limitedPartnerService.getLimitedPartnerList(transaction, List.of(limitedPartnerDao));
+
+        assertThat(limitedPartnerDtos).containsExactly(limitedPartnerDto);
+        assertFalse(limitedPartnerDto.getData().getCompleted());
+        verify(limitedPartnerValidator, never()).validateFull(any(), any(), anyBoolean());
+        verify(repository, never()).saveCompletionById(any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void testGetLimitedPartnerListRecomputesCompletionStoredByOlderValidator() throws ServiceException {
+        LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
+        limitedPartnerDao.setCompletion(true, LimitedPartnerValidator.VERSION - 1);
+        LimitedPartnerDto limitedPartnerDto = new LimitedPartnerBuilder().personDto();
+
+        when(mapper.daoToDto(limitedPartnerDao)).thenReturn(limitedPartnerDto);
+        when(limitedPartnerValidator.validateFull(limitedPartnerDto, transaction, false))
+                .thenReturn(List.of(new ValidationStatusError("Forename is required", "forename", null, null)));
+
+        limitedPartnerService.getLimitedPartnerList(transaction, List.of(limitedPartnerDao));
+
+        assertFalse(limitedPartnerDto.getData().getCompleted());
+        verify(repository).saveCompletionById(limitedPartnerDao.getId(), false, LimitedPartnerValidator.VERSION);
+    }
+
+    @Test
+    void testGetLimitedPartnerSummaryListLoadsOnlyStalePartnersInFull() throws ServiceException {
+        LimitedPartnerDao currentDao = new LimitedPartnerBuilder().personDao();
+        currentDao.setId("current");
+        currentDao.setCompletion(true, LimitedPartnerValidator.VERSION);
+        LimitedPartnerDao staleDao = new LimitedPartnerBuilder().personDao();
+        staleDao.setId("stale");
+        LimitedPartnerDao fullStaleDao = new LimitedPartnerBuilder().personDao();
+        fullStaleDao.setId("stale");
+        LimitedPartnerDto staleDto = new LimitedPartnerBuilder().personDto();
+
+        when(repository.findSummariesByTransactionId(TransactionBuilder.TRANSACTION_ID)).thenReturn(List.of(currentDao, staleDao));
+        when(repository.findAllById(List.of("stale"))).thenReturn(List.of(fullStaleDao));
+        when(mapper.daoToDto(fullStaleDao)).thenReturn(staleDto);
+        when(mapper.daoToSummaryDto(any())).thenReturn(new PartnerSummaryDto());
+
+        List<PartnerSummaryDto> summaries = limitedPartnerService.getLimitedPartnerSummaryList(transaction);
+
+        assertEquals(2, summaries.size());
+        assertTrue(fullStaleDao.getCompleted());
+        verify(mapper, never()).daoToDto(currentDao);
+        verify(mapper).daoToSummaryDto(currentDao);
+        verify(mapper).daoToSummaryDto(fullStaleDao);
+        verify(limitedPartnerValidator, times(1)).validateFull(staleDto, transaction, false);
+        verify(repository).saveCompletionById("stale", true, LimitedPartnerValidator.VERSION);
+    }
+
     @Test
     void testGetLimitedPartnerEmptyList() {
         when(repository.findAllByTransactionIdOrderByUpdatedAtDesc(TransactionBuilder.TRANSACTION_ID)).thenReturn(Collections.emptyList());
@@ -202,6 +326,53 @@ class LimitedPartnerServiceTest {
             verify(repository, never()).deleteById(LIMITED_ID);
         }
 
+        @Test
+        void givenTransactionUpdateFails_whenCreateLimitedPartners_thenEveryInsertedLimitedPartnerIsDeleted() throws ServiceException {
+            LimitedPartnerDto firstDto = new LimitedPartnerBuilder().personDto();
+            LimitedPartnerDto secondDto = new LimitedPartnerBuilder().legalEntityDto();
+            LimitedPartnerDao firstDao = new LimitedPartnerBuilder().personDao();
+            firstDao.setId("first-id");
+            LimitedPartnerDao secondDao = new LimitedPartnerBuilder().legalEntityDao();
+            secondDao.setId("second-id");
+            LimitedPartnershipDto limitedPartnershipDto = new LimitedPartnershipBuilder().buildDto();
+
+            when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(limitedPartnershipDto);
+            when(mapper.dtoToDao(firstDto)).thenReturn(firstDao);
+            when(mapper.dtoToDao(secondDto)).thenReturn(secondDao);
+            when(repository.insert(List.of(firstDao, secondDao))).thenReturn(List.of(firstDao, secondDao));
+
+            doThrow(new ServiceException("Transaction update failed"))
+                    .when(transactionService).updateTransactionWithLinksForResources(any(), any(), any());
+
+            List<LimitedPartnerDto> limitedPartnerDtos = List.of(firstDto, secondDto);
+            assertThatThrownBy(() -> limitedPartnerService.createLimitedPartners(transaction, limitedPartnerDtos, REQUEST_ID, USER_ID))
+                    .isInstanceOf(ServiceException.class)
+                    .hasMessageContaining("Transaction update failed");
+
+            verify(repository).saveSelfLinksByIdIn(List.of("first-id", "second-id"), String.format(URL_GET_LIMITED_PARTNER, transaction.getId(), ""));
+            verify(repository).deleteAllById(List.of("first-id", "second-id"));
+        }
+
+        @Test
+        void givenOnePartnerIsInvalid_whenCreateLimitedPartners_thenNothingIsInserted() throws ServiceException, MethodArgumentNotValidException {
+            LimitedPartnerDto validDto = new LimitedPartnerBuilder().personDto();
+            LimitedPartnerDto invalidDto = new LimitedPartnerBuilder().legalEntityDto();
+            LimitedPartnershipDto limitedPartnershipDto = new LimitedPartnershipBuilder().buildDto();
+
+            when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(limitedPartnershipDto);
+            BindingResult itemBindingResult = validationContextFactory.createBindingResult(invalidDto, LimitedPartnerDataDto.class);
+            itemBindingResult.addError(new FieldError(LimitedPartnerDataDto.class.getName(), "data.legal_entity_name", "Legal entity name is required"));
+            doThrow(new MethodArgumentNotValidException(null, itemBindingResult))
+                    .when(limitedPartnerValidator).validatePartial(invalidDto, transaction);
+
+            List<LimitedPartnerDto> limitedPartnerDtos = List.of(validDto, invalidDto);
+            MethodArgumentNotValidException exception = assertThrows(MethodArgumentNotValidException.class,
+                    () -> limitedPartnerService.createLimitedPartners(transaction, limitedPartnerDtos, REQUEST_ID, USER_ID));
+
+            assertEquals("Legal entity name is required", exception.getBindingResult().getFieldError("[1].data.legal_entity_name").getDefaultMessage());
+            verify(repository, never()).insert(anyList());
+        }
+
         @Test
         void givenTransactionDeleteFails_whenDeleteLimitedPartner_thenMongoDocumentIsRestored() throws ServiceException {
             LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().personDao();
@@ -211,12 +382,12 @@ class LimitedPartnerServiceTest {
             doThrow(new ServiceException("Transaction resource delete failed"))
                     .when(transactionService).deleteTransactionResource(any(), any(), any());
 
-            assertThatThrownBy(() -> limitedPartnerService.deleteLimitedPartner(transaction, LIMITED_ID, REQUEST_ID))
+            assertThatThrownBy(() -> limitedPartnerService.deleteLimitedPartner(transaction, LIMITED_ID, REQUEST_ID, null))
                     .isInstanceOf(ServiceException.class)
                     .hasMessageContaining("Transaction resource delete failed");
 
             // MongoDB was deleted first, then the transaction call failed — expect rollback save
-            verify(repository).deleteById(LIMITED_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(LimitedPartnerDao.class));
             verify(repository).save(limitedPartnerDao);
         }
 
@@ -227,10 +398,10 @@ class LimitedPartnerServiceTest {
             when(repository.findById(LIMITED_ID)).thenReturn(Optional.of(limitedPartnerDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            limitedPartnerService.deleteLimitedPartner(transaction, LIMITED_ID, REQUEST_ID);
+            limitedPartnerService.deleteLimitedPartner(transaction, LIMITED_ID, REQUEST_ID, null);
 
-            // only deleteById — no rollback save
-            verify(repository).deleteById(LIMITED_ID);
+            // only the delete — no rollback save
+            verify(mongoTemplate).remove(any(Query.class), eq(LimitedPartnerDao.class));
             verify(repository, never()).save(any());
         }
     }
@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.mongodb.client.result.DeleteResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +12,10 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnerBuilder;
@@ -42,6 +47,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -75,12 +83,21 @@ class LimitedPartnerServiceUpdateTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
     @Captor
     private ArgumentCaptor<Transaction> transactionCaptor;
 
     @Captor
     private ArgumentCaptor<LimitedPartnerDao> submissionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> invocation.getArgument(1)).when(mongoTemplate).findAndReplace(any(Query.class), any());
+        doReturn(DeleteResult.acknowledged(1)).when(mongoTemplate).remove(any(Query.class), any(Class.class));
+    }
+
     @Test
     void shouldUpdateTheDaoWithPrincipalOfficeAddress() throws ServiceException, MethodArgumentNotValidException, NoSuchMethodException {
         LimitedPartnerDao limitedPartnerDao = new LimitedPartnerBuilder().legalEntityDao();
@@ -98,10 +115,10 @@ class LimitedPartnerServiceUpdateTest {
         // dao principal office address is null before mapping/update
         assertNull(limitedPartnerDao.getData().getPrincipalOfficeAddress());
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
         verify(limitedPartnerRepository).findById(LIMITED_PARTNER_ID);
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -131,10 +148,10 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(limitedPartnershipDto);
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
         verify(limitedPartnerRepository).findById(LIMITED_PARTNER_ID);
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -159,7 +176,7 @@ class LimitedPartnerServiceUpdateTest {
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
         MethodArgumentNotValidException exception = assertThrows(MethodArgumentNotValidException.class, () ->
-                service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID)
+                service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null)
         );
 
         assertEquals("Second nationality must be different from the first", Objects.requireNonNull(exception.getBindingResult().getFieldError("nationality2")).getDefaultMessage());
@@ -179,9 +196,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -203,9 +220,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -226,9 +243,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -254,9 +271,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -285,10 +302,10 @@ class LimitedPartnerServiceUpdateTest {
         // dao principal office address before mapping/update
         assertEquals("United Kingdom", limitedPartnerDao.getData().getLegalEntityRegistrationLocation());
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
         verify(limitedPartnerRepository).findById(LIMITED_PARTNER_ID);
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
 
@@ -305,7 +322,7 @@ class LimitedPartnerServiceUpdateTest {
 
         when(limitedPartnerRepository.findById(LIMITED_PARTNER_ID)).thenReturn(Optional.of(limitedPartnerDao));
 
-        assertThatThrownBy(() -> service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID))
+        assertThatThrownBy(() -> service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(String.format("Transaction id: %s does not have a resource that matches limited partner id: %s", transaction.getId(), LIMITED_PARTNER_ID));
     }
@@ -327,7 +344,7 @@ class LimitedPartnerServiceUpdateTest {
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
         MethodArgumentNotValidException exception = assertThrows(MethodArgumentNotValidException.class, () ->
-                service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID)
+                service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null)
         );
 
         assertThat(exception.getBindingResult().getFieldErrors()).anyMatch(
@@ -348,9 +365,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
         assertEquals(Currency.GBP, sentSubmission.getData().getContributionCurrencyType());
@@ -370,9 +387,9 @@ class LimitedPartnerServiceUpdateTest {
         when(limitedPartnerRepository.findById(limitedPartnerDao.getId())).thenReturn(Optional.of(limitedPartnerDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartner(transaction, LIMITED_PARTNER_ID, limitedPartnerDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(limitedPartnerRepository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnerDao sentSubmission = submissionCaptor.getValue();
         assertThat(sentSubmission.getData().getContributionSubTypes()).contains(ContributionSubTypes.SHARES);
@@ -389,12 +406,12 @@ class LimitedPartnerServiceUpdateTest {
             when(limitedPartnerRepository.findById(LIMITED_PARTNER_ID)).thenReturn(Optional.of(limitedPartnerDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID);
+            service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID, null);
 
             String expectedSubmissionUri = String.format(URL_GET_LIMITED_PARTNER, TRANSACTION_ID, LIMITED_PARTNER_ID);
 
             verify(transactionService).deleteTransactionResource(TRANSACTION_ID, expectedSubmissionUri, REQUEST_ID);
-            verify(limitedPartnerRepository).deleteById(LIMITED_PARTNER_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(LimitedPartnerDao.class));
         }
 
         @Test
@@ -408,12 +425,12 @@ class LimitedPartnerServiceUpdateTest {
                     .when(transactionService).deleteTransactionResource(TRANSACTION_ID,
                             String.format(URL_GET_LIMITED_PARTNER, TRANSACTION_ID, LIMITED_PARTNER_ID), REQUEST_ID);
 
-            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID, null))
                     .isInstanceOf(ServiceException.class)
                     .hasMessageContaining("Transaction resource delete failed");
 
             // MongoDB delete happens first; on HTTP failure the document is re-saved (rolled back)
-            verify(limitedPartnerRepository).deleteById(LIMITED_PARTNER_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(LimitedPartnerDao.class));
             verify(limitedPartnerRepository).save(limitedPartnerDao);
         }
 
@@ -422,7 +439,7 @@ class LimitedPartnerServiceUpdateTest {
             when(limitedPartnerRepository.findById(LIMITED_PARTNER_ID)).thenReturn(Optional.empty());
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID, null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining(String.format("Limited partner with id %s not found", LIMITED_PARTNER_ID));
         }
@@ -433,7 +450,7 @@ class LimitedPartnerServiceUpdateTest {
 
             when(limitedPartnerRepository.findById(LIMITED_PARTNER_ID)).thenReturn(Optional.of(limitedPartnerDao));
 
-            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID))
+            assertThatThrownBy(() -> service.deleteLimitedPartner(transaction, LIMITED_PARTNER_ID, REQUEST_ID, null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining(String.format("Transaction id: %s does not have a resource that matches limited partner id: %s", transaction.getId(), LIMITED_PARTNER_ID));
         }
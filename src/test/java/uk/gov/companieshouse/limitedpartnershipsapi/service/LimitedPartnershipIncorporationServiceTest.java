@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,6 +8,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -25,6 +27,9 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.incorporation.dto.Limi
 import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.dto.LimitedPartnerDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipIncorporationRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraph;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionSubmissionGraphLoader;
 
 import java.util.List;
 import java.util.Map;
@@ -59,6 +64,9 @@ class LimitedPartnershipIncorporationServiceTest {
     @InjectMocks
     private LimitedPartnershipIncorporationService incorporationService;
 
+    @Spy
+    private SubmissionInserter submissionInserter = new SubmissionInserter(false, new SimpleMeterRegistry());
+
     @Mock
     private LimitedPartnershipIncorporationRepository repository;
 
@@ -80,6 +88,12 @@ class LimitedPartnershipIncorporationServiceTest {
     @Mock
     private GeneralPartnerService generalPartnerService;
 
+    @Mock
+    private PersonWithSignificantControlService personWithSignificantControlService;
+
+    @Mock
+    private TransactionSubmissionGraphLoader transactionSubmissionGraphLoader;
+
     @Captor
     private ArgumentCaptor<Transaction> transactionSubmissionCaptor;
 
@@ -126,7 +140,7 @@ class LimitedPartnershipIncorporationServiceTest {
         createIncorporation(REGISTRATION);
 
         // then
-        verify(transactionService).updateTransaction(transactionSubmissionCaptor.capture(), eq(REQUEST_ID));
+        verify(transactionService).updateTransactionResources(transactionSubmissionCaptor.capture(), eq(REQUEST_ID));
 
         Map<String, Resource> transactionResources = transactionSubmissionCaptor.getValue().getResources();
         assertEquals(1, transactionResources.size());
@@ -143,7 +157,7 @@ class LimitedPartnershipIncorporationServiceTest {
         createIncorporation(TRANSITION);
 
         // then
-        verify(transactionService).updateTransaction(transactionSubmissionCaptor.capture(), eq(REQUEST_ID));
+        verify(transactionService).updateTransactionResources(transactionSubmissionCaptor.capture(), eq(REQUEST_ID));
 
         Map<String, Resource> transactionResources = transactionSubmissionCaptor.getValue().getResources();
         assertEquals(1, transactionResources.size());
@@ -181,10 +195,12 @@ class LimitedPartnershipIncorporationServiceTest {
         when(transactionService.isTransactionLinkedToLimitedPartnershipIncorporation(eq(transaction), any(String.class))).thenReturn(true);
         when(repository.findById(SUBMISSION_ID)).thenReturn(Optional.of(limitedPartnershipIncorporationDao));
         when(mapper.daoToDto(limitedPartnershipIncorporationDao)).thenReturn(createLimitedPartnershipIncorporationDto());
-        when(limitedPartnershipService.getLimitedPartnership(transaction)).thenReturn(
+        TransactionSubmissionGraph graph = new TransactionSubmissionGraph(TRANSACTION_ID, List.of(), List.of(), List.of(), List.of());
+        when(transactionSubmissionGraphLoader.load(TRANSACTION_ID)).thenReturn(graph);
+        when(limitedPartnershipService.getLimitedPartnership(transaction, graph.limitedPartnerships())).thenReturn(
                 limitedPartnershipDto);
-        when(limitedPartnerService.getLimitedPartnerList(transaction)).thenReturn(limitedPartnerList);
-        when(generalPartnerService.getGeneralPartnerList(transaction)).thenReturn(generalPartnerList);
+        when(limitedPartnerService.getLimitedPartnerList(transaction, graph.limitedPartners())).thenReturn(limitedPartnerList);
+        when(generalPartnerService.getGeneralPartnerList(transaction, graph.generalPartners())).thenReturn(generalPartnerList);
 
         // when
         var limitedPartnershipIncorporationDto = incorporationService.getIncorporation(transaction, SUBMISSION_ID, true);
@@ -199,6 +215,20 @@ class LimitedPartnershipIncorporationServiceTest {
         assertThat(limitedPartnershipIncorporationDto.getSubResources().getGeneralPartners(), containsInAnyOrder(generalPartnerList.toArray()));
     }
 
+    @Test
+    void testValidateIncorporationLoadsSubmissionGraphOnce() throws Exception {
+        TransactionSubmissionGraph graph = new TransactionSubmissionGraph(TRANSACTION_ID, List.of(), List.of(), List.of(), List.of());
+        when(transactionSubmissionGraphLoader.load(TRANSACTION_ID)).thenReturn(graph);
+
+        incorporationService.validateIncorporation(transaction);
+
+        verify(transactionSubmissionGraphLoader, times(1)).load(TRANSACTION_ID);
+        verify(limitedPartnershipService).validateLimitedPartnership(transaction, graph.limitedPartnerships());
+        verify(generalPartnerService).validateGeneralPartners(transaction, graph.generalPartners());
+        verify(limitedPartnerService).validateLimitedPartners(transaction, graph.limitedPartners());
+        verify(personWithSignificantControlService).validatePersonsWithSignificantControl(transaction, graph.personsWithSignificantControl());
+    }
+
     @Test
     void testGetIncorporationTypeReturnsNotFoundExceptionWhenNoLinkBetweenTransactionAndIncorporation() {
         // given
@@ -262,7 +292,7 @@ class LimitedPartnershipIncorporationServiceTest {
             incorporationDto.setData(dataDto);
 
             doThrow(new ServiceException("Transaction update failed"))
-                    .when(transactionService).updateTransaction(any(), any());
+                    .when(transactionService).updateTransactionResources(any(), any());
 
             assertThatThrownBy(() -> incorporationService.createIncorporation(transaction, incorporationDto, REQUEST_ID, USER_ID))
                     .isInstanceOf(ServiceException.class)
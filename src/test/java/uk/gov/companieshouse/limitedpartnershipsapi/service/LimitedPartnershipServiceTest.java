@@ -1,5 +1,8 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,7 +10,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Resource;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
@@ -24,7 +30,10 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dao.Limite
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipPatchDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.LimitedPartnershipRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.LimitedPartnershipValidator;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -62,6 +72,17 @@ class LimitedPartnershipServiceTest {
     @InjectMocks
     private LimitedPartnershipService service;
 
+    @Spy
+    private SubmissionInserter submissionInserter = new SubmissionInserter(false, new SimpleMeterRegistry());
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Spy
+    private SubmissionPatcher submissionPatcher = new SubmissionPatcher(false, mongoTemplate);
+
+    @Spy
+    private ValidationResultCache validationResultCache = new ValidationResultCache(false, Caffeine.newBuilder().build(), new SimpleMeterRegistry());
+
     @Mock
     private LimitedPartnershipMapper mapper;
 
@@ -80,6 +101,11 @@ class LimitedPartnershipServiceTest {
     @Captor
     private ArgumentCaptor<LimitedPartnershipDao> submissionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
     @Test
     void givenDto_whenCreateLP_thenLPCreatedWithSubmissionIdAndTransactionUpdated() throws Exception {
         // given
@@ -136,7 +162,7 @@ class LimitedPartnershipServiceTest {
         when(repository.findById("wrong-id")).thenReturn(Optional.empty());
 
         // when + then
-        assertThrows(ResourceNotFoundException.class, () -> service.updateLimitedPartnership(transaction, "wrong-id", limitedPartnershipPatchDto, REQUEST_ID, USER_ID));
+        assertThrows(ResourceNotFoundException.class, () -> service.updateLimitedPartnership(transaction, "wrong-id", limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null));
     }
 
     @Test
@@ -163,11 +189,11 @@ class LimitedPartnershipServiceTest {
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
         // when
-        service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+        service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
         // then
         verify(repository).findById(SUBMISSION_ID);
-        verify(repository).save(submissionCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
         LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
         assertEquals("5fd36577288e", sentSubmission.getCreatedBy());
@@ -185,7 +211,7 @@ class LimitedPartnershipServiceTest {
 
         // when + then
         assertThrows(ServiceException.class, () -> service.updateLimitedPartnership(
-                transaction, "wrong-id", limitedPartnershipPatchDto, REQUEST_ID, USER_ID));
+                transaction, "wrong-id", limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null));
     }
 
     @Test
@@ -384,13 +410,11 @@ class LimitedPartnershipServiceTest {
 
             // when + then
             assertThrows(ServiceException.class,
-                () -> service.updateLimitedPartnership(transaction, SUBMISSION_ID, new LimitedPartnershipPatchDto(), REQUEST_ID, USER_ID));
+                () -> service.updateLimitedPartnership(transaction, SUBMISSION_ID, new LimitedPartnershipPatchDto(), REQUEST_ID, USER_ID, null));
 
-            // verify: first save = patched DAO, second save = original DAO (rollback)
-            verify(repository, times(2)).save(submissionCaptor.capture());
-            List<LimitedPartnershipDao> savedValues = submissionCaptor.getAllValues();
-            assertEquals(limitedPartnershipDaoAfterPatch, savedValues.get(0));
-            assertEquals(limitedPartnershipDaoBeforePatch, savedValues.get(1));
+            // verify: the patched DAO is written first, then the original DAO is saved back (rollback)
+            verify(mongoTemplate).findAndReplace(any(Query.class), eq(limitedPartnershipDaoAfterPatch));
+            verify(repository).save(limitedPartnershipDaoBeforePatch);
         }
 
         @Test
@@ -406,11 +430,12 @@ class LimitedPartnershipServiceTest {
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
             // when
-            service.updateLimitedPartnership(transaction, SUBMISSION_ID, new LimitedPartnershipPatchDto(), REQUEST_ID, USER_ID);
+            service.updateLimitedPartnership(transaction, SUBMISSION_ID, new LimitedPartnershipPatchDto(), REQUEST_ID, USER_ID, null);
 
-            // then: only one save (the patched DAO) — no rollback save
-            verify(repository, times(1)).save(submissionCaptor.capture());
+            // then: only the patched DAO is written — no rollback save
+            verify(mongoTemplate, times(1)).findAndReplace(any(Query.class), submissionCaptor.capture());
             assertEquals(limitedPartnershipDaoAfterPatch, submissionCaptor.getValue());
+            verify(repository, never()).save(any());
         }
     }
 }
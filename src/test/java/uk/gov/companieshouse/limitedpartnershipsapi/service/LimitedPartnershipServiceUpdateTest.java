@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,7 +9,10 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
@@ -31,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,9 +58,17 @@ class LimitedPartnershipServiceUpdateTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
     @Captor
     private ArgumentCaptor<LimitedPartnershipDao> submissionCaptor;
 
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> invocation.getArgument(1)).when(mongoTemplate).findAndReplace(any(Query.class), any());
+    }
+
     @Nested
     public class updateLimitedPartnership {
 
@@ -77,11 +90,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertEquals("Test Partnership", limitedPartnershipDao.getData().getPartnershipName());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
                 assertEquals(USER_ID, sentSubmission.getUpdatedBy());
@@ -128,11 +141,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getRegisteredOfficeAddress());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -188,11 +201,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getTerm());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -240,11 +253,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getPrincipalPlaceOfBusinessAddress());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -301,11 +314,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getSicCodes());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -352,11 +365,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getLawfulPurposeStatementChecked());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -400,11 +413,11 @@ class LimitedPartnershipServiceUpdateTest {
                 assertNull(limitedPartnershipDao.getData().getHasPersonWithSignificantControl());
 
                 // when
-                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID);
+                service.updateLimitedPartnership(transaction, SUBMISSION_ID, limitedPartnershipPatchDto, REQUEST_ID, USER_ID, null);
 
                 // then
                 verify(repository).findById(SUBMISSION_ID);
-                verify(repository).save(submissionCaptor.capture());
+                verify(mongoTemplate).findAndReplace(any(Query.class), submissionCaptor.capture());
 
                 LimitedPartnershipDao sentSubmission = submissionCaptor.getValue();
 
@@ -1,9 +1,11 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -12,6 +14,7 @@ import uk.gov.companieshouse.api.handler.payment.request.PaymentGet;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.payment.PaymentApi;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,6 +36,8 @@ class PaymentServiceTest {
     private ApiResponse<PaymentApi> apiPaymentResponse;
     @Mock
     private PaymentApi paymentApi;
+    @Spy
+    private ApiClientMetrics apiClientMetrics = new ApiClientMetrics(new SimpleMeterRegistry());
 
     @InjectMocks
     private PaymentService paymentService;
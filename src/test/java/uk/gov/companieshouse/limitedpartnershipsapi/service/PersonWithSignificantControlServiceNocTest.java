@@ -2,6 +2,7 @@ package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,7 +13,10 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.NatureOfControlBuilder;
@@ -35,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL;
@@ -62,6 +67,9 @@ class PersonWithSignificantControlServiceNocTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
     @Captor
     private ArgumentCaptor<PersonWithSignificantControlDao> pscDaoArgumentCaptor;
 
@@ -80,6 +88,11 @@ class PersonWithSignificantControlServiceNocTest {
         };
     }
 
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> invocation.getArgument(1)).when(mongoTemplate).findAndReplace(any(Query.class), any());
+    }
+
     @Nested
     class NaturesOfControlIndividual {
         static Stream<NatureOfControlDto> provideNaturesOfControlIndividual() {
@@ -150,10 +163,10 @@ class PersonWithSignificantControlServiceNocTest {
 
             assertNull(personWithSignificantControlDao.getData().getNaturesOfControl());
 
-            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID);
+            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null);
 
             verify(personWithSignificantControlRepository).findById(PSC_ID);
-            verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+            verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
             PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -170,7 +183,7 @@ class PersonWithSignificantControlServiceNocTest {
             when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID))
+            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null))
                 .isInstanceOf(MethodArgumentNotValidException.class)
                 .hasMessageContaining("Invalid nature of control combination");
         }
@@ -245,10 +258,10 @@ class PersonWithSignificantControlServiceNocTest {
 
             assertNull(personWithSignificantControlDao.getData().getNaturesOfControl());
 
-            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID);
+            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null);
 
             verify(personWithSignificantControlRepository).findById(PSC_ID);
-            verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+            verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
             PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -265,7 +278,7 @@ class PersonWithSignificantControlServiceNocTest {
             when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID))
+            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null))
                     .isInstanceOf(MethodArgumentNotValidException.class)
                     .hasMessageContaining("Invalid nature of control combination");
         }
@@ -340,10 +353,10 @@ class PersonWithSignificantControlServiceNocTest {
 
             assertNull(personWithSignificantControlDao.getData().getNaturesOfControl());
 
-            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID);
+            personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null);
 
             verify(personWithSignificantControlRepository).findById(PSC_ID);
-            verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+            verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
             PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -360,7 +373,7 @@ class PersonWithSignificantControlServiceNocTest {
             when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID))
+            assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDto.getData(), REQUEST_ID, USER_ID, null))
                 .isInstanceOf(MethodArgumentNotValidException.class)
                 .hasMessageContaining("Invalid nature of control combination");
         }
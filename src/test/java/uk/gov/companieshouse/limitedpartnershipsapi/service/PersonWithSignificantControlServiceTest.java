@@ -1,5 +1,9 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,7 +11,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.PersonWithSignificantControlBuilder;
@@ -22,12 +29,19 @@ import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantc
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDataDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.personwithsignificantcontrol.dto.PersonWithSignificantControlDto;
 import uk.gov.companieshouse.limitedpartnershipsapi.repository.PersonWithSignificantControlRepository;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionInserter;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.SubmissionPatcher;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationContextFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationExecutor;
+import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.ValidationResultCache;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.PersonWithSignificantControlValidator;
 import uk.gov.companieshouse.limitedpartnershipsapi.service.validator.personwithsignificantcontrol.PersonWithSignificantControlValidatorStrategy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -36,9 +50,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,6 +63,7 @@ import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.model.common.Country.FRANCE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality.SPANISH;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.MAX_BATCH_SIZE;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +83,23 @@ class PersonWithSignificantControlServiceTest {
     @InjectMocks
     private PersonWithSignificantControlService personWithSignificantControlService;
 
+    @Spy
+    private SubmissionInserter submissionInserter = new SubmissionInserter(false, new SimpleMeterRegistry());
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Spy
+    private SubmissionPatcher submissionPatcher = new SubmissionPatcher(false, mongoTemplate);
+
+    @Spy
+    private ValidationResultCache validationResultCache = new ValidationResultCache(false, Caffeine.newBuilder().build(), new SimpleMeterRegistry());
+
+    @Spy
+    private ValidationExecutor validationExecutor = new ValidationExecutor(false, 1, mock(ExecutorService.class), new SimpleMeterRegistry());
+
+    @Spy
+    private ValidationContextFactory validationContextFactory = new ValidationContextFactory();
+
     @Mock
     private PersonWithSignificantControlRepository repository;
 
@@ -86,6 +121,12 @@ class PersonWithSignificantControlServiceTest {
     @Captor
     private ArgumentCaptor<PersonWithSignificantControlDto> pscDtoCaptor;
 
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.findAndReplace(any(Query.class), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(mongoTemplate.remove(any(Query.class), any(Class.class))).thenReturn(DeleteResult.acknowledged(1));
+    }
+
     @Test
     void testGetPersonWithSignificantControlSuccess() throws ServiceException {
         PersonWithSignificantControlDao dao = new PersonWithSignificantControlBuilder().individualPersonDao();
@@ -198,12 +239,12 @@ class PersonWithSignificantControlServiceTest {
         assertNull(afterPatchDao.getLinks());
         assertNull(afterPatchDao.getTransactionId());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID, null);
 
         verify(repository, times(1)).findById(PSC_ID);
         verify(mapper, times(1)).daoToDto(existingDao);
         verify(mapper, times(1)).update(changesDataDto, existingDto.getData());
-        verify(repository, times(1)).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate, times(1)).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
         PersonWithSignificantControlDao savedDao = pscDaoArgumentCaptor.getValue();
         assertEquals(existingDao.getId(), savedDao.getId());
@@ -234,7 +275,7 @@ class PersonWithSignificantControlServiceTest {
 
         assertNotNull(existingDto.getData().getNationality2());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID, null);
 
         verify(mapper, times(1)).update(changesDataDto, existingDto.getData());
         verify(mapper, times(1)).dtoToDao(pscDtoCaptor.capture());
@@ -266,7 +307,7 @@ class PersonWithSignificantControlServiceTest {
         assertNotNull(existingDto.getData().getTitle());
         assertNotNull(existingDto.getData().getMiddleNames());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, changesDataDto, REQUEST_ID, USER_ID, null);
 
         verify(mapper, times(1)).update(changesDataDto, existingDto.getData());
         verify(mapper, times(1)).dtoToDao(pscDtoCaptor.capture());
@@ -282,7 +323,7 @@ class PersonWithSignificantControlServiceTest {
 
         ResourceNotFoundException resourceNotFoundException = assertThrows(
                 ResourceNotFoundException.class,
-                () -> personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, new PersonWithSignificantControlDataDto(), REQUEST_ID, USER_ID));
+                () -> personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, new PersonWithSignificantControlDataDto(), REQUEST_ID, USER_ID, null));
         assertEquals("Person with significant control with id " + PSC_ID + " not found", resourceNotFoundException.getMessage());
     }
 
@@ -296,7 +337,7 @@ class PersonWithSignificantControlServiceTest {
 
         ResourceNotFoundException resourceNotFoundException = assertThrows(
                 ResourceNotFoundException.class,
-                () -> personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, new PersonWithSignificantControlDataDto(), REQUEST_ID, USER_ID));
+                () -> personWithSignificantControlService.updatePersonWithSignificantControl(TRANSACTION, PSC_ID, new PersonWithSignificantControlDataDto(), REQUEST_ID, USER_ID, null));
         assertEquals(String.format("Transaction id: %s does not have a resource that matches person with significant control id: %s", TRANSACTION.getId(), PSC_ID), resourceNotFoundException.getMessage());
     }
 
@@ -308,11 +349,11 @@ class PersonWithSignificantControlServiceTest {
         when(repository.findById(PSC_ID)).thenReturn(Optional.of(existingDao));
         when(transactionService.isTransactionLinkedToResource(TRANSACTION, pscUri, FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL)).thenReturn(true);
 
-        personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID);
+        personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID, null);
 
         verify(repository, times(1)).findById(PSC_ID);
         verify(transactionService, times(1)).isTransactionLinkedToResource(TRANSACTION, pscUri, FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL);
-        verify(repository, times(1)).deleteById(PSC_ID);
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(PersonWithSignificantControlDao.class));
         verify(transactionService, times(1)).deleteTransactionResource(TRANSACTION.getId(), pscUri, REQUEST_ID);
     }
 
@@ -322,7 +363,7 @@ class PersonWithSignificantControlServiceTest {
 
         ResourceNotFoundException resourceNotFoundException = assertThrows(
                 ResourceNotFoundException.class,
-                () -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID));
+                () -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID, null));
         assertEquals("Person with significant control with id " + PSC_ID + " not found", resourceNotFoundException.getMessage());
     }
 
@@ -336,7 +377,7 @@ class PersonWithSignificantControlServiceTest {
 
         ResourceNotFoundException resourceNotFoundException = assertThrows(
                 ResourceNotFoundException.class,
-                () -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID));
+                () -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID, null));
         assertEquals(String.format("Transaction id: %s does not have a resource that matches person with significant control id: %s", TRANSACTION.getId(), PSC_ID), resourceNotFoundException.getMessage());
     }
 
@@ -432,6 +473,67 @@ class PersonWithSignificantControlServiceTest {
             verify(repository, never()).deleteById(PSC_ID);
         }
 
+        @Test
+        void givenTransactionUpdateSucceeds_whenCreatePscs_thenEveryPscIsLinkedInOneUpdate() throws Exception {
+            PersonWithSignificantControlDto firstDto = new PersonWithSignificantControlBuilder().relevantLegalEntityDto();
+            PersonWithSignificantControlDto secondDto = new PersonWithSignificantControlBuilder().individualPersonDto();
+            PersonWithSignificantControlDao firstDao = new PersonWithSignificantControlBuilder().relevantLegalEntityDao();
+            firstDao.setId("first-id");
+            PersonWithSignificantControlDao secondDao = new PersonWithSignificantControlBuilder().individualPersonDao();
+            secondDao.setId("second-id");
+
+            when(personWithSignificantControlValidator.getValidatorByType(any(PersonWithSignificantControlType.class))).thenReturn(personWithSignificantControlValidatorStrategy);
+            when(mapper.dtoToDao(firstDto)).thenReturn(firstDao);
+            when(mapper.dtoToDao(secondDto)).thenReturn(secondDao);
+            when(repository.insert(List.of(firstDao, secondDao))).thenReturn(List.of(firstDao, secondDao));
+
+            List<String> ids = personWithSignificantControlService.createPersonsWithSignificantControl(
+                    TRANSACTION, List.of(firstDto, secondDto), REQUEST_ID, USER_ID);
+
+            assertEquals(List.of("first-id", "second-id"), ids);
+            verify(repository).saveSelfLinksByIdIn(List.of("first-id", "second-id"),
+                    String.format(URL_GET_PERSON_WITH_SIGNIFICANT_CONTROL, TRANSACTION.getId(), ""));
+            verify(transactionService).updateTransactionWithLinksForResources(eq(REQUEST_ID), eq(TRANSACTION),
+                    argThat(resources -> resources.size() == 2));
+            verify(repository, never()).deleteAllById(any());
+        }
+
+        @Test
+        void givenTransactionUpdateFails_whenCreatePscs_thenEveryInsertedPscIsDeleted() throws ServiceException {
+            PersonWithSignificantControlDto firstDto = new PersonWithSignificantControlBuilder().relevantLegalEntityDto();
+            PersonWithSignificantControlDto secondDto = new PersonWithSignificantControlBuilder().individualPersonDto();
+            PersonWithSignificantControlDao firstDao = new PersonWithSignificantControlBuilder().relevantLegalEntityDao();
+            firstDao.setId("first-id");
+            PersonWithSignificantControlDao secondDao = new PersonWithSignificantControlBuilder().individualPersonDao();
+            secondDao.setId("second-id");
+
+            when(personWithSignificantControlValidator.getValidatorByType(any(PersonWithSignificantControlType.class))).thenReturn(personWithSignificantControlValidatorStrategy);
+            when(mapper.dtoToDao(firstDto)).thenReturn(firstDao);
+            when(mapper.dtoToDao(secondDto)).thenReturn(secondDao);
+            when(repository.insert(List.of(firstDao, secondDao))).thenReturn(List.of(firstDao, secondDao));
+            doThrow(new ServiceException("Transaction update failed"))
+                    .when(transactionService).updateTransactionWithLinksForResources(any(), any(), any());
+
+            List<PersonWithSignificantControlDto> dtos = List.of(firstDto, secondDto);
+            assertThatThrownBy(() -> personWithSignificantControlService.createPersonsWithSignificantControl(TRANSACTION, dtos, REQUEST_ID, USER_ID))
+                    .isInstanceOf(ServiceException.class)
+                    .hasMessageContaining("Transaction update failed");
+
+            verify(repository).deleteAllById(List.of("first-id", "second-id"));
+        }
+
+        @Test
+        void givenTooManyPscs_whenCreatePscs_thenNothingIsValidatedOrWritten() {
+            List<PersonWithSignificantControlDto> dtos = Collections.nCopies(MAX_BATCH_SIZE + 1,
+                    new PersonWithSignificantControlBuilder().relevantLegalEntityDto());
+
+            assertThrows(MethodArgumentNotValidException.class,
+                    () -> personWithSignificantControlService.createPersonsWithSignificantControl(TRANSACTION, dtos, REQUEST_ID, USER_ID));
+
+            verify(personWithSignificantControlValidator, never()).getValidatorByType(any());
+            verify(repository, never()).insert(anyList());
+        }
+
         @Test
         void givenTransactionDeleteFails_whenDeletePsc_thenMongoDocumentIsRestored() throws ServiceException {
             PersonWithSignificantControlDao existingDao = new PersonWithSignificantControlBuilder().relevantLegalEntityDao();
@@ -441,12 +543,12 @@ class PersonWithSignificantControlServiceTest {
             doThrow(new ServiceException("Transaction resource delete failed"))
                     .when(transactionService).deleteTransactionResource(any(), any(), any());
 
-            assertThatThrownBy(() -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID))
+            assertThatThrownBy(() -> personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID, null))
                     .isInstanceOf(ServiceException.class)
                     .hasMessageContaining("Transaction resource delete failed");
 
             // MongoDB was deleted first, then the transaction call failed — expect rollback save
-            verify(repository).deleteById(PSC_ID);
+            verify(mongoTemplate).remove(any(Query.class), eq(PersonWithSignificantControlDao.class));
             verify(repository).save(existingDao);
         }
 
@@ -457,10 +559,10 @@ class PersonWithSignificantControlServiceTest {
             when(repository.findById(PSC_ID)).thenReturn(Optional.of(existingDao));
             when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-            personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID);
+            personWithSignificantControlService.deletePersonWithSignificantControl(TRANSACTION, PSC_ID, REQUEST_ID, null);
 
-            // only deleteById — no rollback save
-            verify(repository).deleteById(PSC_ID);
+            // only the delete — no rollback save
+            verify(mongoTemplate).remove(any(Query.class), eq(PersonWithSignificantControlDao.class));
             verify(repository, never()).save(any());
         }
     }
@@ -11,7 +11,10 @@ import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.gov.companieshouse.api.model.transaction.Transaction;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.NatureOfControlBuilder;
@@ -40,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_PERSON_WITH_SIGNIFICANT_CONTROL;
@@ -67,12 +71,16 @@ class PersonWithSignificantControlServiceUpdateTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoSpyBean
+    private MongoTemplate mongoTemplate;
+
     @Captor
     private ArgumentCaptor<PersonWithSignificantControlDao> pscDaoArgumentCaptor;
 
 
     @BeforeEach
     void setUp() {
+        doAnswer(invocation -> invocation.getArgument(1)).when(mongoTemplate).findAndReplace(any(Query.class), any());
         transaction.setFilingMode(FilingMode.REGISTRATION.getDescription());
     }
 
@@ -101,10 +109,10 @@ class PersonWithSignificantControlServiceUpdateTest {
         assertNull(personWithSignificantControlDao.getData().getPrincipalOfficeAddress());
         assertNotNull(personWithSignificantControlDataDto.getPrincipalOfficeAddress());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID, null);
 
         verify(personWithSignificantControlRepository).findById(PSC_ID);
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -129,10 +137,10 @@ class PersonWithSignificantControlServiceUpdateTest {
         assertNull(personWithSignificantControlDao.getData().getUsualResidentialAddress());
         assertNotNull(personWithSignificantControlDataDto.getUsualResidentialAddress());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID, null);
 
         verify(personWithSignificantControlRepository).findById(PSC_ID);
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -156,10 +164,10 @@ class PersonWithSignificantControlServiceUpdateTest {
         assertNull(personWithSignificantControlDao.getData().getServiceAddress());
         assertNotNull(personWithSignificantControlDataDto.getServiceAddress());
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID, null);
 
         verify(personWithSignificantControlRepository).findById(PSC_ID);
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -181,9 +189,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
 
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
 
@@ -203,9 +211,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getLegalEntityRegistrationLocation()).isEqualTo(preChangeLegalEntityRegistrationLocation);
     }
@@ -224,9 +232,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getLegalEntityRegistrationLocation()).isNull();
     }
@@ -246,9 +254,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getTitle()).isEqualTo(preChangeTitle);
         assertThat(savedPersonWithSignificantControlDao.getData().getMiddleNames()).isEqualTo(preChangeMiddleNames);
@@ -274,9 +282,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getTitle()).isNull();
         assertThat(savedPersonWithSignificantControlDao.getData().getMiddleNames()).isNull();
@@ -291,7 +299,7 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(PSC_ID)).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(false);
 
-        assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID))
+        assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, personWithSignificantControlDataDto, REQUEST_ID, USER_ID, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(String.format("Transaction id: %s does not have a resource that matches person with significant control id: %s", transaction.getId(), PSC_ID));
     }
@@ -309,7 +317,7 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
         assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(
-                transaction, PSC_ID, dto, REQUEST_ID, USER_ID))
+                transaction, PSC_ID, dto, REQUEST_ID, USER_ID, null))
                 .isInstanceOf(MethodArgumentNotValidException.class)
                 .hasMessageContaining("Person with significant control type cannot be changed");
     }
@@ -344,9 +352,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getNatureOfControlTypes()).isEqualTo(List.of(NatureOfControlType.INDIVIDUAL.toString(), NatureOfControlType.FIRM.toString(), NatureOfControlType.TRUST.toString()));
     }
@@ -361,7 +369,7 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID))
+        assertThatThrownBy(() -> personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null))
                 .isInstanceOf(MethodArgumentNotValidException.class)
                 .hasMessageContaining("Nature of control types must be valid");
     }
@@ -383,9 +391,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getNatureOfControlTypes()).isEqualTo(List.of(NatureOfControlType.INDIVIDUAL.toString()));
         assertThat(savedPersonWithSignificantControlDao.getData().getNaturesOfControl())
@@ -409,9 +417,9 @@ class PersonWithSignificantControlServiceUpdateTest {
         when(personWithSignificantControlRepository.findById(personWithSignificantControlDao.getId())).thenReturn(Optional.of(personWithSignificantControlDao));
         when(transactionService.isTransactionLinkedToResource(any(), any(), any())).thenReturn(true);
 
-        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID);
+        personWithSignificantControlService.updatePersonWithSignificantControl(transaction, PSC_ID, changesDto, REQUEST_ID, USER_ID, null);
 
-        verify(personWithSignificantControlRepository).save(pscDaoArgumentCaptor.capture());
+        verify(mongoTemplate).findAndReplace(any(Query.class), pscDaoArgumentCaptor.capture());
         PersonWithSignificantControlDao savedPersonWithSignificantControlDao = pscDaoArgumentCaptor.getValue();
         assertThat(savedPersonWithSignificantControlDao.getData().getNatureOfControlTypes()).isEqualTo(List.of(NatureOfControlType.INDIVIDUAL.toString(), NatureOfControlType.FIRM.toString()));
         assertThat(savedPersonWithSignificantControlDao.getData().getNaturesOfControl())
@@ -0,0 +1,149 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.TransactionOutboxOperation;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.outbox.dao.TransactionOutboxDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.repository.TransactionOutbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxDispatcherTest {
+
+    private static final String TRANSACTION_ID = TransactionBuilder.TRANSACTION_ID;
+    private static final String REQUEST_ID = "request-123";
+    private static final String LATEST_REQUEST_ID = "request-456";
+    private static final String RESUME_URI = "/limited-partnerships/transaction/" + TRANSACTION_ID + "/resume";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private TransactionOutbox transactionOutbox;
+
+    @Mock
+    private TransactionService transactionService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void init() {
+        dispatcher = new TransactionOutboxDispatcher(transactionOutbox, transactionService, meterRegistry,
+                true, 500, 10, MAX_ATTEMPTS, 1000, 8000, 60000);
+    }
+
+    @Test
+    void testEntriesForATransactionAreMergedIntoOneUpdateAndRemoved() throws ServiceException {
+        TransactionOutboxDao rename = updateEntry("entry-1", "First name", null, 0);
+        TransactionOutboxDao resume = updateEntry("entry-2", null, RESUME_URI, 0);
+        TransactionOutboxDao secondRename = updateEntry("entry-3", "Second name", null, 0);
+        secondRename.setRequestId(LATEST_REQUEST_ID);
+        when(transactionOutbox.findTransactionIdsWithDueEntries(any(), eq(10))).thenReturn(List.of(TRANSACTION_ID));
+        when(transactionOutbox.claimBatch(eq(TRANSACTION_ID), any(), any(), eq(TransactionOutboxDispatcher.MAX_ENTRIES_PER_UPDATE)))
+                .thenReturn(List.of(rename, resume, secondRename), List.of());
+
+        dispatcher.dispatchPending();
+
+        ArgumentCaptor<Transaction> update = ArgumentCaptor.forClass(Transaction.class);
+        var inOrder = inOrder(transactionService, transactionOutbox);
+        inOrder.verify(transactionService).updateTransaction(update.capture(), eq(LATEST_REQUEST_ID));
+        inOrder.verify(transactionOutbox).remove(List.of("entry-1", "entry-2", "entry-3"));
+        verify(transactionService, times(1)).updateTransaction(any(), anyString());
+
+        assertEquals(TRANSACTION_ID, update.getValue().getId());
+        assertEquals("Second name", update.getValue().getCompanyName());
+        assertEquals(RESUME_URI, update.getValue().getResumeJourneyUri());
+        // nothing but the queued fields is sent, so a delayed delivery cannot overwrite the rest of the transaction
+        assertNull(update.getValue().getResources());
+        assertNull(update.getValue().getCompanyNumber());
+        assertEquals(3.0, meterRegistry.get(TransactionOutboxDispatcher.DELIVERY_METRIC).tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    void testFailedDeliveryIsRescheduledWithBackoffAndStopsTheTransaction() throws ServiceException {
+        TransactionOutboxDao rename = updateEntry("entry-1", "New name", null, 1);
+        TransactionOutboxDao resume = updateEntry("entry-2", null, RESUME_URI, 0);
+        when(transactionOutbox.findTransactionIdsWithDueEntries(any(), eq(10))).thenReturn(List.of(TRANSACTION_ID));
+        when(transactionOutbox.claimBatch(eq(TRANSACTION_ID), any(), any(), anyInt())).thenReturn(List.of(rename, resume));
+        doThrow(new ServiceException("Transactions API unavailable"))
+                .when(transactionService).updateTransaction(any(), eq(REQUEST_ID));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(transactionOutbox).reschedule(eq(List.of("entry-1", "entry-2")), eq(2), nextAttemptAt.capture(),
+                eq("Transactions API unavailable"));
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(2));
+        verify(transactionOutbox, times(1)).claimBatch(any(), any(), any(), anyInt());
+        verify(transactionOutbox, never()).remove(anyList());
+        verify(transactionOutbox, never()).markFailed(anyList(), anyInt(), anyString());
+    }
+
+    @Test
+    void testEntriesAreMarkedFailedOnceAttemptsAreExhausted() throws ServiceException {
+        TransactionOutboxDao rename = updateEntry("entry-1", "New name", null, MAX_ATTEMPTS - 1);
+        when(transactionOutbox.findTransactionIdsWithDueEntries(any(), eq(10))).thenReturn(List.of(TRANSACTION_ID));
+        when(transactionOutbox.claimBatch(eq(TRANSACTION_ID), any(), any(), anyInt())).thenReturn(List.of(rename));
+        doThrow(new ServiceException("Transactions API unavailable"))
+                .when(transactionService).updateTransaction(any(), eq(REQUEST_ID));
+
+        dispatcher.dispatchPending();
+
+        verify(transactionOutbox).markFailed(List.of("entry-1"), MAX_ATTEMPTS, "Transactions API unavailable");
+        verify(transactionOutbox, never()).reschedule(anyList(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    void testBackoffDoublesUpToTheMaximum() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(2), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(4), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(4));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(40));
+    }
+
+    private static TransactionOutboxDao updateEntry(String id, String companyName, String resumeJourneyUri, int attempts) {
+        TransactionOutboxDao entry = entry(id, TransactionOutboxOperation.UPDATE_TRANSACTION, attempts);
+        entry.setCompanyName(companyName);
+        entry.setResumeJourneyUri(resumeJourneyUri);
+        return entry;
+    }
+
+    private static TransactionOutboxDao entry(String id, TransactionOutboxOperation operation, int attempts) {
+        var entry = new TransactionOutboxDao();
+        entry.setId(id);
+        entry.setTransactionId(TRANSACTION_ID);
+        entry.setOperation(operation);
+        entry.setRequestId(REQUEST_ID);
+        entry.setAttempts(attempts);
+        return entry;
+    }
+}
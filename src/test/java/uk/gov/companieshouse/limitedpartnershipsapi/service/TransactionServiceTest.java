@@ -1,12 +1,15 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -22,6 +25,7 @@ import uk.gov.companieshouse.api.model.transaction.TransactionPayment;
 import uk.gov.companieshouse.api.sdk.ApiClientService;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.LimitedPartnershipBuilder;
 import uk.gov.companieshouse.limitedpartnershipsapi.builder.TransactionBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.client.ApiClientMetrics;
 import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
 import uk.gov.companieshouse.limitedpartnershipsapi.model.partnership.dto.LimitedPartnershipDto;
@@ -39,6 +43,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode.REGISTRATION;
 import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.FILING_KIND_GENERAL_PARTNER;
@@ -92,6 +98,12 @@ class TransactionServiceTest {
     @Mock
     private TransactionsPaymentGet transactionsPaymentGet;
 
+    @Mock
+    private TransactionOutboxService transactionOutboxService;
+
+    @Spy
+    private ApiClientMetrics apiClientMetrics = new ApiClientMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -158,6 +170,60 @@ class TransactionServiceTest {
         }
     }
 
+    @Test
+    void testOnlyTheNameIsQueuedWhenOutboxEnabled() throws ServiceException {
+        ReflectionTestUtils.setField(transactionService, "transactionOutboxEnabled", true);
+
+        transactionService.updateTransactionWithPartnershipName(transaction, LOGGING_CONTEXT, "New name");
+
+        verify(transactionOutboxService).enqueueTransactionUpdate(TRANSACTION_ID, "New name", null, LOGGING_CONTEXT);
+        verifyNoInteractions(apiClientService);
+    }
+
+    @Test
+    void testOnlyTheResumeJourneyUriIsQueuedWhenOutboxEnabled() throws ServiceException {
+        ReflectionTestUtils.setField(transactionService, "transactionOutboxEnabled", true);
+        String resumeUri = String.format(URL_RESUME_REGISTRATION_OR_TRANSITION, TRANSACTION_ID, SUBMISSION_ID);
+
+        transactionService.updateTransactionWithResumeJourneyUri(transaction, resumeUri, LOGGING_CONTEXT);
+
+        verify(transactionOutboxService).enqueueTransactionUpdate(TRANSACTION_ID, null, resumeUri, LOGGING_CONTEXT);
+        verifyNoInteractions(apiClientService);
+    }
+
+    @Test
+    void testResourceLinksAreSentImmediatelyWhenOutboxEnabled() throws ServiceException, IOException, URIValidationException {
+        ReflectionTestUtils.setField(transactionService, "transactionOutboxEnabled", true);
+        when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
+        when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
+        when(privateTransactionResourceHandler.patch(PRIVATE_TRANSACTIONS_URL + TRANSACTION_ID, transaction)).thenReturn(privateTransactionPatch);
+        when(privateTransactionPatch.execute()).thenReturn(apiPatchResponse);
+        when(apiPatchResponse.getStatusCode()).thenReturn(204);
+
+        String submissionUri = String.format(URL_GET_PARTNERSHIP, transaction.getId(), SUBMISSION_ID);
+        transactionService.updateTransactionWithLinksForResource(SUBMISSION_ID, transaction, submissionUri, FILING_KIND_GENERAL_PARTNER, null);
+
+        verify(privateTransactionPatch).execute();
+        verifyNoInteractions(transactionOutboxService);
+    }
+
+    @Test
+    void testDeleteTransactionResourceFailureIsThrownWhenOutboxEnabled() throws IOException, URIValidationException {
+        ReflectionTestUtils.setField(transactionService, "transactionOutboxEnabled", true);
+        when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
+        when(internalApiClient.privateTransaction()).thenReturn(privateTransactionResourceHandler);
+        when(privateTransactionResourceHandler.delete(PRIVATE_TRANSACTIONS_URL + TRANSACTION_ID + "/resources", RESOURCE_ID))
+                .thenReturn(privateTransactionDeleteResource);
+        when(privateTransactionDeleteResource.execute()).thenReturn(apiDeleteResponse);
+        when(apiDeleteResponse.getStatusCode()).thenReturn(503);
+
+        // the caller's rollback restores the deleted submission only if the failure reaches it
+        assertThatThrownBy(() -> transactionService.deleteTransactionResource(TRANSACTION_ID, RESOURCE_ID, LOGGING_CONTEXT))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("Error deleting resource resource1234 from transaction " + TRANSACTION_ID);
+        verifyNoInteractions(transactionOutboxService);
+    }
+
     @Test
     void testDeleteTransactionResourceIsSuccessful() throws IOException, URIValidationException, ServiceException {
         when(apiClientService.getInternalApiClient()).thenReturn(internalApiClient);
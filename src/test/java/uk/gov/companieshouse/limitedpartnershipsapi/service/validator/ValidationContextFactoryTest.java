@@ -0,0 +1,48 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.gov.companieshouse.limitedpartnershipsapi.builder.GeneralPartnerBuilder;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDataDto;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dto.GeneralPartnerDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationContextFactoryTest {
+
+    private final ValidationContextFactory validationContextFactory = new ValidationContextFactory();
+
+    @Test
+    void shouldNotThrowWhenNoErrorsHaveBeenAdded() {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(new GeneralPartnerBuilder().personDto(), GeneralPartnerDataDto.class);
+
+        assertDoesNotThrow(() -> validationContextFactory.throwIfErrors(bindingResult, GeneralPartnerDataDto.class));
+    }
+
+    @Test
+    void shouldThrowWithTheCollectedFieldErrors() {
+        GeneralPartnerDto generalPartnerDto = new GeneralPartnerBuilder().personDto();
+        BindingResult bindingResult = validationContextFactory.createBindingResult(generalPartnerDto, GeneralPartnerDataDto.class);
+        bindingResult.addError(new FieldError(GeneralPartnerDataDto.class.getName(), "data.forename", "Forename is required"));
+
+        MethodArgumentNotValidException exception = assertThrows(MethodArgumentNotValidException.class,
+                () -> validationContextFactory.throwIfErrors(bindingResult, GeneralPartnerDataDto.class));
+
+        assertThat(exception.getBindingResult().getObjectName()).isEqualTo(GeneralPartnerDataDto.class.getName());
+        assertThat(exception.getBindingResult().getTarget()).isSameAs(generalPartnerDto);
+        assertThat(exception.getBindingResult().getFieldError("data.forename").getDefaultMessage()).isEqualTo("Forename is required");
+        assertThat(exception.getParameter().getDeclaringClass()).isEqualTo(GeneralPartnerDataDto.class);
+    }
+
+    @Test
+    void shouldRejectAnUnknownDataDtoClass() {
+        BindingResult bindingResult = validationContextFactory.createBindingResult(new Object(), Object.class);
+        bindingResult.addError(new FieldError(Object.class.getName(), "field", "message"));
+
+        assertThrows(IllegalArgumentException.class, () -> validationContextFactory.throwIfErrors(bindingResult, Object.class));
+    }
+}
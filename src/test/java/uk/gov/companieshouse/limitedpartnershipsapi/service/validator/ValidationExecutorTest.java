@@ -0,0 +1,185 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.generalpartner.dao.GeneralPartnerDao;
+import uk.gov.companieshouse.limitedpartnershipsapi.utils.CurrentRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationExecutorTest {
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executorService.close();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldReturnErrorsInSubmissionOrderWhenLaterSubmissionsFinishFirst() throws ServiceException {
+        ValidationExecutor validationExecutor = new ValidationExecutor(true, 10, executorService, meterRegistry);
+        List<GeneralPartnerDao> submissions = submissions(3);
+        var lastSubmissionValidated = new CountDownLatch(1);
+
+        List<ValidationStatusError> errors = validationExecutor.validateAll(submissions, submission -> {
+            if (submission == submissions.getLast()) {
+                lastSubmissionValidated.countDown();
+            } else {
+                await(lastSubmissionValidated);
+            }
+            return List.of(error(submission));
+        });
+
+        assertThat(errors).extracting(ValidationStatusError::getLocation).containsExactly("id-0", "id-1", "id-2");
+        assertEquals(3, meterRegistry.get(ValidationExecutor.SUBMISSION_VALIDATION_METRIC)
+                .tags("submission", GeneralPartnerDao.class.getSimpleName(), "mode", "parallel", "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void shouldNotValidateMoreSubmissionsAtOnceThanTheCap() throws ServiceException {
+        ValidationExecutor validationExecutor = new ValidationExecutor(true, 2, executorService, meterRegistry);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        validationExecutor.validateAll(submissions(8), submission -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep();
+            inFlight.decrementAndGet();
+            return List.of();
+        });
+
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void shouldThrowTheFirstFailureOnceTheValidationsInProgressHaveStopped() {
+        ValidationExecutor validationExecutor = new ValidationExecutor(true, 10, executorService, meterRegistry);
+        List<GeneralPartnerDao> submissions = submissions(3);
+        var firstSubmissionStarted = new CountDownLatch(1);
+        var firstSubmissionInterrupted = new AtomicBoolean();
+        var firstSubmissionFinished = new AtomicBoolean();
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> validationExecutor.validateAll(submissions, submission -> {
+            if (submission == submissions.getFirst()) {
+                firstSubmissionStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    firstSubmissionInterrupted.set(true);
+                } finally {
+                    firstSubmissionFinished.set(true);
+                }
+                return List.of();
+            }
+            if (submission == submissions.getLast()) {
+                await(firstSubmissionStarted);
+                throw new ServiceException("Failed to validate " + submission.getId());
+            }
+            return List.of();
+        }));
+
+        assertEquals("Failed to validate id-2", exception.getMessage());
+        assertThat(firstSubmissionInterrupted).isTrue();
+        assertThat(firstSubmissionFinished).isTrue();
+    }
+
+    @Test
+    void shouldNotStartValidatingAfterAFailure() {
+        ValidationExecutor validationExecutor = new ValidationExecutor(true, 1, executorService, meterRegistry);
+        var validated = new AtomicInteger();
+
+        assertThrows(ServiceException.class, () -> validationExecutor.validateAll(submissions(5), submission -> {
+            validated.incrementAndGet();
+            throw new ServiceException("Failed to validate " + submission.getId());
+        }));
+
+        assertEquals(1, validated.get());
+    }
+
+    @Test
+    void shouldShareTheRequestWithTheWorkers() throws ServiceException {
+        ValidationExecutor validationExecutor = new ValidationExecutor(true, 10, executorService, meterRegistry);
+        var request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Id", "request-123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<String> requestIds = new ArrayList<>();
+        validationExecutor.validateAll(submissions(2), submission -> {
+            synchronized (requestIds) {
+                requestIds.add(CurrentRequest.header("X-Request-Id"));
+            }
+            return List.of();
+        });
+
+        assertThat(requestIds).containsExactly("request-123", "request-123");
+    }
+
+    @Test
+    void shouldValidateOnTheCallingThreadWhenParallelValidationIsDisabled() throws ServiceException {
+        ValidationExecutor validationExecutor = new ValidationExecutor(false, 10, executorService, meterRegistry);
+        Thread callingThread = Thread.currentThread();
+
+        List<ValidationStatusError> errors = validationExecutor.validateAll(submissions(2), submission -> {
+            assertEquals(callingThread, Thread.currentThread());
+            return List.of(error(submission));
+        });
+
+        assertThat(errors).extracting(ValidationStatusError::getLocation).containsExactly("id-0", "id-1");
+        assertEquals(2, meterRegistry.get(ValidationExecutor.SUBMISSION_VALIDATION_METRIC)
+                .tags("mode", "sequential")
+                .timer().count());
+    }
+
+    private static List<GeneralPartnerDao> submissions(int count) {
+        List<GeneralPartnerDao> submissions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            var submission = new GeneralPartnerDao();
+            submission.setId("id-" + i);
+            submissions.add(submission);
+        }
+        return submissions;
+    }
+
+    private static ValidationStatusError error(GeneralPartnerDao submission) {
+        return new ValidationStatusError("Invalid", submission.getId(), null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.service.validator;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.api.model.transaction.Transaction;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.ServiceException;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.FilingMode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.gov.companieshouse.limitedpartnershipsapi.utils.Constants.VALIDATION_CACHE_BYPASS_HEADER;
+
+class ValidationResultCacheTest {
+
+    private static final String SUBMISSION_ID = "abc-123";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger validations = new AtomicInteger();
+    private final Transaction transaction = new Transaction();
+
+    private final ValidationResultCache.Validation<RuntimeException> validation = () -> {
+        validations.incrementAndGet();
+        return List.of(new ValidationStatusError("Forename is required", "data.forename", null, null));
+    };
+
+    ValidationResultCacheTest() {
+        transaction.setId("863851-951242-143528");
+        transaction.setFilingMode(FilingMode.REGISTRATION.getDescription());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldOnlyValidateAgainWhenTheEtagChanges() throws ServiceException {
+        ValidationResultCache validationResultCache = validationResultCache(true);
+
+        List<ValidationStatusError> errors = validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+        List<ValidationStatusError> cachedErrors = validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+
+        assertEquals(1, validations.get());
+        assertEquals(errors, cachedErrors);
+
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-2", transaction, validation);
+
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void shouldValidateAgainForADifferentFilingMode() throws ServiceException {
+        ValidationResultCache validationResultCache = validationResultCache(true);
+
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+        transaction.setFilingMode(FilingMode.TRANSITION.getDescription());
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void shouldAlwaysValidateSubmissionsWithoutAnEtag() throws ServiceException {
+        ValidationResultCache validationResultCache = validationResultCache(true);
+
+        validationResultCache.getOrValidate(SUBMISSION_ID, null, transaction, validation);
+        validationResultCache.getOrValidate(SUBMISSION_ID, null, transaction, validation);
+
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void shouldAlwaysValidateWhenDisabled() throws ServiceException {
+        ValidationResultCache validationResultCache = validationResultCache(false);
+
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+
+        assertEquals(2, validations.get());
+    }
+
+    @Test
+    void shouldValidateAgainAndRefreshTheCacheWhenTheBypassHeaderIsSent() throws ServiceException {
+        ValidationResultCache validationResultCache = validationResultCache(true);
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+
+        var request = new MockHttpServletRequest();
+        request.addHeader(VALIDATION_CACHE_BYPASS_HEADER, "true");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+        RequestContextHolder.resetRequestAttributes();
+        validationResultCache.getOrValidate(SUBMISSION_ID, "etag-1", transaction, validation);
+
+        assertEquals(2, validations.get());
+        assertEquals(1, meterRegistry.get(ValidationResultCache.BYPASSED_METRIC).counter().count());
+    }
+
+    private ValidationResultCache validationResultCache(boolean enabled) {
+        return new ValidationResultCache(enabled, Caffeine.newBuilder().build(), meterRegistry);
+    }
+}
@@ -1,12 +1,19 @@
 package uk.gov.companieshouse.limitedpartnershipsapi.utils;
 
+import ch.qos.logback.classic.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import uk.gov.companieshouse.limitedpartnershipsapi.LimitedPartnershipsApiApplication;
+import uk.gov.companieshouse.limitedpartnershipsapi.config.LoggingConfig;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class ApiLoggerTest {
 
@@ -54,4 +61,68 @@ class ApiLoggerTest {
         assertEquals(1, logMap.size());
         assertEquals(LOG_MAP_VALUE, logMap.get(LOG_MAP_KEY));
     }
+
+    @Test
+    void testLazyDebugContextDoesNotBuildTheMessageWhenDebugIsDisabled() {
+        var logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LimitedPartnershipsApiApplication.APP_NAMESPACE);
+        Level previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        try {
+            AtomicInteger evaluations = new AtomicInteger();
+
+            ApiLogger.debugContext(CONTEXT, () -> TEST_MESSAGE + evaluations.incrementAndGet(), () -> {
+                evaluations.incrementAndGet();
+                return logMap;
+            });
+
+            assertFalse(ApiLogger.isDebugEnabled());
+            assertEquals(0, evaluations.get());
+        } finally {
+            logger.setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    void testRateLimitedInfoLoggingDoesNotModifyLogMap() {
+        ApiLogger.infoRateLimited("api-logger-test", TEST_MESSAGE, () -> logMap);
+
+        assertEquals(1, logMap.size());
+        assertEquals(LOG_MAP_VALUE, logMap.get(LOG_MAP_KEY));
+    }
+
+    @Test
+    void testRateLimitFromLoggingConfigIsAppliedToRateLimitedInfoLogging() {
+        new LoggingConfig(1);
+        try {
+            AtomicInteger logged = new AtomicInteger();
+
+            ApiLogger.infoRateLimited("api-logger-config-test", TEST_MESSAGE, () -> {
+                logged.incrementAndGet();
+                return logMap;
+            });
+            ApiLogger.infoRateLimited("api-logger-config-test", TEST_MESSAGE, () -> {
+                logged.incrementAndGet();
+                return logMap;
+            });
+
+            assertEquals(1, logged.get());
+        } finally {
+            ApiLogger.setInfoRateLimitPerSecond(ApiLogger.DEFAULT_INFO_RATE_LIMIT_PER_SECOND);
+        }
+    }
+
+    @Test
+    void testCategoryRateLimitDropsMessagesOverTheLimitAndReportsThemWithTheNextOneLogged() {
+        var rateLimit = new ApiLogger.CategoryRateLimit(2);
+        long start = 5_000_000_000L;
+
+        assertEquals(0, rateLimit.tryAcquire(start));
+        assertEquals(0, rateLimit.tryAcquire(start + 1));
+        assertEquals(-1, rateLimit.tryAcquire(start + 2));
+        assertEquals(-1, rateLimit.tryAcquire(start + 3));
+
+        long nextWindow = start + TimeUnit.SECONDS.toNanos(1);
+        assertEquals(2, rateLimit.tryAcquire(nextWindow));
+        assertEquals(0, rateLimit.tryAcquire(nextWindow + 1));
+    }
 }
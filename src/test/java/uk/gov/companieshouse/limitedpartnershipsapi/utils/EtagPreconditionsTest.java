@@ -0,0 +1,121 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.companieshouse.limitedpartnershipsapi.exception.PreconditionFailedException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EtagPreconditionsTest {
+
+    private static final String SUBMISSION_ID = "abc-123";
+    private static final String ETAG = "etag-123";
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"etag-123\"", "W/\"etag-123\"", "etag-123", "\"other\", \"etag-123\"", "*"})
+    void shouldMatch(String header) {
+        assertTrue(EtagPreconditions.matches(header, ETAG));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"other\"", "\"etag-1234\"", "\"other\", W/\"another\""})
+    void shouldNotMatch(String header) {
+        assertFalse(EtagPreconditions.matches(header, ETAG));
+    }
+
+    @Test
+    void shouldPassWhenThereIsNoIfMatchHeader() {
+        assertDoesNotThrow(() -> EtagPreconditions.checkIfMatch(SUBMISSION_ID, null, ETAG));
+    }
+
+    @Test
+    void shouldPassWhenTheIfMatchHeaderMatches() {
+        assertDoesNotThrow(() -> EtagPreconditions.checkIfMatch(SUBMISSION_ID, "\"etag-123\"", ETAG));
+    }
+
+    @Test
+    void shouldFailWhenTheIfMatchHeaderDoesNotMatch() {
+        assertThrows(PreconditionFailedException.class,
+                () -> EtagPreconditions.checkIfMatch(SUBMISSION_ID, "\"other\"", ETAG));
+    }
+
+    @Test
+    void shouldFailWhenTheSubmissionHasNoEtag() {
+        assertThrows(PreconditionFailedException.class,
+                () -> EtagPreconditions.checkIfMatch(SUBMISSION_ID, "\"etag-123\"", null));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingTheBodyWhenTheIfNoneMatchHeaderMatches() {
+        setCurrentRequest(HttpHeaders.IF_NONE_MATCH, "\"etag-123\"");
+
+        ResponseEntity<String> response = EtagPreconditions.okOrNotModified(ETAG, () -> {
+            throw new AssertionError("The body should not be loaded");
+        });
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"etag-123\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void shouldReturnTheBodyAndEtagWhenTheIfNoneMatchHeaderDoesNotMatch() {
+        setCurrentRequest(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+
+        ResponseEntity<String> response = EtagPreconditions.okOrNotModified(ETAG, () -> "body");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"etag-123\"", response.getHeaders().getETag());
+        assertEquals("body", response.getBody());
+    }
+
+    @Test
+    void shouldReturnTheBodyWithoutAnEtagWhenTheResourceHasNone() {
+        setCurrentRequest(HttpHeaders.IF_NONE_MATCH, "*");
+
+        ResponseEntity<String> response = EtagPreconditions.okOrNotModified(null, () -> "body");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        assertEquals("body", response.getBody());
+    }
+
+    @Test
+    void shouldCombineEtagsDependingOnEveryItemAndItsPosition() {
+        String combined = EtagPreconditions.combineEtags(List.of("1", "a:etag-a", "b:etag-b"));
+
+        assertEquals(combined, EtagPreconditions.combineEtags(List.of("1", "a:etag-a", "b:etag-b")));
+        assertNotEquals(combined, EtagPreconditions.combineEtags(List.of("1", "b:etag-b", "a:etag-a")));
+        assertNotEquals(combined, EtagPreconditions.combineEtags(List.of("1", "a:etag-a", "b:etag-c")));
+        assertNotEquals(combined, EtagPreconditions.combineEtags(List.of("1", "a:etag-a")));
+    }
+
+    private static void setCurrentRequest(String headerName, String headerValue) {
+        var request = new MockHttpServletRequest();
+        if (headerValue != null) {
+            request.addHeader(headerName, headerValue);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
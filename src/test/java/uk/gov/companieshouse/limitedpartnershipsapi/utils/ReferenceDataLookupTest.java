@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.limitedpartnershipsapi.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Country;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.common.Nationality;
+import uk.gov.companieshouse.limitedpartnershipsapi.model.limitedpartner.Currency;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceDataLookupTest {
+
+    @Test
+    void everyNationalityIsFoundByItsDescriptionInAnyCase() {
+        for (Nationality nationality : Nationality.values()) {
+            assertEquals(firstNationalityMatching(nationality.getDescription()), ReferenceDataLookup.nationalityFromDescription(nationality.getDescription()));
+            assertEquals(firstNationalityMatching(nationality.getDescription()), ReferenceDataLookup.nationalityFromDescription(nationality.getDescription().toUpperCase(Locale.ROOT)));
+        }
+    }
+
+    @Test
+    void everyCountryIsFoundByItsDescriptionInAnyCase() {
+        for (Country country : Country.values()) {
+            assertEquals(firstCountryMatching(country.getDescription()), ReferenceDataLookup.countryFromDescription(country.getDescription().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    @Test
+    void unknownOrMissingDescriptionsAreUnknown() {
+        assertEquals(Nationality.UNKNOWN, ReferenceDataLookup.nationalityFromDescription("Martian"));
+        assertEquals(Nationality.UNKNOWN, ReferenceDataLookup.nationalityFromDescription(null));
+        assertEquals(Country.UNKNOWN, ReferenceDataLookup.countryFromDescription("Atlantis"));
+        assertEquals(Country.UNKNOWN, ReferenceDataLookup.countryFromDescription(null));
+    }
+
+    @Test
+    void currencyCodesAreMatchedExactly() {
+        assertEquals(Currency.PLN, ReferenceDataLookup.currencyFromCode("PLN"));
+        assertEquals(Currency.UNKNOWN, ReferenceDataLookup.currencyFromCode("pln"));
+        assertEquals(Currency.UNKNOWN, ReferenceDataLookup.currencyFromCode(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ST6 3LJ", "st63lj", "EC1A 1BB", "M1 1AE", "B33 8TH", "CR2 6XH"})
+    void validPostcodeFormats(String postcode) {
+        assertTrue(ReferenceDataLookup.isUkPostcodeFormat(postcode));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "ST6", "123 456", "ST6 3L", "ST6  3LJ", "ST6 3LJX"})
+    void invalidPostcodeFormats(String postcode) {
+        assertFalse(ReferenceDataLookup.isUkPostcodeFormat(postcode));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"JE2 3AB", "gy1 1aa", "Im1 1AA"})
+    void notMainlandPostcodes(String postcode) {
+        assertTrue(ReferenceDataLookup.isNotMainlandPostcode(postcode));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ST6 3LJ", "J1 1AA", "E1 6AN"})
+    void mainlandPostcodes(String postcode) {
+        assertFalse(ReferenceDataLookup.isNotMainlandPostcode(postcode));
+    }
+
+    private static Nationality firstNationalityMatching(String description) {
+        return Arrays.stream(Nationality.values())
+                .filter(nationality -> nationality.getDescription().equalsIgnoreCase(description))
+                .findFirst()
+                .orElse(Nationality.UNKNOWN);
+    }
+
+    private static Country firstCountryMatching(String description) {
+        return Arrays.stream(Country.values())
+                .filter(country -> country.getDescription().equalsIgnoreCase(description))
+                .findFirst()
+                .orElse(Country.UNKNOWN);
+    }
+}